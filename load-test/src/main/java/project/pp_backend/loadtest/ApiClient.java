@@ -0,0 +1,90 @@
+package project.pp_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 준비용 REST 클라이언트 (회원 가입 / 로그인 / 채팅방 생성)
+ */
+public class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    /**
+     * 1. 회원 가입 (POST /api/members/register)
+     * @return : 새로 가입했으면 true, 이미 있는 회원이면 false
+     */
+    public boolean register(String username, String password) throws IOException, InterruptedException {
+        Map<String, Object> body = Map.of(
+                "username", username,
+                "password", password,
+                "nickname", "n" + username,
+                "role", "USER"
+        );
+        HttpResponse<String> response = post("/api/members/register", body, null);
+        if (response.statusCode() / 100 == 2) {
+            return true;
+        }
+        if (response.statusCode() == 409 || response.statusCode() == 400) {
+            return false; //이전 실행에서 가입한 회원 (아이디/닉네임 중복)
+        }
+        throw new IOException("register failed: " + username + " -> " + response.statusCode() + " " + response.body());
+    }
+
+    /**
+     * 2. 로그인 (POST /api/auth/login)
+     * @return : Access Token
+     */
+    public String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/api/auth/login", Map.of("username", username, "password", password), null);
+        if (response.statusCode() != 200) {
+            throw new IOException("login failed: " + username + " -> " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    /**
+     * 3. 채팅방 생성 (POST /api/rooms) - 방 생성자 + 참가 회원 목록
+     * @return : 생성된 채팅방 ID
+     */
+    public long createRoom(String accessToken, String name, List<String> memberUsernames) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/api/rooms", Map.of("name", name, "memberUsernames", memberUsernames), accessToken);
+        if (response.statusCode() != 201) {
+            throw new IOException("create room failed: " + name + " -> " + response.statusCode() + " " + response.body());
+        }
+        JsonNode room = objectMapper.readTree(response.body());
+        return room.path("id").asLong();
+    }
+
+    private HttpResponse<String> post(String path, Object body, String accessToken) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,100 @@
+package project.pp_backend.loadtest;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (명령행 인자 "--key=value")
+ * - users / rooms : 접속할 회원 수, 회원을 나누어 담을 채팅방 수
+ * - rate : 전체 세션이 초당 보내는 메시지 수 (/pub/chat/message)
+ * - warmup-seconds 동안의 측정값은 결과에서 제외
+ */
+@Getter
+public class LoadTestConfig {
+
+    private final String baseUrl;
+    private final boolean embeddedTarget;
+    private final int serverPort;
+    private final int redisPort;
+
+    private final String userPrefix;
+    private final String password;
+    private final int users;
+    private final int rooms;
+
+    private final int connectConcurrency;
+    private final int senderThreads;
+    private final int rate;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int reportIntervalSeconds;
+
+    private LoadTestConfig(Map<String, String> options) {
+        this.serverPort = intOption(options, "server-port", 8080);
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:" + serverPort);
+        this.embeddedTarget = Boolean.parseBoolean(options.getOrDefault("embedded-target", "false"));
+        this.redisPort = intOption(options, "redis-port", 6390);
+
+        this.userPrefix = options.getOrDefault("user-prefix", "lt");
+        this.password = options.getOrDefault("password", "loadtest1234");
+        this.users = intOption(options, "users", 1_000);
+        this.rooms = intOption(options, "rooms", 50);
+
+        this.connectConcurrency = intOption(options, "connect-concurrency", 100);
+        this.senderThreads = intOption(options, "sender-threads", 4);
+        this.rate = intOption(options, "rate", 1_000);
+        this.warmupSeconds = intOption(options, "warmup-seconds", 10);
+        this.durationSeconds = intOption(options, "duration-seconds", 60);
+        this.reportIntervalSeconds = intOption(options, "report-interval-seconds", 5);
+
+        if (users < 1 || rooms < 1 || rooms > users) {
+            throw new IllegalArgumentException("users >= rooms >= 1 이어야 합니다. (users=" + users + ", rooms=" + rooms + ")");
+        }
+        if (rate < 1 || senderThreads < 1 || connectConcurrency < 1) {
+            throw new IllegalArgumentException("rate, sender-threads, connect-concurrency 는 1 이상이어야 합니다.");
+        }
+        if (String.format("%s%05d", userPrefix, users).length() > 12) {
+            throw new IllegalArgumentException("회원 아이디는 12자 이하입니다. user-prefix 를 줄여주세요.");
+        }
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(options);
+    }
+
+    //회원 아이디 (6~12자, 영문/숫자) - lt00001, lt00002 ...
+    public String username(int index) {
+        return String.format("%s%05d", userPrefix, index + 1);
+    }
+
+    //회원이 참가할 채팅방 순번 (회원을 채팅방 수만큼 균등하게 나눔)
+    public int roomIndexOf(int userIndex) {
+        return userIndex % rooms;
+    }
+
+    public String webSocketUrl() {
+        return baseUrl + "/ws-stomp";
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "target=%s (embedded=%s), users=%,d, rooms=%,d, rate=%,d msg/s, warmup=%ds, duration=%ds, senderThreads=%d",
+                baseUrl, embeddedTarget, users, rooms, rate, warmupSeconds, durationSeconds, senderThreads);
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
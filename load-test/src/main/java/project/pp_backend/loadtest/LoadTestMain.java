@@ -0,0 +1,28 @@
+package project.pp_backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트 실행
+ * - --embedded-target=true : 같은 JVM 에서 테스트 대상 서버(H2 + 내장 Redis)를 실행한 뒤 측정
+ * - 그 외 : --base-url 로 지정한 서버(기본값 http://localhost:8080, runTarget 태스크)에 연결
+ * 오류가 1건 이상이면 종료 코드 1
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        LocalTargetApplication target = config.isEmbeddedTarget() ? LocalTargetApplication.start(config) : null;
+        LoadTestMetrics metrics;
+        try {
+            metrics = new LoadTestRunner(config).run();
+        } finally {
+            if (target != null) {
+                target.stop();
+            }
+        }
+        System.exit(metrics.errorCount() == 0 ? 0 : 1);
+    }
+}
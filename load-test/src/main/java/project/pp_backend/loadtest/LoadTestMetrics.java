@@ -0,0 +1,131 @@
+package project.pp_backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값
+ * - 지연 시간: 발행 예정 시각 -> 구독 세션 수신 시각 (팬아웃 포함, 마이크로초 단위 HdrHistogram)
+ * - 발행 예정 시각 기준으로 기록 -> 부하 발생기가 밀려도 지연이 누락되지 않음 (coordinated omission 보정)
+ * - 처리량 / 오류 건수는 LongAdder 로 집계
+ */
+@Slf4j
+public class LoadTestMetrics {
+
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private Histogram interval;
+
+    //측정 시작 시각 (워밍업 동안 발행한 메시지는 지연 시간에서 제외)
+    private volatile long measureStartNanos = Long.MAX_VALUE;
+
+    final LongAdder sent = new LongAdder();
+    final LongAdder received = new LongAdder();
+    final LongAdder expectedDeliveries = new LongAdder();
+    final LongAdder httpErrors = new LongAdder();
+    final LongAdder connectErrors = new LongAdder();
+    final LongAdder sendErrors = new LongAdder();
+    final LongAdder stompErrors = new LongAdder();
+    final LongAdder transportErrors = new LongAdder();
+
+    private long lastSent;
+    private long lastReceived;
+    private long lastReportNanos = System.nanoTime();
+
+    /**
+     * 워밍업 종료 - 이후 발행한 메시지부터 측정
+     */
+    public synchronized void startMeasurement() {
+        recorder.reset();
+        total.reset();
+        sent.reset();
+        received.reset();
+        expectedDeliveries.reset();
+        lastSent = 0;
+        lastReceived = 0;
+        lastReportNanos = System.nanoTime();
+        measureStartNanos = lastReportNanos;
+    }
+
+    public void recordSent(int subscribers) {
+        sent.increment();
+        expectedDeliveries.add(subscribers);
+    }
+
+    /**
+     * 메시지 수신 기록
+     * @param publishedAtNanos : 발행 예정 시각 (메시지 본문에 포함)
+     */
+    public void recordReceived(long publishedAtNanos) {
+        if (publishedAtNanos < measureStartNanos) {
+            return;
+        }
+        received.increment();
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - publishedAtNanos);
+        recorder.recordValue(Math.max(0, latencyMicros));
+    }
+
+    /**
+     * 구간 통계 출력 (report-interval-seconds 마다)
+     */
+    public synchronized void reportInterval() {
+        long now = System.nanoTime();
+        double seconds = (now - lastReportNanos) / 1_000_000_000.0;
+        long sentNow = sent.sum();
+        long receivedNow = received.sum();
+
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+
+        log.info("[load-test] send {}/s, deliver {}/s | p50 {} ms, p99 {} ms, max {} ms | errors {}",
+                Math.round((sentNow - lastSent) / seconds),
+                Math.round((receivedNow - lastReceived) / seconds),
+                millis(interval.getValueAtPercentile(50)),
+                millis(interval.getValueAtPercentile(99)),
+                millis(interval.getMaxValue()),
+                errorCount());
+
+        lastSent = sentNow;
+        lastReceived = receivedNow;
+        lastReportNanos = now;
+    }
+
+    /**
+     * 최종 결과 출력 (측정 구간 전체)
+     */
+    public synchronized void reportSummary(int connectedSessions) {
+        reportInterval();
+        double seconds = (lastReportNanos - measureStartNanos) / 1_000_000_000.0;
+        long expected = expectedDeliveries.sum();
+
+        StringBuilder summary = new StringBuilder()
+                .append("\n========== load-test summary ==========\n")
+                .append(String.format("sessions          : %,d%n", connectedSessions))
+                .append(String.format("measured          : %.1f s%n", seconds))
+                .append(String.format("published         : %,d (%,.0f msg/s)%n", sent.sum(), sent.sum() / seconds))
+                .append(String.format("delivered         : %,d (%,.0f msg/s)%n", received.sum(), received.sum() / seconds))
+                .append(String.format("delivery ratio    : %.4f%n", expected == 0 ? 0.0 : (double) received.sum() / expected))
+                .append("fan-out latency (ms)\n");
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            summary.append(String.format("  p%-6s         : %s%n", percentile, millis(total.getValueAtPercentile(percentile))));
+        }
+        summary.append(String.format("  max             : %s%n", millis(total.getMaxValue())))
+                .append(String.format("  mean            : %.3f%n", total.getMean() / 1_000.0))
+                .append(String.format("errors            : http=%,d connect=%,d send=%,d stomp=%,d transport=%,d%n",
+                        httpErrors.sum(), connectErrors.sum(), sendErrors.sum(), stompErrors.sum(), transportErrors.sum()))
+                .append("=======================================");
+        log.info(summary.toString());
+    }
+
+    public long errorCount() {
+        return httpErrors.sum() + connectErrors.sum() + sendErrors.sum() + stompErrors.sum() + transportErrors.sum();
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.3f", micros / 1_000.0);
+    }
+}
@@ -0,0 +1,327 @@
+package project.pp_backend.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * STOMP 부하 발생기
+ * 1. 회원 가입 + 로그인 (/api/auth/login) -> Access Token
+ * 2. 채팅방 생성 (회원을 채팅방 수만큼 균등하게 나누어 참가)
+ * 3. 회원마다 STOMP 세션 연결 + /sub/chat/room/{roomId} 구독
+ * 4. 설정한 비율(rate)로 /pub/chat/message 발행 -> 구독 세션 수신 시각까지의 지연 시간 측정
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String PUBLISH_DESTINATION = "/pub/chat/message";
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    //부하 테스트 메시지 본문: "lt|{발행 예정 시각(nanoTime)}|{순번}"
+    private static final String CONTENT_PREFIX = "lt|";
+
+    private final LoadTestConfig config;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ConcurrentLinkedQueue<ChatSession> sessions = new ConcurrentLinkedQueue<>();
+    private AtomicIntegerArray subscribersPerRoom;
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public LoadTestMetrics run() throws Exception {
+        log.info("[load-test] {}", config);
+        ApiClient apiClient = new ApiClient(config.getBaseUrl(), objectMapper);
+
+        //1. 회원 가입 + 로그인
+        String[] accessTokens = login(apiClient);
+
+        //2. 채팅방 생성
+        long[] roomIds = createRooms(apiClient, accessTokens);
+        subscribersPerRoom = new AtomicIntegerArray(roomIds.length);
+
+        //3. STOMP 세션 연결 + 구독
+        WebSocketStompClient stompClient = createStompClient();
+        connect(stompClient, accessTokens, roomIds);
+        log.info("[load-test] {} / {} sessions connected", sessions.size(), config.getUsers());
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("연결된 STOMP 세션이 없습니다.");
+        }
+
+        //4. 발행 + 측정
+        try {
+            publish();
+        } finally {
+            for (ChatSession session : sessions) {
+                session.disconnect();
+            }
+            stompClient.stop();
+        }
+        return metrics;
+    }
+
+
+    //*********** 1. 준비 (REST) **************
+
+    private String[] login(ApiClient apiClient) throws InterruptedException {
+        String[] accessTokens = new String[config.getUsers()];
+        runParallel(config.getUsers(), index -> {
+            String username = config.username(index);
+            apiClient.register(username, config.getPassword());
+            accessTokens[index] = apiClient.login(username, config.getPassword());
+        });
+        log.info("[load-test] {} members logged in", config.getUsers());
+        return accessTokens;
+    }
+
+    private long[] createRooms(ApiClient apiClient, String[] accessTokens) throws InterruptedException {
+        long[] roomIds = new long[config.getRooms()];
+        runParallel(config.getRooms(), roomIndex -> {
+            //채팅방 순번 = 방 생성자 회원 순번 (roomIndexOf(roomIndex) == roomIndex)
+            List<String> members = new ArrayList<>();
+            for (int userIndex = roomIndex; userIndex < config.getUsers(); userIndex += config.getRooms()) {
+                members.add(config.username(userIndex));
+            }
+            roomIds[roomIndex] = apiClient.createRoom(accessTokens[roomIndex], "load-test-" + roomIndex, members);
+        });
+        log.info("[load-test] {} rooms created", config.getRooms());
+        return roomIds;
+    }
+
+    //준비 작업 병렬 실행 (실패는 HTTP 오류로 집계)
+    private void runParallel(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, config.getConnectConcurrency()));
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    task.run(index);
+                } catch (Exception e) {
+                    metrics.httpErrors.increment();
+                    log.warn("[load-test] setup request failed (index {}): {}", index, e.getMessage());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+
+    //*********** 2. STOMP 연결 **************
+
+    private WebSocketStompClient createStompClient() {
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        return stompClient;
+    }
+
+    private void connect(WebSocketStompClient stompClient, String[] accessTokens, long[] roomIds) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(config.getConnectConcurrency());
+        CountDownLatch done = new CountDownLatch(config.getUsers());
+
+        for (int userIndex = 0; userIndex < config.getUsers(); userIndex++) {
+            if (accessTokens[userIndex] == null) {
+                done.countDown(); //로그인 실패 회원
+                continue;
+            }
+            inFlight.acquire();
+
+            int roomIndex = config.roomIndexOf(userIndex);
+            ChatSession chatSession = new ChatSession(roomIndex, roomIds[roomIndex]);
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + accessTokens[userIndex]);
+
+            stompClient.connectAsync(config.webSocketUrl(), new WebSocketHttpHeaders(), connectHeaders, chatSession)
+                    .whenComplete((session, error) -> {
+                        if (error != null) {
+                            metrics.connectErrors.increment();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+
+        done.await(10, TimeUnit.MINUTES);
+        //마지막 SUBSCRIBE 처리 대기
+        Thread.sleep(1_000);
+    }
+
+
+    //*********** 3. 발행 + 측정 **************
+
+    private void publish() throws InterruptedException {
+        List<ChatSession> connected = new ArrayList<>(sessions);
+        int threads = Math.min(config.getSenderThreads(), connected.size());
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) * threads / config.getRate();
+
+        long startNanos = System.nanoTime();
+        long measureAtNanos = startNanos + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long endNanos = measureAtNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.schedule(metrics::startMeasurement, measureAtNanos - startNanos, TimeUnit.NANOSECONDS);
+        reporter.scheduleAtFixedRate(metrics::reportInterval,
+                config.getReportIntervalSeconds(), config.getReportIntervalSeconds(), TimeUnit.SECONDS);
+
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            //발행 스레드마다 세션을 나누어 담당
+            List<ChatSession> owned = new ArrayList<>();
+            for (int i = t; i < connected.size(); i += threads) {
+                owned.add(connected.get(i));
+            }
+            long offsetNanos = periodNanos * t / threads;
+            Thread sender = new Thread(() -> sendLoop(owned, startNanos + offsetNanos, periodNanos, endNanos), "lt-sender-" + t);
+            sender.start();
+            senders.add(sender);
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        //전송 중인 메시지 수신 대기
+        Thread.sleep(2_000);
+        reporter.shutdownNow();
+        metrics.reportSummary(connected.size());
+    }
+
+    /**
+     * 일정 간격 발행 - 발행 예정 시각(intended)을 본문에 담아 지연 시간의 기준으로 사용
+     */
+    private void sendLoop(List<ChatSession> owned, long firstNanos, long periodNanos, long endNanos) {
+        long sequence = 0;
+        while (true) {
+            long intended = firstNanos + sequence * periodNanos;
+            if (intended >= endNanos) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            ChatSession session = owned.get((int) (sequence % owned.size()));
+            session.send(new ChatPayload(session.roomId, CONTENT_PREFIX + intended + "|" + sequence, "CHAT"));
+            sequence++;
+        }
+    }
+
+
+    //*********** STOMP 세션 **************
+
+    /**
+     * 채팅 메시지 (발행 요청 / 구독 수신 공용 - 필요한 필드만 사용)
+     */
+    public record ChatPayload(Long roomId, String content, String type) {
+    }
+
+    /**
+     * 회원 1명의 STOMP 세션 - 연결 후 자신의 채팅방 구독
+     */
+    private class ChatSession extends StompSessionHandlerAdapter {
+
+        private final int roomIndex;
+        private final long roomId;
+        private volatile StompSession session;
+
+        private ChatSession(int roomIndex, long roomId) {
+            this.roomIndex = roomIndex;
+            this.roomId = roomId;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            this.session = session;
+            session.subscribe(ROOM_DESTINATION_PREFIX + roomId, roomMessageHandler);
+            subscribersPerRoom.incrementAndGet(roomIndex);
+            sessions.add(this);
+        }
+
+        private void send(ChatPayload payload) {
+            try {
+                session.send(PUBLISH_DESTINATION, payload);
+                metrics.recordSent(subscribersPerRoom.get(roomIndex));
+            } catch (RuntimeException e) {
+                metrics.sendErrors.increment();
+            }
+        }
+
+        private void disconnect() {
+            if (session != null && session.isConnected()) {
+                session.disconnect();
+            }
+        }
+
+        //구독 메시지 수신 (/sub/chat/room/{roomId})
+        private final StompFrameHandler roomMessageHandler = new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatPayload.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                if (payload instanceof ChatPayload message
+                        && message.content() != null && message.content().startsWith(CONTENT_PREFIX)) {
+                    int end = message.content().indexOf('|', CONTENT_PREFIX.length());
+                    metrics.recordReceived(Long.parseLong(message.content().substring(CONTENT_PREFIX.length(), end)));
+                }
+            }
+        };
+
+        //세션 단위 프레임 = 서버가 보낸 ERROR 프레임
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            metrics.stompErrors.increment();
+        }
+
+        //세션 오류 (ERROR 프레임 / 연결 끊김)
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+            metrics.stompErrors.increment();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            if (this.session != null) {
+                metrics.transportErrors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package project.pp_backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import project.pp_backend.PpBackendApplication;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+
+/**
+ * 부하 테스트 대상 서버 (외부 MySQL / Redis 없이 실행)
+ * - DB: H2 메모리 DB (MySQL 호환 모드) - application-loadtest.yml
+ * - Redis: 내장 Redis (embedded-redis)
+ */
+@Slf4j
+public class LocalTargetApplication {
+
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+
+    private LocalTargetApplication(RedisServer redisServer, ConfigurableApplicationContext context) {
+        this.redisServer = redisServer;
+        this.context = context;
+    }
+
+    public static void main(String[] args) {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        LocalTargetApplication target = start(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(target::stop));
+    }
+
+    /**
+     * 1. 내장 Redis 실행 -> 2. loadtest 프로필로 애플리케이션 실행
+     */
+    public static LocalTargetApplication start(LoadTestConfig config) {
+        RedisServer redisServer;
+        try {
+            redisServer = new RedisServer(config.getRedisPort());
+            redisServer.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("내장 Redis 를 실행할 수 없습니다. (port=" + config.getRedisPort() + ")", e);
+        }
+
+        ConfigurableApplicationContext context = SpringApplication.run(
+                PpBackendApplication.class,
+                "--spring.profiles.active=loadtest",
+                "--server.port=" + config.getServerPort(),
+                "--spring.data.redis.port=" + config.getRedisPort()
+        );
+        log.info("[load-test] target started on port {} (redis port {})", config.getServerPort(), config.getRedisPort());
+        return new LocalTargetApplication(redisServer, context);
+    }
+
+    public void stop() {
+        if (context.isActive()) {
+            context.close();
+        }
+        try {
+            redisServer.stop();
+        } catch (IOException e) {
+            log.warn("[load-test] failed to stop embedded redis", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package project.pp_backend.benchmark;
+
+import project.pp_backend.entity.BaseEntity;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.entity.Message;
+import project.pp_backend.entity.MessageType;
+import project.pp_backend.entity.Room;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공용 준비 코드
+ * - 엔티티: DB 없이 ID / 생성 시각까지 채운 상태로 생성
+ * - Repository: 필요한 메서드만 응답하는 동적 프록시 (DB 접근 없이 서비스 로직만 측정)
+ */
+final class BenchmarkFixtures {
+
+    //HS512 서명용 테스트 키 (Base64, 512bit 이상)
+    static final String JWT_SECRET =
+            "YmVuY2htYXJrLW9ubHktc2VjcmV0LWtleS1mb3ItcHBfYmFja2VuZC1qbWgtc3VpdGUtbm90LWZvci1wcm9kdWN0aW9uLXVzZS0xMjM0NQ==";
+    static final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L;
+    static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Member member(long id) {
+        Member member = new Member(id, "member" + id, "{bcrypt}password", "nick" + id, "member" + id + "@example.com",
+                MemberRole.USER, new ArrayList<>());
+        return audited(member);
+    }
+
+    static Room room(long id) {
+        Room room = new Room("room" + id);
+        setField(Room.class, room, "id", id);
+        return audited(room);
+    }
+
+    static Message message(long id, Member member, Room room) {
+        Message message = Message.builder()
+                .content("안녕하세요, 벤치마크 메시지입니다. Hello benchmark message!")
+                .type(MessageType.CHAT)
+                .member(member)
+                .room(room)
+                .clientMessageId("4f1c2d9e-7b1a-4a3e-9c55-0d6f2b8e1a77")
+                .build();
+        setField(Message.class, message, "id", id);
+        return audited(message);
+    }
+
+    //JPA Auditing 이 채우는 생성/수정 시각
+    static <T extends BaseEntity> T audited(T entity) {
+        setField(BaseEntity.class, entity, "createdAt", CREATED_AT);
+        setField(BaseEntity.class, entity, "updatedAt", CREATED_AT);
+        return entity;
+    }
+
+    /**
+     * Repository 인터페이스 스텁 - 등록하지 않은 메서드를 호출하면 UnsupportedOperationException
+     * @param answers : 메서드 이름 -> 응답 (인자 배열을 받아 반환값 생성)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stubRepository(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> repositoryType.getSimpleName() + "Stub";
+                        };
+                    }
+                    throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                });
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package project.pp_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import project.pp_backend.config.BroadcastFanout;
+import project.pp_backend.config.BroadcastSubscriberRegistry;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.dto.MessageDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Room;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지 채팅방 메시지 1건 -> 로컬 구독자 10만 명에게 전달 (본문 직렬화 + 구독자별 MESSAGE 를 Outbound 채널에 넘길 때까지)
+ * - simple-broker : 기존 경로 (SimpleBrokerMessageHandler - 구독 레지스트리 조회 후 호출 스레드 1개에서 전달)
+ * - sharded       : BroadcastFanout (채팅방별 구독자 배열 + 샤드별 스레드 병렬 전달, shards=0 이면 CPU 코어 수)
+ * - SampleTime 결과의 p0.99 를 broadcast.fanout.slo-milliseconds (기본 250ms) 와 비교
+ * - Outbound 채널은 전달 수만 세는 스텁 (WebSocket 전송 / STOMP 인코딩은 세션별 Outbound 스레드에서 실행되므로 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BroadcastFanoutBenchmark {
+
+    private static final long ROOM_ID = 1L;
+    private static final String DESTINATION = BroadcastFanout.DESTINATION_PREFIX + ROOM_ID;
+    private static final long SLO_MILLISECONDS = 250;
+
+    @Param({"100000"})
+    public int subscribers;
+
+    @Param({"simple-broker", "sharded"})
+    public String fanout;
+
+    @Param({"0"})
+    public int shards;
+
+    private final LongAdder delivered = new LongAdder();
+
+    private MappingJackson2MessageConverter converter;
+    private MessageDto.Response payload;
+    private SimpleBrokerMessageHandler simpleBroker;
+    private BroadcastSubscriberRegistry subscriberRegistry;
+    private BroadcastFanout broadcastFanout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+        Member member = BenchmarkFixtures.member(1L);
+        Room room = BenchmarkFixtures.room(ROOM_ID);
+        payload = new MessageDto.Response(BenchmarkFixtures.message(1L, member, room));
+
+        MessageChannel clientOutboundChannel = (message, timeout) -> {
+            delivered.increment();
+            return true;
+        };
+
+        if ("simple-broker".equals(fanout)) {
+            simpleBroker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutboundChannel,
+                    new ExecutorSubscribableChannel(), List.of("/sub"));
+            simpleBroker.start();
+            for (int i = 0; i < subscribers; i++) {
+                simpleBroker.handleMessage(sessionMessage(SimpMessageType.CONNECT, "session-" + i));
+                simpleBroker.handleMessage(sessionMessage(SimpMessageType.SUBSCRIBE, "session-" + i));
+            }
+            return;
+        }
+
+        subscriberRegistry = new BroadcastSubscriberRegistry(shards);
+        broadcastFanout = new BroadcastFanout(subscriberRegistry, clientOutboundChannel, converter,
+                LatencyMetrics.noop(), SLO_MILLISECONDS);
+        for (int i = 0; i < subscribers; i++) {
+            subscriberRegistry.subscribe(ROOM_ID, (long) i, "session-" + i, "sub-0");
+        }
+        //샤드별로 순서대로 실행되므로 빈 순회가 끝나면 구독 등록도 끝난 상태
+        subscriberRegistry.forEachSubscriber(ROOM_ID, (sessionId, subscriptionId) -> {
+        }).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (simpleBroker != null) {
+            simpleBroker.stop();
+        }
+        if (subscriberRegistry != null) {
+            subscriberRegistry.destroy();
+        }
+    }
+
+    @Benchmark
+    public long publish() {
+        delivered.reset();
+        if (simpleBroker != null) {
+            //SimpMessagingTemplate.convertAndSend 와 같은 순서: 변환 -> 브로커 (호출 스레드에서 전체 구독자에게 전달)
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(DESTINATION);
+            Message<?> converted = converter.toMessage(payload, accessor.getMessageHeaders());
+            simpleBroker.handleMessage(converted);
+        } else {
+            broadcastFanout.publish(ROOM_ID, payload).join();
+        }
+        return delivered.sum();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static Message<byte[]> sessionMessage(SimpMessageType type, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (type == SimpMessageType.CONNECT) {
+            accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+        } else {
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(DESTINATION);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
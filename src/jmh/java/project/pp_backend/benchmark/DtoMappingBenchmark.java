@@ -0,0 +1,69 @@
+package project.pp_backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import project.pp_backend.dto.MessageDto;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Message;
+import project.pp_backend.entity.Room;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> Response DTO 변환 + Jackson 직렬화 (메시지 브로드캐스트 / 조회 응답마다 실행)
+ * - ObjectMapper 는 스프링 부트 기본 설정과 같게 JavaTimeModule 등록 + 날짜를 문자열로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Message message;
+    private Room room;
+    private MessageDto.Response messageResponse;
+    private RoomDto.Response roomResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        Member member = BenchmarkFixtures.member(1L);
+        room = BenchmarkFixtures.room(1L);
+        message = BenchmarkFixtures.message(1L, member, room);
+
+        messageResponse = new MessageDto.Response(message);
+        roomResponse = new RoomDto.Response(room, 0);
+    }
+
+    @Benchmark
+    public MessageDto.Response messageResponse() {
+        return new MessageDto.Response(message);
+    }
+
+    @Benchmark
+    public RoomDto.Response roomResponse() {
+        return new RoomDto.Response(room, 0);
+    }
+
+    @Benchmark
+    public byte[] serializeMessageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(messageResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeRoomResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(roomResponse);
+    }
+
+    //변환 + 직렬화 (브로드캐스트 1건 기준)
+    @Benchmark
+    public byte[] mapAndSerializeMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new MessageDto.Response(message));
+    }
+}
@@ -0,0 +1,63 @@
+package project.pp_backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import project.pp_backend.config.CustomUserDetailsService;
+import project.pp_backend.config.JwtTokenProvider;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.dto.TokenDto;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 / 인증 객체 생성 (요청마다 JwtAuthenticationFilter, STOMP CONNECT 에서 실행)
+ * - getAuthentication 의 회원 조회(loadUserByUsername)는 고정된 MemberDetails 로 대체 -> 토큰 처리 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        MemberDetails memberDetails = new MemberDetails(BenchmarkFixtures.member(1L));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return memberDetails;
+            }
+        };
+
+        jwtTokenProvider = new JwtTokenProvider(
+                BenchmarkFixtures.JWT_SECRET,
+                BenchmarkFixtures.ACCESS_TOKEN_EXPIRE_TIME,
+                BenchmarkFixtures.REFRESH_TOKEN_EXPIRE_TIME,
+                userDetailsService,
+                LatencyMetrics.noop()
+        );
+        authentication = new UsernamePasswordAuthenticationToken(memberDetails, "", memberDetails.getAuthorities());
+        accessToken = jwtTokenProvider.generateToken(authentication).getAccessToken();
+    }
+
+    @Benchmark
+    public TokenDto.Response generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+}
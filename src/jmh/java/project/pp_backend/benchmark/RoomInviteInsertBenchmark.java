@@ -0,0 +1,101 @@
+package project.pp_backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import project.pp_backend.repository.RoomMemberRepositoryCustomImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 일괄 초대 저장 - 1만 명 초대 (절반은 이미 참가 중 -> 새로 저장하는 행 5천 개)
+ * - row-by-row : 기존 saveAll 과 같은 행별 INSERT (hibernate.jdbc.batch_size=100 의 JDBC batch)
+ * - multi-row  : RoomMemberRepositoryCustomImpl.insertIgnore (1000 행당 INSERT IGNORE 1문장)
+ * - 메모리 DB(H2, MySQL 호환 모드)라 네트워크 왕복이 없음 -> 실제 MySQL 에서는 문장 수 차이만큼 격차가 더 커짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoomInviteInsertBenchmark {
+
+    private static final long ROOM_ID = 1L;
+    private static final int JDBC_BATCH_SIZE = 100;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"10000"})
+    public int invitees;
+
+    @Param({"row-by-row", "multi-row"})
+    public String insert;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RoomMemberRepositoryCustomImpl roomMemberRepository;
+    private List<Long> newMemberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:room_invite;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table room_member ("
+                + "id bigint not null auto_increment, created_at datetime(6) not null, updated_at datetime(6) not null, "
+                + "room_id bigint, member_id bigint, primary key (id), "
+                + "constraint uk_room_member_room_member unique (room_id, member_id))");
+        roomMemberRepository = new RoomMemberRepositoryCustomImpl(jdbcTemplate);
+
+        newMemberIds = new ArrayList<>(invitees / 2);
+        for (long memberId = 1; memberId <= invitees; memberId++) {
+            if (memberId % 2 != 0) {
+                newMemberIds.add(memberId);
+            }
+        }
+    }
+
+    //매 실행 전에 이미 참가 중인 회원(짝수 ID)만 남김
+    @Setup(Level.Invocation)
+    public void resetMembers() {
+        jdbcTemplate.update("delete from room_member");
+        List<Long> existing = new ArrayList<>(invitees / 2);
+        for (long memberId = 2; memberId <= invitees; memberId += 2) {
+            existing.add(memberId);
+        }
+        for (int from = 0; from < existing.size(); from += CHUNK_SIZE) {
+            roomMemberRepository.insertIgnore(ROOM_ID, existing.subList(from, Math.min(existing.size(), from + CHUNK_SIZE)),
+                    LocalDateTime.now());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int insertMembers() {
+        LocalDateTime joinedAt = LocalDateTime.now();
+        int inserted = 0;
+        if ("row-by-row".equals(insert)) {
+            for (int[] counts : jdbcTemplate.batchUpdate(
+                    "insert into room_member (room_id, member_id, created_at, updated_at) values (?, ?, ?, ?)",
+                    newMemberIds, JDBC_BATCH_SIZE,
+                    (statement, memberId) -> {
+                        statement.setLong(1, ROOM_ID);
+                        statement.setLong(2, memberId);
+                        statement.setObject(3, joinedAt);
+                        statement.setObject(4, joinedAt);
+                    })) {
+                inserted += counts.length;
+            }
+            return inserted;
+        }
+        for (int from = 0; from < newMemberIds.size(); from += CHUNK_SIZE) {
+            inserted += roomMemberRepository.insertIgnore(ROOM_ID,
+                    newMemberIds.subList(from, Math.min(newMemberIds.size(), from + CHUNK_SIZE)), joinedAt);
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,91 @@
+package project.pp_backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.repository.MemberRepository;
+import project.pp_backend.repository.MessageRepository;
+import project.pp_backend.repository.RoomMemberRepository;
+import project.pp_backend.repository.RoomRepository;
+import project.pp_backend.service.RoomMembershipService;
+import project.pp_backend.service.RoomService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomService.batchJoinRoom - 중복 제거 / username -> id / 이미 참가 중인 회원 확인 / 회원별 결과 (RoomMembershipService)
+ * - Repository 는 준비된 값을 그대로 돌려주는 스텁 -> 쿼리 비용을 제외한 서비스 로직만 측정 (저장 비용: RoomInviteInsertBenchmark)
+ *   (카운터 증감도 스텁 - chunk 당 UPDATE 1문장 + 마지막에 채팅방 UPDATE 1문장)
+ * - 초대 대상 중 절반은 이미 참가 중인 회원, 1% 는 존재하지 않는 username
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomServiceBatchJoinBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int invitees;
+
+    private RoomService roomService;
+    private List<String> usernames;
+
+    @Setup
+    public void setUp() {
+        Map<String, MemberRepository.MemberId> members = new HashMap<>();
+        usernames = new ArrayList<>(invitees);
+        for (long id = 1; id <= invitees; id++) {
+            String username = "member" + id;
+            usernames.add(id % 100 == 0 ? "unknown" + id : username);
+            members.put(username, new MemberIdStub(id, username));
+        }
+
+        RoomRepository roomRepository = BenchmarkFixtures.stubRepository(RoomRepository.class, Map.of(
+                "existsById", args -> true
+        ));
+        MemberRepository memberRepository = BenchmarkFixtures.stubRepository(MemberRepository.class, Map.of(
+                "findIdsByUsernameIn", args -> ((Collection<?>) args[0]).stream()
+                        .map(members::get)
+                        .filter(member -> member != null)
+                        .toList()
+        ));
+        RoomMemberRepository roomMemberRepository = BenchmarkFixtures.stubRepository(RoomMemberRepository.class, Map.of(
+                "findMemberIdsByRoomIdAndMemberIdIn", args -> ((Collection<?>) args[1]).stream()
+                        .filter(memberId -> (Long) memberId % 2 == 0)
+                        .toList(),
+                "insertIgnore", args -> ((Collection<?>) args[1]).size(),
+                "addMemberRoomCount", args -> null,
+                "addRoomMemberCount", args -> null
+        ));
+        MessageRepository messageRepository = BenchmarkFixtures.stubRepository(MessageRepository.class, Map.of());
+
+        ApplicationEventPublisher eventPublisher = event -> {
+        };
+
+        RoomMembershipService roomMembershipService = new RoomMembershipService(memberRepository, roomMemberRepository,
+                eventPublisher, 1000);
+        roomService = new RoomService(roomRepository, messageRepository, memberRepository, roomMemberRepository,
+                roomMembershipService, eventPublisher);
+    }
+
+    @Benchmark
+    public RoomDto.InviteResponse batchJoinRoom() {
+        return roomService.batchJoinRoom(1L, usernames);
+    }
+
+    private record MemberIdStub(Long id, String username) implements MemberRepository.MemberId {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package project.pp_backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import project.pp_backend.config.CustomUserDetailsService;
+import project.pp_backend.config.JwtTokenProvider;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.config.StompChannelInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StompChannelInterceptor.preSend - CONNECT 가 아닌 프레임 (SEND / SUBSCRIBE)
+ * 연결 이후 모든 인바운드 프레임이 거치는 경로이므로 JWT 검증 없이 통과하는 비용을 측정
+ * (로그 레벨은 src/jmh/resources/logback.xml 기준 - 출력 비용은 제외하고 로그 인자 계산 비용만 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StompChannelInterceptorBenchmark {
+
+    @Param({"SEND", "SUBSCRIBE"})
+    public String command;
+
+    private StompChannelInterceptor interceptor;
+    private MessageChannel channel;
+    private Message<byte[]> frame;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                BenchmarkFixtures.JWT_SECRET,
+                BenchmarkFixtures.ACCESS_TOKEN_EXPIRE_TIME,
+                BenchmarkFixtures.REFRESH_TOKEN_EXPIRE_TIME,
+                new CustomUserDetailsService(null),
+                LatencyMetrics.noop()
+        );
+        //CONNECT 가 아닌 프레임만 측정 -> 토큰 폐기 확인(TokenRevocationService)은 호출되지 않음
+        interceptor = new StompChannelInterceptor(jwtTokenProvider, null);
+        channel = (message, timeout) -> true;
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.valueOf(command));
+        accessor.setSessionId("benchmark-session");
+        if (StompCommand.SEND.name().equals(command)) {
+            accessor.setDestination("/pub/chat/message");
+        } else {
+            accessor.setDestination("/sub/chat/room/1");
+            accessor.setSubscriptionId("sub-0");
+        }
+        accessor.setLeaveMutable(true);
+
+        byte[] payload = "{\"roomId\":1,\"content\":\"hello\",\"type\":\"CHAT\"}".getBytes(StandardCharsets.UTF_8);
+        frame = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    @Benchmark
+    public Message<?> preSend() {
+        return interceptor.preSend(frame, channel);
+    }
+}
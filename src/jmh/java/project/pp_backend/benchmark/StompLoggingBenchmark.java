@@ -0,0 +1,135 @@
+package project.pp_backend.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import project.pp_backend.config.CustomUserDetailsService;
+import project.pp_backend.config.JwtTokenProvider;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.config.LogSamplingTurboFilter;
+import project.pp_backend.config.StompChannelInterceptor;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그를 켠 상태의 STOMP 프레임 처리량 (초당 프레임 수) - StompChannelInterceptor.preSend (SEND 프레임)
+ * - off           : DEBUG 꺼짐 (운영 기본값, 레벨 확인만)
+ * - sync          : DEBUG 켜짐, 요청 스레드에서 바로 출력
+ * - async         : DEBUG 켜짐, AsyncAppender 큐에 넣고 별도 스레드에서 출력 (logback-spring.xml 과 같은 설정)
+ * - async-sampled : async + 카테고리 샘플링 (100 건 중 1 건, 초당 50 건)
+ * 출력 대상은 버리는 스트림 -> 콘솔/디스크 속도가 아닌 로그 처리 CPU 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class StompLoggingBenchmark {
+
+    @Param({"off", "sync", "async", "async-sampled"})
+    public String logging;
+
+    private StompChannelInterceptor interceptor;
+    private MessageChannel channel;
+    private Message<byte[]> frame;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                BenchmarkFixtures.JWT_SECRET,
+                BenchmarkFixtures.ACCESS_TOKEN_EXPIRE_TIME,
+                BenchmarkFixtures.REFRESH_TOKEN_EXPIRE_TIME,
+                new CustomUserDetailsService(null),
+                LatencyMetrics.noop()
+        );
+        //CONNECT 가 아닌 프레임만 측정 -> 토큰 폐기 확인(TokenRevocationService)은 호출되지 않음
+        interceptor = new StompChannelInterceptor(jwtTokenProvider, null);
+        channel = (message, timeout) -> true;
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("benchmark-session");
+        accessor.setDestination("/pub/chat/message");
+        accessor.setLeaveMutable(true);
+        byte[] payload = "{\"roomId\":1,\"content\":\"hello\",\"type\":\"CHAT\"}".getBytes(StandardCharsets.UTF_8);
+        frame = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+
+        configureLogging();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(true);
+        logger.setLevel(null);
+        loggerContext.resetTurboFilterList();
+    }
+
+    @Benchmark
+    public Message<?> preSend() {
+        return interceptor.preSend(frame, channel);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void configureLogging() {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logger = loggerContext.getLogger(StompChannelInterceptor.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+
+        if ("off".equals(logging)) {
+            logger.setLevel(Level.INFO);
+            return;
+        }
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level [%thread] %logger{36} : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(loggerContext);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if (logging.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+        if ("async-sampled".equals(logging)) {
+            LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+            filter.setContext(loggerContext);
+            filter.addCategory(StompChannelInterceptor.class.getName() + " sample=100 limit=50");
+            filter.start();
+            loggerContext.addTurboFilter(filter);
+        }
+
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+    }
+}
@@ -0,0 +1,68 @@
+package project.pp_backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import project.pp_backend.dto.SignalDto;
+import project.pp_backend.repository.RoomMemberRepository;
+import project.pp_backend.service.PresenceRegistry;
+import project.pp_backend.service.TypingSignalService;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 중(typing) 신호 처리량 (초당 신호 수, 목표: 단일 노드 50,000 건 이상)
+ * - 빈도 제한 0ms -> 모든 신호가 참가 여부 확인 + 직렬화 + 브로커 전송까지 수행
+ * - 채팅방 100개 x 회원 200명 구독, 참가 기록은 처음 1번만 조회 (이후 메모리에 보관된 결과)
+ * - 브로커 채널은 전송만 받고 버림 -> 서비스 처리 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class TypingSignalBenchmark {
+
+    private static final int ROOM_COUNT = 100;
+    private static final int MEMBERS_PER_ROOM = 200;
+
+    private TypingSignalService service;
+
+    @Setup
+    public void setUp() {
+        PresenceRegistry presenceRegistry = new PresenceRegistry();
+        for (long roomId = 1; roomId <= ROOM_COUNT; roomId++) {
+            for (long i = 0; i < MEMBERS_PER_ROOM; i++) {
+                long memberId = roomId * 1_000 + i;
+                String sessionId = "session-" + memberId;
+                presenceRegistry.connect(sessionId, memberId, "member" + memberId);
+                presenceRegistry.subscribe(sessionId, "sub-" + roomId, roomId);
+            }
+        }
+        RoomMemberRepository roomMemberRepository = BenchmarkFixtures.stubRepository(RoomMemberRepository.class, Map.of(
+                "existsByRoomIdAndMemberId", args -> true
+        ));
+
+        MessageChannel brokerChannel = (message, timeout) -> true;
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        service = new TypingSignalService(presenceRegistry, roomMemberRepository, messagingTemplate,
+                0, 60, ROOM_COUNT * MEMBERS_PER_ROOM);
+    }
+
+    //스레드마다 다른 채팅방 / 회원 순서로 신호 전송
+    @State(Scope.Thread)
+    public static class Sequence {
+        private int next;
+    }
+
+    @Benchmark
+    public boolean publishTyping(Sequence sequence) {
+        int i = sequence.next++;
+        long roomId = Math.floorMod(i, ROOM_COUNT) + 1;
+        long memberId = roomId * 1_000 + Math.floorMod(i, MEMBERS_PER_ROOM);
+        return service.publishTyping(memberId, "member" + memberId, new SignalDto.TypingRequest(roomId, (i & 1) == 0));
+    }
+}
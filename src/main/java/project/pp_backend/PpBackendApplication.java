@@ -3,8 +3,10 @@ package project.pp_backend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // JPA Auditing 기능 활성화
+@EnableScheduling // 주기 작업(@Scheduled) 활성화
 @SpringBootApplication
 public class PpBackendApplication {
 
@@ -0,0 +1,88 @@
+package project.pp_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공지(BROADCAST) 채팅방 메시지 팬아웃 - /sub/broadcast/room/{roomId}
+ * - 본문은 발행 시 1번만 JSON 직렬화, 샤드 스레드(BroadcastSubscriberRegistry)가 구독자별 MESSAGE 를 clientOutboundChannel 로 전달
+ *   (SimpleBroker 와 같은 전달 경로 -> 느린 세션 처리 / 세션별 전송 제한은 그대로 적용)
+ * - 공지 채팅방은 CHAT 메시지만 전달 (ENTER / LEAVE 없음) -> 메시지 타입 헤더를 붙이지 않음
+ * - 발행부터 모든 샤드가 전달을 끝낼 때까지의 시간을 stomp.broadcast.fanout 에 기록, SLO 를 넘으면 경고 로그
+ */
+@Slf4j
+@Component
+public class BroadcastFanout {
+
+    public static final String DESTINATION_PREFIX = "/sub/broadcast/room/";
+
+    private final BroadcastSubscriberRegistry subscriberRegistry;
+    private final MessageChannel clientOutboundChannel;
+    private final MessageConverter brokerMessageConverter;
+    private final LatencyMetrics.Recorder fanoutLatency;
+    private final long sloNanos;
+
+    public BroadcastFanout(
+            BroadcastSubscriberRegistry subscriberRegistry,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            @Qualifier("brokerMessageConverter") MessageConverter brokerMessageConverter,
+            LatencyMetrics latencyMetrics,
+            @Value("${broadcast.fanout.slo-milliseconds:250}") long sloMillis
+    ) {
+        this.subscriberRegistry = subscriberRegistry;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.brokerMessageConverter = brokerMessageConverter;
+        this.fanoutLatency = latencyMetrics.timer("stomp.broadcast.fanout",
+                "공지 채팅방 메시지 발행부터 모든 구독자에게 전달(Outbound 채널)할 때까지 걸린 시간");
+        this.sloNanos = TimeUnit.MILLISECONDS.toNanos(sloMillis);
+    }
+
+    /**
+     * 1. 공지 채팅방 구독자 전체에게 전달 (비동기) -> 결과는 전달한 구독자 수
+     */
+    public CompletableFuture<Integer> publish(Long roomId, Object payload) {
+        long startedAt = System.nanoTime();
+
+        //1. 본문 직렬화 (1번)
+        Message<?> converted = brokerMessageConverter.toMessage(payload, null);
+        if (converted == null) {
+            throw new IllegalArgumentException("Unsupported payload: " + payload.getClass().getName());
+        }
+        Object body = converted.getPayload();
+        MimeType contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        String destination = DESTINATION_PREFIX + roomId;
+
+        //2. 샤드별 병렬 전달 (구독자마다 헤더만 새로 만들고 본문은 공유)
+        return subscriberRegistry.forEachSubscriber(roomId, (sessionId, subscriptionId) -> {
+                    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                    accessor.setSessionId(sessionId);
+                    accessor.setSubscriptionId(subscriptionId);
+                    accessor.setDestination(destination);
+                    accessor.setContentType(contentType);
+                    clientOutboundChannel.send(MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+                })
+                .whenComplete((delivered, error) -> {
+                    long elapsed = System.nanoTime() - startedAt;
+                    fanoutLatency.record(elapsed);
+                    if (error != null) {
+                        log.warn("[BroadcastFanout] room {} fan-out failed: {}", roomId, error.getMessage());
+                    } else if (elapsed > sloNanos) {
+                        log.warn("[BroadcastFanout] room {} fan-out to {} subscribers took {} ms (SLO {} ms)",
+                                roomId, delivered, TimeUnit.NANOSECONDS.toMillis(elapsed), TimeUnit.NANOSECONDS.toMillis(sloNanos));
+                    }
+                });
+    }
+}
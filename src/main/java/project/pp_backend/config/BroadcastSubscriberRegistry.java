@@ -0,0 +1,242 @@
+package project.pp_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+/**
+ * 공지(BROADCAST) 채팅방 구독자 목록 - 채팅방당 구독자 10만 명 이상
+ * - SimpleBroker 구독 레지스트리(구독마다 헤더 / destination 매칭 캐시) 대신 채팅방별 구독자 배열 (세션 ID, 구독 ID)
+ * - 세션 ID 해시로 샤드를 정하고 샤드마다 전용 스레드 1개
+ *   구독 등록 / 해제 / 전달 모두 샤드 스레드에서 실행 -> 락 없음, 같은 세션의 전달 순서 유지
+ * - 전달(forEachSubscriber)은 샤드 수만큼 병렬 실행
+ * - 채팅방에서 퇴장하면 그 회원의 구독도 해제 (unsubscribeMember - 세션이 남아 있어도 더 이상 전달하지 않음)
+ */
+@Slf4j
+@Component
+public class BroadcastSubscriberRegistry implements DisposableBean {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Shard[] shards;
+
+    public BroadcastSubscriberRegistry(@Value("${broadcast.fanout.shards:0}") int shards) {
+        int count = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            this.shards[i] = new Shard(i);
+        }
+    }
+
+    /**
+     * 1. 구독 등록 (같은 세션 / 구독 ID 로 다시 구독하면 교체)
+     */
+    public void subscribe(Long roomId, Long memberId, String sessionId, String subscriptionId) {
+        Shard shard = shard(sessionId);
+        shard.executor.execute(() -> shard.add(roomId, memberId, sessionId, subscriptionId));
+    }
+
+    /**
+     * 2. 구독 해제 (공지 채팅방 구독이 아니면 무시)
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Shard shard = shard(sessionId);
+        shard.executor.execute(() -> shard.remove(sessionId, subscriptionId));
+    }
+
+    /**
+     * 3. 세션 종료 시 모든 구독 해제
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+        Shard shard = shard(sessionId);
+        shard.executor.execute(() -> shard.removeSession(sessionId));
+    }
+
+    /**
+     * 4. 채팅방 퇴장 시 구독 해제 (memberId 가 null 이면 채팅방 삭제 - 모든 구독 해제)
+     * - 회원의 세션이 어느 샤드에 있는지 모르므로 모든 샤드에서 채팅방 구독자 목록을 확인 (퇴장 1번당 1번)
+     */
+    public void unsubscribeMember(Long roomId, Long memberId) {
+        for (Shard shard : shards) {
+            shard.executor.execute(() -> shard.removeMember(roomId, memberId));
+        }
+    }
+
+    /**
+     * 5. 채팅방 구독자마다 실행 (샤드별 스레드에서 병렬) -> 모든 샤드가 끝나면 완료, 결과는 전달한 구독자 수
+     * - 앞서 요청한 구독 등록 / 해제가 먼저 반영됨 (샤드별 순서 보장)
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Integer> forEachSubscriber(Long roomId, BiConsumer<String, String> action) {
+        CompletableFuture<Integer>[] results = new CompletableFuture[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            results[i] = CompletableFuture.supplyAsync(() -> shard.forEach(roomId, action), shard.executor);
+        }
+        return CompletableFuture.allOf(results)
+                .thenApply(ignored -> Arrays.stream(results).mapToInt(CompletableFuture::join).sum());
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void destroy() {
+        for (Shard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private Shard shard(String sessionId) {
+        return shards[Math.floorMod(sessionId.hashCode(), shards.length)];
+    }
+
+    /**
+     * 샤드 - 아래 필드는 모두 샤드 스레드에서만 읽고 씀
+     */
+    private static final class Shard {
+        private final ExecutorService executor;
+        //roomId -> 구독자 목록
+        private final Map<Long, SubscriberList> rooms = new HashMap<>();
+        //sessionId -> (subscriptionId -> 구독) : 구독 해제 / 세션 종료 시 위치를 찾는 용도
+        private final Map<String, Map<String, Subscriber>> sessions = new HashMap<>();
+
+        private Shard(int index) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "broadcast-fanout-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void add(Long roomId, Long memberId, String sessionId, String subscriptionId) {
+            remove(sessionId, subscriptionId);
+            Subscriber subscriber = new Subscriber(roomId, memberId, sessionId, subscriptionId);
+            rooms.computeIfAbsent(roomId, key -> new SubscriberList()).add(subscriber);
+            sessions.computeIfAbsent(sessionId, key -> new HashMap<>()).put(subscriptionId, subscriber);
+        }
+
+        private void remove(String sessionId, String subscriptionId) {
+            Map<String, Subscriber> subscriptions = sessions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            Subscriber subscriber = subscriptions.remove(subscriptionId);
+            if (subscriber != null) {
+                removeFromRoom(subscriber);
+            }
+            if (subscriptions.isEmpty()) {
+                sessions.remove(sessionId);
+            }
+        }
+
+        private void removeSession(String sessionId) {
+            Map<String, Subscriber> subscriptions = sessions.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::removeFromRoom);
+            }
+        }
+
+        //뒤에서부터 확인 (삭제 시 마지막 원소가 현재 자리로 옮겨지는데, 그 원소는 이미 확인한 원소)
+        private void removeMember(Long roomId, Long memberId) {
+            SubscriberList list = rooms.get(roomId);
+            if (list == null) {
+                return;
+            }
+            for (int i = list.size - 1; i >= 0; i--) {
+                Subscriber subscriber = list.subscribers[i];
+                if (memberId == null || memberId.equals(subscriber.memberId)) {
+                    remove(subscriber.sessionId, subscriber.subscriptionId);
+                }
+            }
+        }
+
+        private void removeFromRoom(Subscriber subscriber) {
+            SubscriberList list = rooms.get(subscriber.roomId);
+            if (list != null && list.remove(subscriber) == 0) {
+                rooms.remove(subscriber.roomId);
+            }
+        }
+
+        //구독자 1명 전달 실패가 나머지 전달을 막지 않도록 개별 처리
+        private int forEach(Long roomId, BiConsumer<String, String> action) {
+            SubscriberList list = rooms.get(roomId);
+            if (list == null) {
+                return 0;
+            }
+            int delivered = 0;
+            for (int i = 0; i < list.size; i++) {
+                Subscriber subscriber = list.subscribers[i];
+                try {
+                    action.accept(subscriber.sessionId, subscriber.subscriptionId);
+                    delivered++;
+                } catch (RuntimeException e) {
+                    log.debug("[BroadcastFanout] delivery to session {} failed: {}", subscriber.sessionId, e.getMessage());
+                }
+            }
+            return delivered;
+        }
+    }
+
+    private static final class Subscriber {
+        private final Long roomId;
+        private final Long memberId;
+        private final String sessionId;
+        private final String subscriptionId;
+        private int index; //SubscriberList 안의 위치 (삭제 시 마지막 원소와 자리 교체)
+
+        private Subscriber(Long roomId, Long memberId, String sessionId, String subscriptionId) {
+            this.roomId = roomId;
+            this.memberId = memberId;
+            this.sessionId = sessionId;
+            this.subscriptionId = subscriptionId;
+        }
+    }
+
+    //배열 기반 목록 - 전달 시 순회만 하므로 삽입 / 삭제는 O(1) (순서 유지 안 함)
+    private static final class SubscriberList {
+        private Subscriber[] subscribers = new Subscriber[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(Subscriber subscriber) {
+            if (size == subscribers.length) {
+                subscribers = Arrays.copyOf(subscribers, size * 2);
+            }
+            subscriber.index = size;
+            subscribers[size++] = subscriber;
+        }
+
+        //남은 구독자 수
+        private int remove(Subscriber subscriber) {
+            int last = --size;
+            Subscriber moved = subscribers[last];
+            subscribers[subscriber.index] = moved;
+            moved.index = subscriber.index;
+            subscribers[last] = null;
+            return size;
+        }
+    }
+}
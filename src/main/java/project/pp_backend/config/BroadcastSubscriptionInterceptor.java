@@ -0,0 +1,87 @@
+package project.pp_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import project.pp_backend.exception.DataNotFoundException;
+import project.pp_backend.exception.UnauthorizedAccessException;
+import project.pp_backend.service.BroadcastRoomService;
+
+import java.security.Principal;
+
+/**
+ * 공지(BROADCAST) 채팅방 구독 처리 (Inbound) - /sub/broadcast/room/{roomId}
+ * - SUBSCRIBE : 참가 여부 확인 (구독당 1번) 후 BroadcastSubscriberRegistry 에 등록, SimpleBroker 로는 전달하지 않음
+ * - UNSUBSCRIBE : 레지스트리에서도 제거 (공지 채팅방 구독이 아니면 무시) 후 그대로 전달
+ * - 세션 종료는 BroadcastSubscriberRegistry 가 SessionDisconnectEvent 로, 채팅방 퇴장은 BroadcastRoomService 가 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BroadcastSubscriptionInterceptor implements ChannelInterceptor {
+
+    private final BroadcastSubscriberRegistry subscriberRegistry;
+    private final BroadcastRoomService broadcastRoomService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+            subscriberRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            return message;
+        }
+
+        if (!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null) {
+            return message;
+        }
+
+        //1. 공지 채팅방 + 참가 중인 회원인지 확인
+        if (!broadcastRoomService.isBroadcast(roomId)) {
+            throw new DataNotFoundException("공지 채팅방이 아닙니다.");
+        }
+        Long memberId = getMemberId(accessor.getUser());
+        broadcastRoomService.checkSubscriber(roomId, memberId);
+
+        //2. 구독자 목록에 등록 (SimpleBroker 구독 레지스트리에는 등록하지 않음, 퇴장 시 해제할 수 있도록 회원 ID 도 보관)
+        subscriberRegistry.subscribe(roomId, memberId, accessor.getSessionId(), accessor.getSubscriptionId());
+        log.debug("[STOMP] broadcast room {} subscribed (session {})", roomId, accessor.getSessionId());
+        return null;
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static Long getMemberId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            return memberDetails.getId();
+        }
+        throw new UnauthorizedAccessException("인증되지 않은 세션입니다.");
+    }
+
+    private static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(BroadcastFanout.DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(BroadcastFanout.DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -27,7 +27,8 @@ public class CustomUserDetailsService implements UserDetailsService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("[CustomUserDetailsService] User not found with name: " + username));
 
-        log.info("📢 [USER DETAIL SERVICE] Member found: {}", member.getUsername());
+        //인증된 요청마다 실행 -> DEBUG
+        log.debug("[USER DETAIL SERVICE] Member found: {}", member.getUsername());
 
         return new MemberDetails(member);
     }
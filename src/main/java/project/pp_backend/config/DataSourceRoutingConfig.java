@@ -0,0 +1,89 @@
+package project.pp_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DB 라우팅 설정 (app.datasource.routing.enabled=true 일 때만 적용)
+ * - 쓰기 트랜잭션 -> 주 DB / 읽기 전용 트랜잭션 -> 복제본 (ReadWriteRoutingDataSource)
+ * - JPA 는 LazyConnectionDataSourceProxy 를 사용 -> 첫 쿼리 시점(readOnly 설정 이후)에 실제 연결 선택
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceRoutingProperties properties,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        //커넥션 풀 지표 (hikaricp.connections.acquire - 커넥션 대기 시간 등), 풀이 Bean 이 아니므로 직접 연결
+        MetricsTrackerFactory metricsTrackerFactory = meterRegistry.stream()
+                .findFirst()
+                .map(MicrometerMetricsTrackerFactory::new)
+                .orElse(null);
+
+        //1. 주 DB 커넥션 풀
+        DataSource primary = createPool(properties.getPrimary(), "primary", false, metricsTrackerFactory);
+
+        //2. 복제본 커넥션 풀 (읽기 전용)
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Node node = properties.getReplicas().get(i);
+            String name = node.getName() != null ? node.getName() : "replica-" + (i + 1);
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name, createPool(node, name, true, metricsTrackerFactory)));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                                               DataSourceRoutingProperties properties) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                routingDataSource.getReplicas(),
+                properties.getMaxReplicaLagSeconds(),
+                properties.getLagQuery(),
+                properties.getLagColumn()
+        );
+        //시작 시 1회 확인 (이후 주기적으로 확인)
+        monitor.checkReplicas();
+        return monitor;
+    }
+
+    private DataSource createPool(DataSourceRoutingProperties.Node node, String poolName, boolean readOnly,
+                                  MetricsTrackerFactory metricsTrackerFactory) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .driverClassName(node.getDriverClassName())
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        dataSource.setReadOnly(readOnly);
+        if (metricsTrackerFactory != null) {
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,39 @@
+package project.pp_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주(Primary) / 복제본(Replica) DB 라우팅 설정 (app.datasource.routing.*)
+ * - enabled=false(기본값)이면 기존 spring.datasource 단일 DB 그대로 사용
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    //쓰기 + 일반 트랜잭션
+    private Node primary = new Node();
+    //읽기 전용 트랜잭션 (@Transactional(readOnly = true))
+    private List<Node> replicas = new ArrayList<>();
+
+    //허용하는 최대 복제 지연 (초과하면 해당 복제본은 읽기 대상에서 제외)
+    private long maxReplicaLagSeconds = 5;
+    //복제 지연 확인 쿼리 / 지연(초) 컬럼 (MySQL 8.0.22 이상 기준)
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Source";
+
+    @Data
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
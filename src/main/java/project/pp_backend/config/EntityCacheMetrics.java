@@ -0,0 +1,65 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.pp_backend.service.EntityCacheService;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 2차 캐시(Member / Room) 영역별 지표
+ * - hibernate.cache.region.requests{region, result=hit|miss} / hibernate.cache.region.puts{region}
+ * - Hibernate 통계(cache.statistics.enabled)가 꺼져 있으면 등록하지 않음 (항상 0 인 지표를 내보내지 않도록)
+ * - 값은 수집(scrape) 시점에 Hibernate 통계에서 읽음
+ */
+@Component
+public class EntityCacheMetrics implements MeterBinder {
+
+    private final EntityCacheService entityCacheService;
+    private final boolean statisticsEnabled;
+
+    public EntityCacheMetrics(
+            EntityCacheService entityCacheService,
+            @Value("${cache.statistics.enabled:false}") boolean statisticsEnabled
+    ) {
+        this.entityCacheService = entityCacheService;
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!statisticsEnabled) {
+            return;
+        }
+        for (String region : EntityCacheService.REGIONS) {
+            FunctionCounter.builder("hibernate.cache.region.requests", entityCacheService,
+                            service -> count(region, CacheRegionStatistics::getHitCount))
+                    .description("2차 캐시 조회 수")
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.requests", entityCacheService,
+                            service -> count(region, CacheRegionStatistics::getMissCount))
+                    .description("2차 캐시 조회 수")
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.puts", entityCacheService,
+                            service -> count(region, CacheRegionStatistics::getPutCount))
+                    .description("2차 캐시 저장 수")
+                    .tags("region", region)
+                    .register(registry);
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //영역이 아직 없으면(첫 조회 전) 0
+    private double count(String region, ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics statistics = entityCacheService.getRegionStatistics(region);
+        return statistics != null ? value.applyAsLong(statistics) : 0;
+    }
+}
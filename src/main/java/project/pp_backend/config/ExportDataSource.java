@@ -0,0 +1,87 @@
+package project.pp_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 내보내기(관리자 NDJSON / 대화 기록) 전용 커넥션 풀
+ * - MySQL 은 useCursorFetch=true 일 때만 fetch size 행씩 서버 커서로 읽음
+ *   이 설정은 모든 문장을 서버 prepare(+ close 왕복)로 바꾸므로 내보내기 풀에만 적용 (기본 / 라우팅 풀은 클라이언트 prepare 그대로)
+ * - 접속 정보 : 읽기/쓰기 라우팅 사용 시 첫 번째 복제본 (없으면 주 DB), 아니면 spring.datasource
+ * - MySQL 이 아니면 (테스트 H2 등) 별도 풀 없이 기본 DataSource 사용 (진행 중인 트랜잭션이 있으면 같은 커넥션)
+ */
+@Slf4j
+@Component
+public class ExportDataSource implements DisposableBean {
+
+    private final DataSource dataSource;
+    private final HikariDataSource pool;
+
+    public ExportDataSource(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<DataSourceRoutingProperties> routingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.export.maximum-pool-size:4}") int maximumPoolSize
+    ) {
+        //1. 접속 정보
+        DataSourceRoutingProperties routing = routingProperties.getIfAvailable();
+        DataSourceRoutingProperties.Node node = new DataSourceRoutingProperties.Node();
+        if (routing != null) {
+            node = routing.getReplicas().isEmpty() ? routing.getPrimary() : routing.getReplicas().get(0);
+        } else {
+            node.setUrl(dataSourceProperties.determineUrl());
+            node.setUsername(dataSourceProperties.determineUsername());
+            node.setPassword(dataSourceProperties.determinePassword());
+            node.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        }
+
+        //2. MySQL 이 아니면 서버 커서 설정이 필요 없음 -> 기본 DataSource
+        if (node.getUrl() == null || !node.getUrl().startsWith("jdbc:mysql:")) {
+            this.pool = null;
+            this.dataSource = dataSource;
+            return;
+        }
+
+        //3. 내보내기 전용 풀 (읽기 전용, 사용하지 않을 때는 커넥션을 유지하지 않음)
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .driverClassName(node.getDriverClassName())
+                .build();
+        pool.setPoolName("export");
+        pool.setMaximumPoolSize(Math.max(1, maximumPoolSize));
+        pool.setMinimumIdle(0);
+        pool.setReadOnly(true);
+        pool.addDataSourceProperty("useCursorFetch", "true");
+        meterRegistry.stream().findFirst()
+                .ifPresent(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        this.pool = pool;
+        //요청 단위 SQL 실행 수 집계에도 포함 (기본 DataSource 와 같은 방식)
+        this.dataSource = new SqlStatementDataSource(pool);
+        log.info("[ExportDataSource] dedicated cursor-fetch pool for exports (max {} connections)", pool.getMaximumPoolSize());
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+}
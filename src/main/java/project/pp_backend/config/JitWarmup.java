@@ -0,0 +1,255 @@
+package project.pp_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import project.pp_backend.dto.MessageDto;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.dto.StartupDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.entity.MessageType;
+import project.pp_backend.entity.Room;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JIT 예열 - 배포 직후 C2 컴파일이 끝나기 전까지의 지연 시간(p99) 급증 완화 (StartupWarmup 이 readiness 전에 실행)
+ * - 요청이 실제로 지나가는 코드를 가짜 입력으로 반복 호출
+ *   JWT 서명 / 검증, 로그인 비밀번호(BCrypt) 확인, MessageDto / RoomDto 변환 + JSON 직렬화,
+ *   STOMP Inbound 인터셉터 체인 + 요청 본문 역직렬화, 브로드캐스트 메시지 변환 + STOMP 프레임 인코딩
+ * - DB / Redis / 브로커 전송 없음 (부수 효과 없음), 예열 중 기록된 지연 시간 Timer 는 끝난 뒤 초기화
+ * - 작업별 첫 호출 / 처음 N 회 / 예열 후 N 회 평균 지연 시간 비교 (GET /api/admin/startup/warmup)
+ */
+@Slf4j
+@Component
+public class JitWarmup {
+
+    private static final String WARMUP_USERNAME = "__startup_warmup__";
+    private static final String WARMUP_PASSWORD = "startup-warmup-password";
+    private static final String WARMUP_DEVICE_ID = "startup-warmup";
+    private static final String WARMUP_SESSION_ID = "startup-warmup";
+    private static final String ROOM_DESTINATION = "/sub/chat/room/0";
+    private static final byte[] SEND_PAYLOAD =
+            "{\"roomId\":0,\"content\":\"startup warm-up message\",\"type\":\"CHAT\",\"clientMessageId\":\"startup-warmup\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    //처음 / 마지막 N 회 평균 (예열 전후 비교)
+    private static final int SAMPLE_SIZE = 100;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final AbstractSubscribableChannel clientInboundChannel;
+    private final MessageConverter brokerMessageConverter;
+    private final LatencyMetrics latencyMetrics;
+    private final StompEncoder stompEncoder = new StompEncoder();
+
+    private final boolean enabled;
+    private final int iterations;
+    private final int passwordIterations;
+    private final long maxDurationMillis;
+
+    private volatile List<StartupDto.OperationStats> report = List.of();
+    private volatile int sink; //결과를 사용해서 JIT 가 호출을 없애지 않도록
+
+    public JitWarmup(
+            JwtTokenProvider jwtTokenProvider,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper,
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("brokerMessageConverter") MessageConverter brokerMessageConverter,
+            LatencyMetrics latencyMetrics,
+            @Value("${startup.warmup.jit.enabled:true}") boolean enabled,
+            @Value("${startup.warmup.jit.iterations:10000}") int iterations,
+            @Value("${startup.warmup.jit.password-iterations:20}") int passwordIterations,
+            @Value("${startup.warmup.jit.max-duration-milliseconds:20000}") long maxDurationMillis
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.clientInboundChannel = clientInboundChannel;
+        this.brokerMessageConverter = brokerMessageConverter;
+        this.latencyMetrics = latencyMetrics;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.passwordIterations = passwordIterations;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    /**
+     * 1. 예열 실행 (작업별로 지정 횟수만큼, 전체 제한 시간을 넘으면 남은 작업은 최소 횟수만 실행)
+     */
+    public void run() throws Exception {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                WARMUP_USERNAME, "", List.of(new SimpleGrantedAuthority("ROLE_" + MemberRole.USER.name())));
+        String accessToken = jwtTokenProvider.generateToken(authentication, WARMUP_DEVICE_ID).getAccessToken();
+        String encodedPassword = passwordEncoder.encode(WARMUP_PASSWORD);
+        Member member = new Member(WARMUP_USERNAME, encodedPassword, "warmup", "warmup@example.com", MemberRole.USER);
+        Room room = new Room("warmup");
+
+        List<StartupDto.OperationStats> results = new ArrayList<>();
+        //로그인 / HTTP 인증
+        results.add(measure("jwt.sign", iterations, deadline,
+                () -> jwtTokenProvider.generateToken(authentication, WARMUP_DEVICE_ID)));
+        results.add(measure("jwt.verify", iterations, deadline,
+                () -> {
+                    Claims claims = jwtTokenProvider.verifyClaims(accessToken);
+                    return claims != null ? claims.getId() : null;
+                }));
+        results.add(measure("login.password", passwordIterations, deadline,
+                () -> passwordEncoder.matches(WARMUP_PASSWORD, encodedPassword)));
+        //HTTP 응답 / 브로드캐스트 본문
+        results.add(measure("message.serialize", iterations, deadline,
+                () -> objectMapper.writeValueAsBytes(messageResponse(member, room))));
+        results.add(measure("room.serialize", iterations, deadline,
+                () -> objectMapper.writeValueAsBytes(roomResponse(room))));
+        //STOMP 수신 -> 브로드캐스트
+        results.add(measure("stomp.inbound", iterations, deadline, this::inbound));
+        results.add(measure("stomp.broadcast", iterations, deadline, () -> broadcast(messageResponse(member, room))));
+        report = List.copyOf(results);
+
+        //예열 중 기록된 JWT 검증 등의 지연 시간은 실제 요청이 아니므로 지표에서 제외
+        latencyMetrics.resetRuntimeMeters();
+        for (StartupDto.OperationStats stats : results) {
+            log.info("[JitWarmup] {} x{}: first {} us, cold {} us, warm {} us ({}x)", stats.getName(), stats.getIterations(),
+                    round(stats.getFirstCallMicros()), round(stats.getColdMicros()), round(stats.getWarmMicros()), round(stats.getSpeedup()));
+        }
+    }
+
+    /**
+     * 2. 작업별 예열 전 / 후 지연 시간
+     */
+    public List<StartupDto.OperationStats> getReport() {
+        return report;
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private StartupDto.OperationStats measure(String name, int count, long deadline, Callable<?> operation) throws Exception {
+        int sample = Math.max(1, Math.min(SAMPLE_SIZE, count / 10));
+
+        //1. 예열 (처음 N 회 = 배포 직후 지연 시간)
+        long firstCall = 0;
+        long coldTotal = 0;
+        int executed = 0;
+        while (executed < count && (executed < sample || System.nanoTime() < deadline)) {
+            long elapsed = time(operation);
+            if (executed == 0) {
+                firstCall = elapsed;
+            }
+            if (executed < sample) {
+                coldTotal += elapsed;
+            }
+            executed++;
+        }
+
+        //2. 예열 후 N 회
+        long warmTotal = 0;
+        for (int i = 0; i < sample; i++) {
+            warmTotal += time(operation);
+        }
+
+        double cold = micros(coldTotal) / sample;
+        double warm = micros(warmTotal) / sample;
+        return new StartupDto.OperationStats(name, executed, micros(firstCall), cold, warm, warm > 0 ? cold / warm : 0);
+    }
+
+    private long time(Callable<?> operation) throws Exception {
+        long startedAt = System.nanoTime();
+        Object result = operation.call();
+        long elapsed = System.nanoTime() - startedAt;
+        sink += System.identityHashCode(result);
+        return elapsed;
+    }
+
+    private MessageDto.Response messageResponse(Member member, Room room) {
+        project.pp_backend.entity.Message message = project.pp_backend.entity.Message.builder()
+                .content("startup warm-up message")
+                .type(MessageType.CHAT)
+                .member(member)
+                .room(room)
+                .clientMessageId(WARMUP_DEVICE_ID)
+                .build();
+        MessageDto.Response response = new MessageDto.Response(message);
+        //DB 에 저장하지 않았으므로 ID / 생성 시각을 직접 채움 (실제 응답과 같은 직렬화 경로)
+        response.setId(0L);
+        response.setMemberId(0L);
+        response.setRoomId(0L);
+        response.setCreatedAt(LocalDateTime.now());
+        response.setUpdatedAt(response.getCreatedAt());
+        return response;
+    }
+
+    private RoomDto.Response roomResponse(Room room) {
+        RoomDto.Response response = new RoomDto.Response(room, 0);
+        response.setId(0L);
+        response.setCreatedAt(LocalDateTime.now());
+        response.setUpdatedAt(response.getCreatedAt());
+        return response;
+    }
+
+    //SEND 프레임 -> Inbound 인터셉터 체인 (채널로 보내지 않음) -> 요청 본문 역직렬화
+    private Object inbound() throws Exception {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(WARMUP_SESSION_ID);
+        accessor.setDestination("/pub/chat/message");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<?> message = MessageBuilder.createMessage(SEND_PAYLOAD, accessor.getMessageHeaders());
+
+        for (ChannelInterceptor interceptor : clientInboundChannel.getInterceptors()) {
+            message = interceptor.preSend(message, clientInboundChannel);
+            if (message == null) {
+                return null;
+            }
+        }
+        return objectMapper.readValue((byte[]) message.getPayload(), MessageDto.CreateRequest.class);
+    }
+
+    //브로드캐스트 본문 변환 (SimpMessagingTemplate 과 같은 변환기) -> STOMP MESSAGE 프레임 인코딩 (세션으로 보내지 않음)
+    private byte[] broadcast(MessageDto.Response response) {
+        Message<?> converted = brokerMessageConverter.toMessage(response, null);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(ROOM_DESTINATION);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId(WARMUP_SESSION_ID);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return stompEncoder.encode(accessor.getMessageHeaders(), (byte[]) converted.getPayload());
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    private static String round(double value) {
+        return String.format("%.1f", value);
+    }
+}
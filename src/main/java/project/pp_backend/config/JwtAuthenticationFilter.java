@@ -1,5 +1,6 @@
 package project.pp_backend.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +10,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import project.pp_backend.service.TokenRevocationService;
 
 import java.io.IOException;
 
@@ -16,21 +18,24 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
 
     /**
      * 이 필터는 Spring Security 설정(SecurityConfig)에서 생성자를 통해
-     * JwtTokenProvider를 주입받아 사용됩니다.
+     * JwtTokenProvider, TokenRevocationService를 주입받아 사용됩니다.
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         // 1. HTTP 헤더에서 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 유효성 검사 및 인증 처리
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰 유효성 검사 및 인증 처리 (서명 검증 / 클레임 파싱은 1번 - jti, 권한을 같은 클레임에서 조회)
+        // (로그아웃으로 폐기된 토큰 제외 - 로컬 Bloom Filter 에 걸린 경우에만 Redis 조회)
+        Claims claims = token != null ? jwtTokenProvider.verifyClaims(token) : null;
+        if (claims != null && !tokenRevocationService.isRevoked(claims.getId())) {
             // 3. 토큰에서 인증 객체를 얻어 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
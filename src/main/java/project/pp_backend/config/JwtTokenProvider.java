@@ -18,12 +18,14 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String DEVICE_ID_KEY = "did"; //로그인한 기기 ID (기기별 Refresh Token 세션)
     private static final String BEARER_TYPE = "Bearer";
     private final long ACCESS_TOKEN_EXPIRE_TIME;
     private final long REFRESH_TOKEN_EXPIRE_TIME;
@@ -31,23 +33,37 @@ public class JwtTokenProvider {
 
     private final CustomUserDetailsService customUserDetailsService;
 
+    //서명 검증(JWS 파싱) 소요 시간 - 유효성 검사 / 클레임 조회
+    private final LatencyMetrics.Recorder validateTimer;
+    private final LatencyMetrics.Recorder parseTimer;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-expiration-milliseconds}") long accessTokenExpireTime,
             @Value("${jwt.refresh-token-expiration-milliseconds}") long refreshTokenExpireTime,
-            CustomUserDetailsService customUserDetailsService
+            CustomUserDetailsService customUserDetailsService,
+            LatencyMetrics latencyMetrics
     ) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.ACCESS_TOKEN_EXPIRE_TIME = accessTokenExpireTime;
         this.REFRESH_TOKEN_EXPIRE_TIME = refreshTokenExpireTime;
         this.customUserDetailsService = customUserDetailsService;
+        this.validateTimer = latencyMetrics.timer("jwt.verify", "JWT 서명 검증 시간", "operation", "validate");
+        this.parseTimer = latencyMetrics.timer("jwt.verify", "JWT 서명 검증 시간", "operation", "parse");
     }
 
     /**
      * 1. Authentication 객체를 받아서 토큰(Access/Refresh) 생성
      */
     public TokenDto.Response generateToken(Authentication authentication) {
+        return generateToken(authentication, null);
+    }
+
+    /**
+     * 1-1. 기기 ID 를 포함한 토큰(Access/Refresh) 생성 - 두 토큰 모두에 기기 ID 클레임 저장
+     */
+    public TokenDto.Response generateToken(Authentication authentication, String deviceId) {
         //1. 권한 정보 가져오기 (ROLE_USER, ROLE_ADMIN)
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -58,13 +74,16 @@ public class JwtTokenProvider {
         //2. Access Token 생성
         String accessToken = Jwts.builder()
                 .setSubject(authentication.getName()) // Principal(주체) 이름 (예: username 또는 ID)
+                .setId(UUID.randomUUID().toString())  // 토큰 ID (jti) - 로그아웃 시 폐기 대상 식별
                 .claim(AUTHORITIES_KEY, authorities)  // Payload에 권한 정보 저장
+                .claim(DEVICE_ID_KEY, deviceId)       // 기기 ID (null 이면 저장되지 않음)
                 .setExpiration(new Date(now + ACCESS_TOKEN_EXPIRE_TIME)) // 만료 시간 설정
                 .signWith(key, SignatureAlgorithm.HS512) // 시그니처 생성
                 .compact();
 
         // 3. Refresh Token 생성
         String refreshToken = Jwts.builder()
+                .claim(DEVICE_ID_KEY, deviceId)
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
@@ -74,6 +93,7 @@ public class JwtTokenProvider {
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .accessTokenExpiresIn(ACCESS_TOKEN_EXPIRE_TIME)
+                .deviceId(deviceId)
                 .build();
     }
 
@@ -81,10 +101,14 @@ public class JwtTokenProvider {
      * 2. JWT 토큰을 복호화하여 인증 객체(Authentication)를 생성합니다.
      */
     public Authentication getAuthentication(String accessToken) {
-
         // 1. 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    /**
+     * 2-1. 이미 검증한 클레임으로 인증 객체 생성 (verifyClaims 결과 재사용 - 서명 검증을 다시 하지 않음)
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -104,27 +128,60 @@ public class JwtTokenProvider {
 
     /**
      * 3. 토큰의 유효성을 검증합니다.
+     * (요청마다 실행되는 경로 - 실패 시 스택 트레이스 없이 메시지만 기록, 만료는 정상 흐름이므로 DEBUG)
      */
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    /**
+     * 3-1. 토큰 검증 + 클레임 조회를 파싱 1번으로 (유효하지 않으면 null)
+     * - 인증 경로(JwtAuthenticationFilter, STOMP CONNECT)는 이 결과로 jti / 권한을 모두 꺼냄 -> 요청당 HMAC 검증 1번
+     */
+    public Claims verifyClaims(String token) {
+        long startedAt = System.nanoTime();
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .setSigningKey(key)
                     .build()
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명입니다.", e);
+            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 토큰입니다.", e);
+            log.debug("만료된 JWT 토큰입니다: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰입니다.", e);
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못되었습니다.", e);
+            log.debug("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+        } finally {
+            validateTimer.recordSince(startedAt);
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * 4. 토큰에 저장된 기기 ID (없으면 null, 만료된 토큰도 조회 가능)
+     */
+    public String getDeviceId(String token) {
+        Object deviceId = parseClaims(token).get(DEVICE_ID_KEY);
+        return deviceId == null ? null : deviceId.toString();
+    }
+
+    /**
+     * 5. 토큰 ID(jti)와 만료 시각 (폐기 처리용, 만료된 토큰도 조회 가능)
+     */
+    public String getTokenId(String token) {
+        return parseClaims(token).getId();
+    }
+
+    public long getExpiration(String token) {
+        Date expiration = parseClaims(token).getExpiration();
+        return expiration == null ? 0 : expiration.getTime();
     }
 
     private Claims parseClaims(String accessToken) {
+        long startedAt = System.nanoTime();
         try {
             return Jwts.parser()
                     .setSigningKey(key)
@@ -134,6 +191,8 @@ public class JwtTokenProvider {
         } catch (ExpiredJwtException e) {
             // 만료된 토큰이어도 클레임은 추출 가능 (재발급 등에 사용)
             return e.getClaims();
+        } finally {
+            parseTimer.recordSince(startedAt);
         }
     }
 }
@@ -0,0 +1,166 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 지연 시간 측정 Timer 관리 + 상세 히스토그램(Prometheus histogram bucket) 실행 중 전환
+ * - 상세 히스토그램 대상: HTTP 요청(http.server.requests), STOMP 브로드캐스트, JWT 검증, 인증 Redis 명령, 비밀번호 검증 대기 / BCrypt
+ * - 히스토그램 설정은 Timer 생성 시점에 정해지므로, 전환 시 대상 Timer 를 Registry 에서 지우고 다음 기록 때 다시 생성
+ *   (Recorder 는 세대 번호로 다시 생성 여부를 확인 -> 기록 경로는 volatile 읽기 1회 외 추가 할당 없음)
+ * - Hikari 커넥션 대기 시간(hikaricp.connections.acquire)은 풀 시작 시점의 설정을 사용
+ */
+@Slf4j
+@Component
+public class LatencyMetrics implements MeterFilter {
+
+    //상세 히스토그램 대상 (실행 중 전환 - 기록할 때마다 Registry 에서 찾거나 Recorder 를 사용하는 Timer)
+    private static final List<String> RUNTIME_HISTOGRAM_PREFIXES = List.of(
+            "http.server.requests", "stomp.", "jwt.", "auth.redis", "login.verify"
+    );
+    //상세 히스토그램 대상 (시작 시 설정만 반영 - Timer 를 직접 보관하는 라이브러리)
+    private static final List<String> STARTUP_HISTOGRAM_PREFIXES = List.of("hikaricp.connections.acquire");
+
+    private final Supplier<MeterRegistry> registry;
+    private volatile boolean detailedHistograms;
+    private volatile int generation;
+
+    @Autowired
+    public LatencyMetrics(
+            @Value("${metrics.detailed-histograms:false}") boolean detailedHistograms,
+            ObjectProvider<MeterRegistry> registry
+    ) {
+        this(detailedHistograms, registry::getObject);
+    }
+
+    private LatencyMetrics(boolean detailedHistograms, Supplier<MeterRegistry> registry) {
+        this.detailedHistograms = detailedHistograms;
+        this.registry = registry;
+    }
+
+    /**
+     * Spring 밖(벤치마크 등)에서 사용하는 기록하지 않는 인스턴스 (전역 Registry - 등록된 Registry 가 없으면 기록하지 않음)
+     */
+    public static LatencyMetrics noop() {
+        return new LatencyMetrics(false, () -> Metrics.globalRegistry);
+    }
+
+    /**
+     * 1. Timer 생성 (같은 이름/태그는 Registry 에서 같은 Timer 를 반환)
+     */
+    public Recorder timer(String name, String description, String... tags) {
+        return new Recorder(this, name, description, Tags.of(tags));
+    }
+
+    /**
+     * 2. 상세 히스토그램 전환 - 대상 Timer 를 지우고 다음 기록 때 새 설정으로 다시 생성
+     */
+    public synchronized void setDetailedHistograms(boolean detailedHistograms) {
+        if (this.detailedHistograms == detailedHistograms) {
+            return;
+        }
+        this.detailedHistograms = detailedHistograms;
+
+        int removed = resetRuntimeMeters();
+        log.info("[LatencyMetrics] detailed histograms {} ({} meters reset)", detailedHistograms ? "enabled" : "disabled", removed);
+    }
+
+    /**
+     * 3. 지연 시간 Timer 초기화 (JIT 예열처럼 실제 요청이 아닌 기록을 지표에서 제외할 때) - 다음 기록 때 다시 생성
+     */
+    public synchronized int resetRuntimeMeters() {
+        MeterRegistry meterRegistry = registry.get();
+        List<Meter> meters = meterRegistry.getMeters().stream()
+                //Counter 는 보관해서 재사용하는 곳이 있으므로 Timer 만 대상 (히스토그램도 Timer 에만 적용)
+                .filter(meter -> meter instanceof Timer && matches(meter.getId().getName(), RUNTIME_HISTOGRAM_PREFIXES))
+                .toList();
+        meters.forEach(meterRegistry::remove);
+        generation++;
+        return meters.size();
+    }
+
+    public boolean isDetailedHistograms() {
+        return detailedHistograms;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        String name = id.getName();
+        if (!detailedHistograms
+                || !(matches(name, RUNTIME_HISTOGRAM_PREFIXES) || matches(name, STARTUP_HISTOGRAM_PREFIXES))) {
+            return config;
+        }
+        return DistributionStatisticConfig.builder()
+                .percentilesHistogram(true)
+                .build()
+                .merge(config);
+    }
+
+    private static boolean matches(String name, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Timer 기록 (상세 히스토그램 전환 시 다음 기록에서 Timer 를 다시 생성)
+     */
+    public static final class Recorder {
+        private final LatencyMetrics metrics;
+        private final String name;
+        private final String description;
+        private final Tags tags;
+
+        private volatile Timer timer;
+        private volatile int generation = -1;
+
+        private Recorder(LatencyMetrics metrics, String name, String description, Tags tags) {
+            this.metrics = metrics;
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+        }
+
+        public void record(long nanos) {
+            timer().record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * System.nanoTime() 으로 받은 시작 시각부터 지금까지 기록
+         */
+        public void recordSince(long startedAtNanos) {
+            record(System.nanoTime() - startedAtNanos);
+        }
+
+        private Timer timer() {
+            int current = metrics.generation;
+            Timer timer = this.timer;
+            if (timer == null || generation != current) {
+                timer = Timer.builder(name)
+                        .description(description)
+                        .tags(tags)
+                        .register(metrics.registry.get());
+                this.timer = timer;
+                this.generation = current;
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샘플링 / 초당 건수 제한으로 버린 로그 수 지표 (logging.events.suppressed)
+ */
+@Component
+public class LogSamplingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.suppressed", this, metrics -> LogSamplingTurboFilter.getSuppressedCount())
+                .description("샘플링 / 초당 건수 제한으로 기록하지 않은 로그 수")
+                .register(registry);
+    }
+}
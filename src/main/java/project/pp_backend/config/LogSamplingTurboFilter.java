@@ -0,0 +1,129 @@
+package project.pp_backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거(카테고리)별 로그 샘플링 + 초당 건수 제한 (logback-spring.xml 의 turboFilter)
+ * - 메시지 포맷/이벤트 생성 전에 실행 -> 버려지는 로그는 문자열/이벤트 객체를 만들지 않음
+ * - ERROR 는 항상 기록, 설정된 카테고리(로거 이름 접두사)의 WARN 이하만 대상
+ * - 설정 예: &lt;category&gt;project.pp_backend.config.JwtTokenProvider sample=1 limit=20&lt;/category&gt;
+ *   sample=N : N 건 중 1 건만 기록 / limit=M : 초당 최대 M 건 (0 -> 제한 없음)
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SUPPRESSED = new LongAdder();
+
+    private final List<Category> categories = new ArrayList<>();
+    private final Map<String, Category> categoryByLogger = new ConcurrentHashMap<>();
+
+    /**
+     * Joran 설정 (category 요소마다 호출): "{로거 이름 접두사} sample={N} limit={M}"
+     */
+    public void addCategory(String definition) {
+        String[] tokens = definition.trim().split("\\s+");
+        int sampleEvery = 1;
+        int limitPerSecond = 0;
+        for (int i = 1; i < tokens.length; i++) {
+            String[] option = tokens[i].split("=", 2);
+            if (option.length != 2) {
+                addError("Invalid log sampling option: " + tokens[i]);
+                continue;
+            }
+            switch (option[0]) {
+                case "sample" -> sampleEvery = Math.max(1, Integer.parseInt(option[1]));
+                case "limit" -> limitPerSecond = Math.max(0, Integer.parseInt(option[1]));
+                default -> addError("Unknown log sampling option: " + option[0]);
+            }
+        }
+        categories.add(new Category(tokens[0], sampleEvery, limitPerSecond));
+        //긴 접두사(더 구체적인 카테고리)부터 비교
+        categories.sort(Comparator.comparingInt((Category category) -> category.prefix.length()).reversed());
+        categoryByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        //isDebugEnabled() 등 레벨 확인 호출(메시지 없음)은 집계하지 않음
+        if (!isStarted() || level.levelInt >= Level.ERROR_INT || (format == null && t == null)) {
+            return FilterReply.NEUTRAL;
+        }
+        //레벨이 꺼져 있으면 어차피 기록되지 않음
+        if (level.levelInt < logger.getEffectiveLevel().levelInt) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Category category = categoryByLogger.get(logger.getName());
+        if (category == null) {
+            category = categoryByLogger.computeIfAbsent(logger.getName(), this::resolve);
+        }
+        if (category == Category.NONE || category.allow()) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPPRESSED.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * 샘플링 / 건수 제한으로 버린 로그 수 (전체 카테고리 합계)
+     */
+    public static long getSuppressedCount() {
+        return SUPPRESSED.sum();
+    }
+
+    private Category resolve(String loggerName) {
+        for (Category category : categories) {
+            if (loggerName.startsWith(category.prefix)) {
+                return category;
+            }
+        }
+        return Category.NONE;
+    }
+
+    private static final class Category {
+        static final Category NONE = new Category("", 1, 0);
+
+        private final String prefix;
+        private final int sampleEvery;
+        private final int limitPerSecond;
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong windowSecond = new AtomicLong();
+        private final AtomicInteger windowCount = new AtomicInteger();
+
+        Category(String prefix, int sampleEvery, int limitPerSecond) {
+            this.prefix = prefix;
+            this.sampleEvery = sampleEvery;
+            this.limitPerSecond = limitPerSecond;
+        }
+
+        boolean allow() {
+            //1. 샘플링 (N 건 중 1 건)
+            if (sampleEvery > 1 && sequence.getAndIncrement() % sampleEvery != 0) {
+                return false;
+            }
+            //2. 초당 건수 제한 (1초 고정 구간)
+            if (limitPerSecond <= 0) {
+                return true;
+            }
+            long second = System.currentTimeMillis() / 1000;
+            long window = windowSecond.get();
+            if (window != second && windowSecond.compareAndSet(window, second)) {
+                windowCount.set(0);
+            }
+            return windowCount.incrementAndGet() <= limitPerSecond;
+        }
+    }
+}
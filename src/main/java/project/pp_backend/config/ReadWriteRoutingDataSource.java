@@ -0,0 +1,137 @@
+package project.pp_backend.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 DB 라우팅 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)) -> 사용 가능한 복제본을 차례로(round-robin) 선택
+ * - 그 외(쓰기, 트랜잭션 없음) -> 주 DB
+ * - 사용 가능한 복제본이 없거나(복제 지연 초과, 장애) 연결에 실패하면 주 DB 로 대체
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 실행 시점에 연결을 얻도록 사용한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final DataSource primary;
+    @Getter
+    private final List<Replica> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Getter
+    private final LongAdder primaryConnections = new LongAdder();
+    @Getter
+    private final LongAdder replicaConnections = new LongAdder();
+    //읽기 전용이지만 주 DB 로 대체된 연결 수
+    @Getter
+    private final LongAdder fallbackConnections = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        //1. 쓰기 / 트랜잭션 없음 -> 주 DB
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return connect(primary, username, password);
+        }
+
+        //2. 읽기 전용 -> 사용 가능한 복제본 (연결 실패 시 다음 복제본)
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            try {
+                Connection connection = connect(replica.getDataSource(), username, password);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown("connection failed: " + e.getMessage());
+            }
+        }
+
+        //3. 사용 가능한 복제본 없음 -> 주 DB 로 대체
+        fallbackConnections.increment();
+        return connect(primary, username, password);
+    }
+
+    private Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    //커넥션 풀 종료
+    @Override
+    public void destroy() throws Exception {
+        close(primary);
+        for (Replica replica : replicas) {
+            close(replica.getDataSource());
+        }
+    }
+
+    private void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 복제본 DB - 사용 가능 여부와 마지막으로 확인한 복제 지연
+     */
+    @Getter
+    public static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+        private volatile long lagSeconds;
+        private volatile String downReason;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public void markUp(long lagSeconds) {
+            this.lagSeconds = lagSeconds;
+            if (!available) {
+                log.info("[Replica] {} is available again (lag {}s)", name, lagSeconds);
+            }
+            this.downReason = null;
+            this.available = true;
+        }
+
+        public void markDown(String reason) {
+            if (available) {
+                log.warn("[Replica] {} excluded from reads: {}", name, reason);
+            }
+            this.downReason = reason;
+            this.available = false;
+        }
+    }
+}
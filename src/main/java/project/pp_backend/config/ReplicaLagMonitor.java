@@ -0,0 +1,76 @@
+package project.pp_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 복제본 DB 복제 지연 확인
+ * - 주기마다 복제본별로 지연 확인 쿼리 실행 (기본값: SHOW REPLICA STATUS 의 Seconds_Behind_Source)
+ * - 지연 초과 / 복제 중단(NULL) / 연결 실패 -> 읽기 대상에서 제외, 다시 정상이 되면 포함
+ * - lag-query 를 비우면 연결 확인만 수행
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<ReadWriteRoutingDataSource.Replica> replicas;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final String lagColumn;
+
+    public ReplicaLagMonitor(List<ReadWriteRoutingDataSource.Replica> replicas, long maxLagSeconds,
+                             String lagQuery, String lagColumn) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-milliseconds:2000}")
+    public void checkReplicas() {
+        for (ReadWriteRoutingDataSource.Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(ReadWriteRoutingDataSource.Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            //1. 연결 확인만 수행
+            if (!StringUtils.hasText(lagQuery)) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markUp(0);
+                } else {
+                    replica.markDown("connection is not valid");
+                }
+                return;
+            }
+
+            //2. 복제 지연 확인
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    replica.markDown("replication is not configured");
+                    return;
+                }
+                long lag = resultSet.getLong(lagColumn);
+                if (resultSet.wasNull()) {
+                    replica.markDown("replication is stopped");
+                } else if (lag > maxLagSeconds) {
+                    replica.markDown("lag " + lag + "s > " + maxLagSeconds + "s");
+                } else {
+                    replica.markUp(lag);
+                }
+            }
+        } catch (SQLException e) {
+            replica.markDown("lag check failed: " + e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package project.pp_backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import project.pp_backend.service.TokenRevocationService;
 
 /**
  * RESTful API Backend 용
@@ -26,11 +30,14 @@ public class SecurityConfig {
             "/ws-stomp/**", //WebSocket 연결 엔드포인트
             "/api/auth/**", //인증 엔드포인트
             "/api/members/register",
-            "/api/test/**"
+            "/api/members/availability", //회원가입 폼의 username / nickname / email 사용 가능 여부
+            "/api/test/**",
+            "/livez", "/readyz" //상태 확인 (API 포트: management.endpoint.health.probes.add-additional-paths)
     };
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     /*PasswordEncoder Bean 등록 - password 암호화 (방식 - BCryptPasswordEncoder)*/
     @Bean
@@ -60,6 +67,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests((authorizeRequests) ->
                         authorizeRequests
                                 .requestMatchers(PUBLIC_URLS).permitAll()
+                                // 상태 확인 / Prometheus 수집 (관리 포트는 127.0.0.1 에서만 열림: management.server.address)
+                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                                 // 관리자 API는 특정 권한 필요
                                 .requestMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
                                 // 나머지 /api/** 경로는 인증된 사용자만 접근 가능
@@ -71,7 +80,7 @@ public class SecurityConfig {
 
                 //5. JWT 필터 등록
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider), //필터 인스턴스 생성
+                        new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService), //필터 인스턴스 생성
                         UsernamePasswordAuthenticationFilter.class //Username/Password 로그인 필터보다 먼저 실행되도록 설정
                 );
 
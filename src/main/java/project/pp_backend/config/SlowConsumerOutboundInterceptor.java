@@ -0,0 +1,46 @@
+package project.pp_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import project.pp_backend.entity.MessageType;
+
+/**
+ * 서버 -> 클라이언트(Outbound) 채널 인터셉터
+ * 느린 세션으로 표시된 세션에는 CHAT 이외의 프레임(ENTER/LEAVE 알림)을 보내지 않아 전송 버퍼가 쌓이지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerOutboundInterceptor implements ChannelInterceptor {
+
+    //브로드캐스트 시 메시지 타입을 전달하는 STOMP 헤더 이름
+    public static final String MESSAGE_TYPE_HEADER = "message-type";
+
+    private final SlowConsumerRegistry slowConsumerRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (slowConsumerRegistry.getPolicy() != SlowConsumerRegistry.Policy.DROP_NON_CHAT) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (!slowConsumerRegistry.isSlow(sessionId)) {
+            return message;
+        }
+
+        //CHAT 프레임(또는 타입 정보가 없는 프레임)은 그대로 전송
+        String messageType = NativeMessageHeaderAccessor.getFirstNativeHeader(MESSAGE_TYPE_HEADER, message.getHeaders());
+        if (messageType == null || MessageType.CHAT.name().equals(messageType)) {
+            return message;
+        }
+
+        //ENTER/LEAVE 프레임 폐기
+        slowConsumerRegistry.recordDroppedFrame(sessionId);
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package project.pp_backend.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 WebSocket 세션(Slow Consumer) 레지스트리
+ * - 실제 전송(sendMessage)에 걸린 시간이 임계값을 넘으면 해당 세션을 '느린 세션'으로 표시
+ * - 느린 세션으로 표시된 세션만 Map 에 보관하므로, 정상 세션 수와 무관하게 메모리 사용량이 일정함
+ * - 관리자 API(/api/admin/websocket/slow-sessions)에서 조회
+ */
+@Slf4j
+@Component
+public class SlowConsumerRegistry {
+
+    /**
+     * 느린 세션 처리 정책
+     * DROP_NON_CHAT : 느린 세션에는 CHAT 이외의 프레임(ENTER/LEAVE)을 전송하지 않음
+     * DISCONNECT : 느린 세션으로 판정되는 즉시 연결 종료
+     */
+    public enum Policy {
+        DROP_NON_CHAT,
+        DISCONNECT
+    }
+
+    @Getter
+    private final Policy policy;
+    private final long slowSendThresholdNanos;
+
+    //느린 세션으로 표시된 세션만 보관 (sessionId -> 통계)
+    private final Map<String, SlowSession> slowSessions = new ConcurrentHashMap<>();
+
+    //전체 누적 지표
+    private final LongAdder slowSendCount = new LongAdder();
+    private final LongAdder droppedFrameCount = new LongAdder();
+    private final LongAdder disconnectedSessionCount = new LongAdder();
+
+    public SlowConsumerRegistry(
+            @Value("${websocket.slow-consumer.policy:DROP_NON_CHAT}") Policy policy,
+            @Value("${websocket.slow-consumer.slow-send-threshold-milliseconds:1000}") long slowSendThresholdMillis
+    ) {
+        this.policy = policy;
+        this.slowSendThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowSendThresholdMillis);
+    }
+
+    /**
+     * 실제 전송 1회의 소요 시간을 기록
+     * @return : 이번 전송으로 '새롭게' 느린 세션으로 판정되었는지 여부
+     */
+    public boolean recordSend(String sessionId, long elapsedNanos) {
+        //1. 임계값 이상 -> 느린 세션으로 표시
+        if (elapsedNanos >= slowSendThresholdNanos) {
+            slowSendCount.increment();
+            boolean[] created = new boolean[1];
+            SlowSession slowSession = slowSessions.computeIfAbsent(sessionId, id -> {
+                created[0] = true;
+                return new SlowSession(id);
+            });
+            slowSession.record(elapsedNanos);
+            if (created[0]) {
+                log.warn("[SLOW CONSUMER] session {} flagged as slow ({} ms)", sessionId, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+            return created[0];
+        }
+
+        //2. 임계값의 절반 미만으로 회복 -> 표시 해제
+        if (elapsedNanos < slowSendThresholdNanos / 2 && !slowSessions.isEmpty()) {
+            slowSessions.remove(sessionId);
+        }
+        return false;
+    }
+
+    public boolean isSlow(String sessionId) {
+        return sessionId != null && slowSessions.containsKey(sessionId);
+    }
+
+    public void recordDroppedFrame(String sessionId) {
+        droppedFrameCount.increment();
+        SlowSession slowSession = slowSessions.get(sessionId);
+        if (slowSession != null) {
+            slowSession.droppedFrames.increment();
+        }
+    }
+
+    public void recordDisconnect(String sessionId) {
+        disconnectedSessionCount.increment();
+        slowSessions.remove(sessionId);
+    }
+
+    //연결 종료 시 정리
+    public void remove(String sessionId) {
+        slowSessions.remove(sessionId);
+    }
+
+    public Iterable<SlowSession> getSlowSessions() {return slowSessions.values();}
+    public int getSlowSessionCount() {return slowSessions.size();}
+    public long getSlowSendCount() {return slowSendCount.sum();}
+    public long getDroppedFrameCount() {return droppedFrameCount.sum();}
+    public long getDisconnectedSessionCount() {return disconnectedSessionCount.sum();}
+
+
+    /**
+     * 느린 세션 1개의 통계
+     */
+    @Getter
+    public static class SlowSession {
+        private final String sessionId;
+        private final long flaggedAt = System.currentTimeMillis();
+        private final LongAdder slowSends = new LongAdder();
+        private final LongAdder droppedFrames = new LongAdder();
+        private volatile long maxSendNanos;
+        private volatile long lastSlowSendAt;
+
+        SlowSession(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        void record(long elapsedNanos) {
+            slowSends.increment();
+            lastSlowSendAt = System.currentTimeMillis();
+            if (elapsedNanos > maxSendNanos) {
+                maxSendNanos = elapsedNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package project.pp_backend.config;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * 세션별 '실제 전송 시간'을 측정하기 위한 WebSocketHandler 데코레이터
+ * - SubProtocolWebSocketHandler 는 전달받은 세션을 ConcurrentWebSocketSessionDecorator(버퍼/시간 제한)로 다시 감싸므로,
+ *   여기서 감싼 세션의 sendMessage 는 버퍼를 거친 뒤 네트워크에 실제로 쓰는 구간만 측정하게 된다.
+ */
+public class SlowConsumerWebSocketHandler extends WebSocketHandlerDecorator {
+
+    private final SlowConsumerRegistry slowConsumerRegistry;
+
+    public SlowConsumerWebSocketHandler(WebSocketHandler delegate, SlowConsumerRegistry slowConsumerRegistry) {
+        super(delegate);
+        this.slowConsumerRegistry = slowConsumerRegistry;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(new TimedSession(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        //버퍼/전송 시간 제한 초과로 종료된 세션 (ConcurrentWebSocketSessionDecorator 의 TERMINATE 정책)
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+            slowConsumerRegistry.recordDisconnect(session.getId());
+        } else {
+            slowConsumerRegistry.remove(session.getId());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+
+    /**
+     * 전송 시간을 측정하는 세션 데코레이터
+     */
+    private class TimedSession extends WebSocketSessionDecorator {
+
+        TimedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                boolean flagged = slowConsumerRegistry.recordSend(getId(), System.nanoTime() - start);
+
+                //DISCONNECT 정책: 느린 세션으로 판정되면 즉시 종료 (서버 메모리에 쌓이기 전에 끊는다)
+                if (flagged && slowConsumerRegistry.getPolicy() == SlowConsumerRegistry.Policy.DISCONNECT) {
+                    close(CloseStatus.SESSION_NOT_RELIABLE);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package project.pp_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 메시지 1건의 SQL 실행 수 집계 (Inbound Channel)
+ * - @MessageMapping 처리(SimpAnnotationMethodMessageHandler) 만 집계 - 브로커 전달은 SQL 을 실행하지 않음
+ * - 통계 키: "STOMP {목적지}" (숫자 경로는 {id} 로 치환)
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            sqlStatementMonitor.begin(endpoint(message));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            //같은 스레드에서 beforeHandle 이 연 범위
+            SqlStatementCounter.Scope scope = SqlStatementCounter.current();
+            sqlStatementMonitor.end(scope, endpoint(message));
+        }
+    }
+
+    private String endpoint(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return "STOMP " + SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        }
+        return "STOMP " + NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+}
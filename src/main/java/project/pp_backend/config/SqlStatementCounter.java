@@ -0,0 +1,132 @@
+package project.pp_backend.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 요청(HTTP / STOMP 메시지) 단위 SQL 실행 수 집계
+ * - DataSource 에서 SQL 을 실행할 때마다 (SqlStatementDataSource - Hibernate / JdbcTemplate 모두) 현재 스레드의 범위(Scope)에 기록
+ * - 범위는 중첩 가능 (테스트 범위 안에서 HTTP 요청 범위가 열려도 두 범위 모두에 기록)
+ * - 파라미터 값만 다른 SQL 은 같은 형태로 묶어서 반복 횟수 집계 -> N+1 의심 판별
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * 1. 집계 범위 시작 (try-with-resources 로 닫기)
+     */
+    public static Scope begin(String name) {
+        Scope scope = new Scope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드의 가장 안쪽 범위 (없으면 null)
+     */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 2. SQL 1건 기록 - 열려 있는 모든 범위에 반영
+     */
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = normalize(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.add(shape);
+        }
+    }
+
+    /**
+     * SQL 형태 - 주석 제거, 리터럴 / IN 목록을 ? 로 치환, 공백 정리
+     */
+    public static String normalize(String sql) {
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final String name;
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int statementCount;
+        private boolean closed;
+
+        private Scope(String name, Scope parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        private void add(String shape) {
+            statementCount++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * 실행된 SQL 형태 (실행 순서, 중복 제외)
+         */
+        public Set<String> getStatementShapes() {
+            return Collections.unmodifiableSet(shapes.keySet());
+        }
+
+        /**
+         * 같은 형태로 threshold 회 이상 실행된 SQL (N+1 의심) - SQL 형태 -> 실행 횟수
+         */
+        public Map<String, Integer> getRepeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.forEach((shape, count) -> {
+                if (count >= threshold) {
+                    repeated.put(shape, count);
+                }
+            });
+            return Collections.unmodifiableMap(repeated);
+        }
+
+        /**
+         * 범위 종료 - 바깥 범위를 다시 현재 범위로 (여러 번 호출해도 안전)
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package project.pp_backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요청 단위 SQL 실행 수 집계 (SqlStatementCounter) - DataSource 에서 실행되는 모든 SQL
+ * - Hibernate / JdbcTemplate (RoomMemberRepositoryCustom, 관리자 내보내기 등) 구분 없이 Statement 실행 시점에 기록
+ * - 기본 DataSource Bean("dataSource") 만 감쌈 (읽기/쓰기 라우팅 사용 시에도 JPA / JdbcTemplate 이 쓰는 @Primary Bean)
+ * - PreparedStatement 배치 실행(executeBatch)은 DB 왕복 1번 -> 1건으로 기록
+ */
+public class SqlStatementDataSource extends DelegatingDataSource {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlStatementDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * 기본 DataSource Bean 을 SqlStatementDataSource 로 교체
+     */
+    @Component
+    public static class Registrar implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof SqlStatementDataSource)) {
+                return new SqlStatementDataSource(dataSource);
+            }
+            return bean;
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    //prepareStatement / prepareCall / createStatement 결과를 기록하는 Statement 로 감쌈
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatementDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && STATEMENT_METHODS.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    //실행 시점에 기록 (PreparedStatement 는 준비한 SQL, Statement 는 실행 / 배치에 추가한 SQL)
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final List<String> batch = new ArrayList<>();
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("addBatch".equals(name) && args != null && args.length == 1 && args[0] instanceof String sql) {
+                batch.add(sql);
+            } else if (EXECUTE_METHODS.contains(name)) {
+                record(args);
+            }
+            return SqlStatementDataSource.invoke(target, method, args);
+        }
+
+        private void record(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                SqlStatementCounter.record(sql);
+            } else if (preparedSql != null) {
+                SqlStatementCounter.record(preparedSql);
+            } else if (!batch.isEmpty()) {
+                batch.forEach(SqlStatementCounter::record);
+                batch.clear();
+            }
+        }
+    }
+}
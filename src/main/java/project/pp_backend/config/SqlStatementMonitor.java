@@ -0,0 +1,189 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.pp_backend.dto.SqlDto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청(HTTP API / STOMP 메시지) 별 SQL 실행 수 통계
+ * - SqlStatementFilter / SqlStatementChannelInterceptor 가 요청마다 범위를 열고 닫음
+ * - 실행 수가 예산(request-budget)을 넘거나 같은 형태의 SQL 이 반복되면(N+1 의심) 경고 로그
+ * - 통계 키는 URL 패턴 / STOMP 목적지 패턴 (ID 값이 들어가지 않도록)
+ * - 같은 통계를 Micrometer 지표로도 기록 (endpoint 태그): sql.statements.per.request (요청별 실행 수 분포),
+ *   sql.statements.over.budget / sql.statements.suspected.n.plus.one (건수)
+ */
+@Slf4j
+@Component
+public class SqlStatementMonitor {
+
+    private final boolean enabled;
+    private final int requestBudget;
+    private final int repeatThreshold;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final Map<String, Stats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public SqlStatementMonitor(
+            @Value("${sql.monitor.enabled:true}") boolean enabled,
+            @Value("${sql.monitor.request-budget:20}") int requestBudget,
+            @Value("${sql.monitor.repeat-threshold:3}") int repeatThreshold,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.requestBudget = requestBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 1. 집계 시작 (비활성화 상태이면 null)
+     */
+    public SqlStatementCounter.Scope begin(String name) {
+        return enabled ? SqlStatementCounter.begin(name) : null;
+    }
+
+    /**
+     * 2. 집계 종료 + 통계 반영
+     * @param endpoint : 통계 키 (예: "GET /api/rooms/{roomId}", "STOMP /pub/chat/message")
+     */
+    public void end(SqlStatementCounter.Scope scope, String endpoint) {
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        int statementCount = scope.getStatementCount();
+        Map<String, Integer> repeated = scope.getRepeatedStatements(repeatThreshold);
+        boolean overBudget = requestBudget > 0 && statementCount > requestBudget;
+
+        Stats stats = statsByEndpoint.computeIfAbsent(endpoint, key -> new Stats(key, meterRegistry.getIfAvailable()));
+        stats.executions.increment();
+        stats.statements.add(statementCount);
+        stats.maxStatements.accumulate(statementCount);
+        if (stats.meters != null) {
+            stats.meters.statementsPerRequest.record(statementCount);
+        }
+        if (overBudget) {
+            stats.overBudgetCount.increment();
+            if (stats.meters != null) {
+                stats.meters.overBudget.increment();
+            }
+            log.warn("[SqlStatement] {} executed {} statements (budget {})", endpoint, statementCount, requestBudget);
+        }
+        if (!repeated.isEmpty()) {
+            stats.suspectedNPlusOneCount.increment();
+            if (stats.meters != null) {
+                stats.meters.suspectedNPlusOne.increment();
+            }
+            Map.Entry<String, Integer> worst = repeated.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElseThrow();
+            stats.lastSuspectedStatement = worst.getKey();
+            log.warn("[SqlStatement] suspected N+1 in {}: {} times - {}", endpoint, worst.getValue(), worst.getKey());
+        }
+    }
+
+    public SqlDto.StatsResponse getStats() {
+        List<SqlDto.EndpointStats> endpoints = statsByEndpoint.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingLong(SqlDto.EndpointStats::getTotalStatements).reversed())
+                .toList();
+        return new SqlDto.StatsResponse(enabled, requestBudget, repeatThreshold, endpoints);
+    }
+
+    public Map<String, Stats> getStatsByEndpoint() {
+        return statsByEndpoint;
+    }
+
+    public int getRequestBudget() {
+        return requestBudget;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /**
+     * 요청 1종(통계 키)의 누적 통계
+     */
+    public static class Stats {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder overBudgetCount = new LongAdder();
+        private final LongAdder suspectedNPlusOneCount = new LongAdder();
+        private volatile String lastSuspectedStatement;
+        private final Meters meters; //MeterRegistry 가 없으면 null
+
+        private Stats(String endpoint, MeterRegistry registry) {
+            this.meters = registry != null ? new Meters(endpoint, registry) : null;
+        }
+
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getOverBudgetCount() {
+            return overBudgetCount.sum();
+        }
+
+        public long getSuspectedNPlusOneCount() {
+            return suspectedNPlusOneCount.sum();
+        }
+
+        private SqlDto.EndpointStats toDto(String endpoint) {
+            long executions = getExecutions();
+            long statements = getStatements();
+            return new SqlDto.EndpointStats(
+                    endpoint,
+                    executions,
+                    statements,
+                    executions == 0 ? 0.0 : (double) statements / executions,
+                    getMaxStatements(),
+                    getOverBudgetCount(),
+                    getSuspectedNPlusOneCount(),
+                    lastSuspectedStatement
+            );
+        }
+    }
+
+    //요청 1종(endpoint 태그)의 Micrometer 지표
+    private static final class Meters {
+        private final DistributionSummary statementsPerRequest;
+        private final Counter overBudget;
+        private final Counter suspectedNPlusOne;
+
+        private Meters(String endpoint, MeterRegistry registry) {
+            this.statementsPerRequest = DistributionSummary.builder("sql.statements.per.request")
+                    .description("SQL statements executed per HTTP request / STOMP message")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            this.overBudget = Counter.builder("sql.statements.over.budget")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            this.suspectedNPlusOne = Counter.builder("sql.statements.suspected.n.plus.one")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package project.pp_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 빠른 시작 설정 (prod 프로필: spring.main.lazy-initialization=true)
+ * - 요청을 처리할 때 필요한 Bean (컨트롤러 / 서비스 등) 은 처음 사용할 때 생성
+ * - 시작 직후부터 동작해야 하는 Bean 은 바로 생성
+ *   (@Scheduled 주기 작업, @PostConstruct 의 Redis Pub/Sub 구독 - 지연 생성하면 누군가 사용하기 전까지 등록되지 않음)
+ * - 지연 생성된 나머지 Bean 은 StartupWarmup 이 트래픽을 받기(readiness) 전에 백그라운드에서 생성
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter startupWorkBeans() {
+        return (beanName, beanDefinition, beanType) -> hasStartupWork(beanType);
+    }
+
+    static boolean hasStartupWork(Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(beanType))) {
+            if (method.isAnnotationPresent(PostConstruct.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
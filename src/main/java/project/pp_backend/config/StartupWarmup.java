@@ -0,0 +1,166 @@
+package project.pp_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import project.pp_backend.dto.StartupDto;
+import project.pp_backend.repository.MemberRepository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 후 준비 작업 - 끝나기 전까지 readiness 는 OUT_OF_SERVICE (management.endpoint.health.group.readiness)
+ * - 시작(ApplicationReadyEvent) 이후 별도 스레드에서 실행 -> 애플리케이션 시작 시간에는 포함되지 않음
+ * - 1. 지연 생성(lazy-initialization)된 Bean 생성 -> 2. JPA 초기화 완료 대기 + DB 커넥션 -> 3. Redis 커넥션
+ *   -> 4. JIT 예열 (JitWarmup)
+ * - 실패하면 대기 시간을 늘려가며 다시 시도 (DB / Redis 가 늦게 뜨는 경우) - 다시 시도하는 동안만 OUT_OF_SERVICE,
+ *   모두 실패하면 DOWN
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements HealthIndicator {
+
+    private static final String WARMUP_USERNAME = "__startup_warmup__";
+    private static final String WARMUP_KEY = "startup:warmup";
+
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JitWarmup jitWarmup;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private volatile State state = State.WARMING_UP;
+    private volatile long elapsedMillis;
+    private volatile int attempts;
+    private volatile String failure; //마지막 실패 원인
+
+    private enum State {
+        WARMING_UP, READY, FAILED
+    }
+
+    public StartupWarmup(
+            ConfigurableListableBeanFactory beanFactory,
+            MemberRepository memberRepository,
+            RedisTemplate<String, String> redisTemplate,
+            JitWarmup jitWarmup,
+            @Value("${startup.warmup.enabled:true}") boolean enabled,
+            @Value("${startup.warmup.max-attempts:5}") int maxAttempts,
+            @Value("${startup.warmup.initial-backoff-milliseconds:1000}") long initialBackoffMillis,
+            @Value("${startup.warmup.max-backoff-milliseconds:30000}") long maxBackoffMillis
+    ) {
+        this.beanFactory = beanFactory;
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.jitWarmup = jitWarmup;
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = State.READY;
+            return;
+        }
+        Thread thread = new Thread(this::warmUpWithRetry, "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Health health() {
+        return switch (state) {
+            case WARMING_UP -> failure == null
+                    ? Health.outOfService().build()
+                    : Health.outOfService().withDetail("attempts", attempts).withDetail("lastError", failure).build();
+            case READY -> Health.up().withDetail("elapsedMillis", elapsedMillis).withDetail("attempts", attempts).build();
+            case FAILED -> Health.down().withDetail("attempts", attempts).withDetail("error", failure).build();
+        };
+    }
+
+    /**
+     * 준비 상태 + JIT 예열 전 / 후 지연 시간 (관리자 API)
+     */
+    public StartupDto.WarmupResponse getStatus() {
+        return new StartupDto.WarmupResponse(state.name(), elapsedMillis, attempts, failure, jitWarmup.getReport());
+    }
+
+    /**
+     * 준비 작업 실행 - 실패하면 initial-backoff 부터 2배씩 (최대 max-backoff) 기다린 뒤 다시 시도, max-attempts 회 모두 실패하면 FAILED
+     */
+    private void warmUpWithRetry() {
+        long startedAt = System.nanoTime();
+        long backoffMillis = initialBackoffMillis;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            attempts = attempt;
+            try {
+                int created = warmUp();
+                elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                state = State.READY;
+                log.info("[StartupWarmup] ready in {} ms after {} attempt(s) ({} lazy beans initialized)",
+                        elapsedMillis, attempt, created);
+                return;
+            } catch (Exception e) {
+                failure = e.getMessage();
+                if (attempt == maxAttempts) {
+                    //모두 실패 -> readiness DOWN (트래픽을 받지 않음)
+                    state = State.FAILED;
+                    log.error("[StartupWarmup] warm-up failed after {} attempts", attempt, e);
+                    return;
+                }
+                log.warn("[StartupWarmup] warm-up attempt {}/{} failed, retrying in {} ms: {}",
+                        attempt, maxAttempts, backoffMillis, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                state = State.FAILED;
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+        }
+    }
+
+    //준비 작업 1회 -> 생성한 지연 Bean 수
+    private int warmUp() {
+        //1. 지연 생성된 Bean 생성 (첫 요청에서 만들지 않도록)
+        int created = initializeLazyBeans();
+
+        //2. JPA (백그라운드 초기화) 완료 대기 + DB 커넥션 풀
+        memberRepository.existsByUsername(WARMUP_USERNAME);
+
+        //3. Redis 커넥션
+        redisTemplate.hasKey(WARMUP_KEY);
+
+        //4. JIT 예열 (로그인 / JWT / 직렬화 / STOMP 경로)
+        jitWarmup.run();
+        return created;
+    }
+
+    private int initializeLazyBeans() {
+        int created = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getMergedBeanDefinition(beanName);
+            if (definition.isSingleton() && !definition.isAbstract() && definition.isLazyInit()
+                    && !beanFactory.containsSingleton(beanName)) {
+                beanFactory.getBean(beanName);
+                created++;
+            }
+        }
+        return created;
+    }
+}
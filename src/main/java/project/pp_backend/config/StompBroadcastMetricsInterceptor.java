@@ -0,0 +1,67 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 -> 클라이언트(Outbound) 채팅방 브로드캐스트 전달 수 집계 (채팅방별 Counter: stomp.broadcast.deliveries)
+ * - 브로커가 구독 세션마다 보내는 MESSAGE 프레임 1건 = 전달 1회 (느린 세션에서 폐기된 프레임은 제외)
+ * - 목적지별 Counter 를 보관해서 재사용 -> 전달마다 태그/Counter 를 새로 만들지 않음
+ * - 채팅방 태그 수 제한 (max-room-tags 초과 시 room="other")
+ */
+@Component
+public class StompBroadcastMetricsInterceptor implements ChannelInterceptor {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    private static final String METRIC_NAME = "stomp.broadcast.deliveries";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRoomTags;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Counter otherRooms;
+
+    public StompBroadcastMetricsInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.stomp.max-room-tags:1000}") int maxRoomTags
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxRoomTags = maxRoomTags;
+        this.otherRooms = counter("other");
+    }
+
+    @Override
+    public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+        if (!sent || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        Counter counter = counters.get(destination);
+        if (counter == null) {
+            counter = counters.size() < maxRoomTags
+                    ? counters.computeIfAbsent(destination, key -> counter(key.substring(ROOM_DESTINATION_PREFIX.length())))
+                    : otherRooms;
+        }
+        counter.increment();
+    }
+
+    private Counter counter(String room) {
+        return Counter.builder(METRIC_NAME)
+                .description("채팅방 구독 세션에 전달한 메시지 수")
+                .tag("room", room)
+                .register(meterRegistry);
+    }
+}
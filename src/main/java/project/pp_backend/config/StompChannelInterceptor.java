@@ -1,5 +1,6 @@
 package project.pp_backend.config;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -10,11 +11,13 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import project.pp_backend.service.TokenRevocationService;
 
 import java.util.Optional;
 
 /**
  * STOMP 연결 시, JWT 토큰을 검증하고, SecurityContext 에 인증 정보를 설정하는 인터셉터
+ * (로그아웃으로 폐기된 Access Token 은 CONNECT 거부 - JwtAuthenticationFilter 와 같은 기준)
  */
 @Slf4j
 @Component
@@ -26,32 +29,31 @@ public class StompChannelInterceptor implements ChannelInterceptor {
     public static final String BEARER_ = "Bearer "; //AccessToken 선행 문자
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
 
-        log.info("🚨 [STOMP INTERCEPTOR] Message received. Command: {}", StompHeaderAccessor.wrap(message).getCommand());
+        //프레임마다 실행되는 경로 -> DEBUG + 인자 2개 이하 (레벨이 꺼져 있으면 할당 없음)
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
-        log.info("[test] accessor.getCommand(): {}", accessor.getCommand());
         if (!StompCommand.CONNECT.equals(accessor.getCommand())) {
-            log.info("[test] message: {}", message);
+            log.debug("[STOMP] {} frame received (session {})", accessor.getCommand(), accessor.getSessionId());
             return message;
         }
 
         Optional<String> jwtTokenOptional = Optional.ofNullable(accessor.getFirstNativeHeader(ACCESS_TOKEN_HEADER));
-        String jwtToken = jwtTokenOptional
+        Claims claims = jwtTokenOptional
                 .filter(token -> token.startsWith(BEARER_))
                 .map(token -> token.substring(BEARER_.length()))
-                .filter(token -> jwtTokenProvider.validateToken(token)) //토큰의 유효성(만료) 검증(T/F)
+                .map(jwtTokenProvider::verifyClaims) //토큰의 유효성(만료) 검증 + 클레임 조회 (파싱 1번)
+                .filter(verified -> !tokenRevocationService.isRevoked(verified.getId())) //로그아웃으로 폐기된 토큰 제외 (HTTP 필터와 같은 확인)
                 .orElseThrow(() -> new RuntimeException("Invalid token"));
-        log.info("[test] jwtToken: {}", jwtToken);
 
-        Authentication authentication = jwtTokenProvider.getAuthentication(jwtToken);
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
         accessor.setUser(authentication);
-        log.info("[test] accessor.getUser(): {}", accessor.getUser());
+        log.debug("[STOMP] CONNECT authenticated: {} (session {})", authentication.getName(), accessor.getSessionId());
 
-        log.info("[test] message: {}", message);
         return message;
     }
 
@@ -0,0 +1,29 @@
+package project.pp_backend.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 -> 서버(Inbound) SEND 프레임 수신 시각 기록
+ * - WebSocket 수신 스레드에서 실행 -> Inbound 스레드 풀 대기 시간까지 포함해서 브로드캐스트 지연 시간 측정 (StompChatController)
+ */
+@Component
+public class StompReceivedAtInterceptor implements ChannelInterceptor {
+
+    //수신 시각 (System.nanoTime) 메시지 헤더 이름
+    public static final String RECEIVED_AT_HEADER = "receivedAtNanos";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && accessor.isMutable() && StompCommand.SEND.equals(accessor.getCommand())) {
+            accessor.setHeader(RECEIVED_AT_HEADER, System.nanoTime());
+        }
+        return message;
+    }
+}
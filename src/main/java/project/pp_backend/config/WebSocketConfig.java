@@ -1,6 +1,7 @@
 package project.pp_backend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -10,6 +11,7 @@ import org.springframework.security.messaging.access.intercept.AuthorizationChan
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.security.messaging.context.SecurityContextChannelInterceptor;
 
 @Configuration
@@ -19,11 +21,36 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final String ENDPOINT = "/ws-stomp";
     private static final String SIMPLE_BROKER = "/sub";
+    //회원 개인 주소 (/user/queue/** -> 세션별 /queue/**-user{sessionId})
+    private static final String USER_QUEUE = "/queue";
     private static final String PUBLISH = "/pub";
 
     //STOMP 연결 시 JWT 인증을 위한 인터셉터 주입
     private final StompChannelInterceptor stompChannelInterceptor;
 
+    //공지 채팅방 구독은 SimpleBroker 대신 전용 구독자 목록에 등록
+    private final BroadcastSubscriptionInterceptor broadcastSubscriptionInterceptor;
+
+    //느린 세션(Slow Consumer) 감지 및 Outbound 프레임 제어
+    private final SlowConsumerRegistry slowConsumerRegistry;
+    private final SlowConsumerOutboundInterceptor slowConsumerOutboundInterceptor;
+
+    //메시지 처리 1건당 SQL 실행 수 집계
+    private final SqlStatementChannelInterceptor sqlStatementChannelInterceptor;
+
+    //브로드캐스트 지연 시간 / 채팅방별 전달 수 측정
+    private final StompReceivedAtInterceptor stompReceivedAtInterceptor;
+    private final StompBroadcastMetricsInterceptor stompBroadcastMetricsInterceptor;
+
+    //세션별 전송 제한 (한 세션이 서버 메모리/브로드캐스트 스레드를 붙잡지 않도록)
+    @Value("${websocket.transport.send-time-limit-milliseconds:10000}")
+    private int sendTimeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit-bytes:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit-bytes:65536}")
+    private int messageSizeLimit;
 
     /**
      * STOMP 메시지 브로커 설정
@@ -31,7 +58,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         //(클라이언트 -> 서버) 클라이언트가 구독할때 사용하는 주소(Prefix)
-        registry.enableSimpleBroker(SIMPLE_BROKER);
+        registry.enableSimpleBroker(SIMPLE_BROKER, USER_QUEUE);
         //(클라이언트 -> 서버) 클라이언트가 서버로 메시지를 보낼때 사용하는 prefix
         registry.setApplicationDestinationPrefixes(PUBLISH);
     }
@@ -53,7 +80,39 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        // [0단계: 측정] 수신 시각 기록 (Inbound 스레드 풀 대기 시간 포함)
+        registration.interceptors(stompReceivedAtInterceptor);
         // [1단계: 인증] JWT 검증 후 STOMP 세션에 Principal 저장
         registration.interceptors(stompChannelInterceptor);
+        // [2단계: 공지 채팅방 구독] 참가 여부 확인 후 전용 구독자 목록에 등록 (SimpleBroker 로 전달하지 않음)
+        registration.interceptors(broadcastSubscriptionInterceptor);
+        // [SQL 집계] @MessageMapping 처리 중 실행된 SQL 수 (N+1 감지)
+        registration.interceptors(sqlStatementChannelInterceptor);
+    }
+
+    /**
+     * 서버 -> 클라이언트 메시지 채널(Outbound Channel)에 인터셉터 등록
+     * 느린 세션에는 ENTER/LEAVE 프레임을 보내지 않음
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerOutboundInterceptor);
+        //느린 세션에서 폐기되지 않고 전달된 프레임만 채팅방별로 집계
+        registration.interceptors(stompBroadcastMetricsInterceptor);
+    }
+
+    /**
+     * WebSocket 전송 제한 설정
+     * - sendTimeLimit : 한 세션의 전송이 이 시간 이상 지연되면 세션 종료
+     * - sendBufferSizeLimit : 전송 대기 버퍼가 이 크기를 넘으면 세션 종료
+     * - 전송 시간 측정용 데코레이터를 등록하여 느린 세션을 레지스트리에 기록
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendTimeLimit(sendTimeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(handler -> new SlowConsumerWebSocketHandler(handler, slowConsumerRegistry));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,262 @@
+package project.pp_backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.config.SlowConsumerRegistry;
+import project.pp_backend.config.SqlStatementMonitor;
+import project.pp_backend.config.StartupWarmup;
+import project.pp_backend.dto.AdminDto;
+import project.pp_backend.dto.AuthDto;
+import project.pp_backend.dto.CacheDto;
+import project.pp_backend.dto.FriendShipDto;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.dto.MetricsDto;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.dto.SqlDto;
+import project.pp_backend.dto.StartupDto;
+import project.pp_backend.dto.TokenDto;
+import project.pp_backend.dto.WebSocketDto;
+import project.pp_backend.exception.DataNotFoundException;
+import project.pp_backend.service.AdminListingService;
+import project.pp_backend.service.EntityCacheService;
+import project.pp_backend.service.LoginRateLimiter;
+import project.pp_backend.service.MemberImportService;
+import project.pp_backend.service.MessageExportService;
+import project.pp_backend.service.PasswordVerifier;
+import project.pp_backend.service.TokenRevocationService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 전용 API (SecurityConfig: /api/admin/** -> ADMIN, SUPER_ADMIN)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminApiController {
+
+    private final SlowConsumerRegistry slowConsumerRegistry;
+    private final EntityCacheService entityCacheService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginRateLimiter loginRateLimiter;
+    private final MemberImportService memberImportService;
+    private final SqlStatementMonitor sqlStatementMonitor;
+    private final LatencyMetrics latencyMetrics;
+    private final StartupWarmup startupWarmup;
+    private final AdminListingService adminListingService;
+    private final MessageExportService messageExportService;
+
+    /**
+     * 1. 느린 WebSocket 세션 현황 조회
+     * GET - /api/admin/websocket/slow-sessions
+     */
+    @GetMapping("/websocket/slow-sessions")
+    public ResponseEntity<WebSocketDto.SlowConsumerResponse> getSlowSessions() {
+        List<WebSocketDto.SlowSessionResponse> sessions = new ArrayList<>();
+        for (SlowConsumerRegistry.SlowSession slowSession : slowConsumerRegistry.getSlowSessions()) {
+            sessions.add(new WebSocketDto.SlowSessionResponse(slowSession));
+        }
+
+        WebSocketDto.SlowConsumerResponse response = WebSocketDto.SlowConsumerResponse.builder()
+                .policy(slowConsumerRegistry.getPolicy())
+                .slowSessionCount(sessions.size())
+                .slowSendCount(slowConsumerRegistry.getSlowSendCount())
+                .droppedFrameCount(slowConsumerRegistry.getDroppedFrameCount())
+                .disconnectedSessionCount(slowConsumerRegistry.getDisconnectedSessionCount())
+                .sessions(sessions)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 2. 회원/채팅방 2차 캐시 적중률 조회
+     * GET - /api/admin/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheDto.StatsResponse> getCacheStats() {
+        return ResponseEntity.ok(entityCacheService.getStats());
+    }
+
+    /**
+     * 3. Access Token 폐기 확인 Bloom Filter 통계 (오탐률 / 메모리)
+     * GET - /api/admin/tokens/revocation/stats
+     */
+    @GetMapping("/tokens/revocation/stats")
+    public ResponseEntity<TokenDto.RevocationStatsResponse> getRevocationStats() {
+        return ResponseEntity.ok(tokenRevocationService.getStats());
+    }
+
+    /**
+     * 4. 로그인 처리 통계 (비밀번호 검증 대기열 / 검증 시간 / 빈도 제한)
+     * GET - /api/admin/auth/login-stats
+     */
+    @GetMapping("/auth/login-stats")
+    public ResponseEntity<AuthDto.LoginStatsResponse> getLoginStats() {
+        AuthDto.LoginStatsResponse response = AuthDto.LoginStatsResponse.builder()
+                .poolSize(passwordVerifier.getPoolSize())
+                .activeCount(passwordVerifier.getActiveCount())
+                .queueSize(passwordVerifier.getQueueSize())
+                .queueCapacity(passwordVerifier.getQueueCapacity())
+                .rejectedCount(passwordVerifier.getRejectedCount())
+                .expiredCount(passwordVerifier.getExpiredCount())
+                .timedOutCount(passwordVerifier.getTimedOutCount())
+                .queueWait(new AuthDto.TimerStats(passwordVerifier.getQueueWait()))
+                .hashTime(new AuthDto.TimerStats(passwordVerifier.getHashTime()))
+                .rateLimitAllowedCount(loginRateLimiter.getAllowedCount())
+                .rateLimitThrottledCount(loginRateLimiter.getThrottledCount())
+                .rateLimitRedisErrorCount(loginRateLimiter.getRedisErrorCount())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 5. 회원 일괄 등록 (CSV / NDJSON 업로드)
+     * POST - /api/admin/members/import
+     * - Content-Type: text/csv (첫 줄 헤더: username,password,nickname,email[,role]) 또는 application/x-ndjson
+     * - 응답: 행별 결과를 NDJSON 으로 처리되는 대로 전송, 마지막 줄은 요약 ({"summary":true,...})
+     */
+    @PostMapping(value = "/members/import", consumes = {"text/csv", "application/x-ndjson"})
+    public void importMembers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        memberImportService.importMembers(request.getInputStream(), csv, response.getOutputStream());
+    }
+
+    /**
+     * 6. 요청(HTTP API / STOMP 메시지)별 SQL 실행 수 통계 (예산 초과 / N+1 의심 횟수)
+     * GET - /api/admin/sql/stats
+     */
+    @GetMapping("/sql/stats")
+    public ResponseEntity<SqlDto.StatsResponse> getSqlStats() {
+        return ResponseEntity.ok(sqlStatementMonitor.getStats());
+    }
+
+    /**
+     * 7. 지연 시간 상세 히스토그램 조회 / 전환 (재시작 없이 적용)
+     * GET  - /api/admin/metrics/detailed-histograms
+     * POST - /api/admin/metrics/detailed-histograms?enabled=true
+     */
+    @GetMapping("/metrics/detailed-histograms")
+    public ResponseEntity<MetricsDto.HistogramResponse> getDetailedHistograms() {
+        return ResponseEntity.ok(new MetricsDto.HistogramResponse(latencyMetrics.isDetailedHistograms()));
+    }
+
+    @PostMapping("/metrics/detailed-histograms")
+    public ResponseEntity<MetricsDto.HistogramResponse> setDetailedHistograms(@RequestParam boolean enabled) {
+        latencyMetrics.setDetailedHistograms(enabled);
+        return ResponseEntity.ok(new MetricsDto.HistogramResponse(latencyMetrics.isDetailedHistograms()));
+    }
+
+    /**
+     * 8. 시작 후 준비(예열) 상태 + JIT 예열 전 / 후 작업별 지연 시간
+     * GET - /api/admin/startup/warmup
+     */
+    @GetMapping("/startup/warmup")
+    public ResponseEntity<StartupDto.WarmupResponse> getStartupWarmup() {
+        return ResponseEntity.ok(startupWarmup.getStatus());
+    }
+
+    /**
+     * 9. 채팅방 / 회원 / 친구 관계 목록 (id 순서 keyset 페이지)
+     * GET - /api/admin/rooms?afterId=&size=
+     * GET - /api/admin/members?afterId=&size=
+     * GET - /api/admin/friendships?afterId=&size=
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<AdminDto.PageResponse<RoomDto.Response>> getRooms(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(adminListingService.getRooms(afterId, size));
+    }
+
+    @GetMapping("/members")
+    public ResponseEntity<AdminDto.PageResponse<MemberDto.Response>> getMembers(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(adminListingService.getMembers(afterId, size));
+    }
+
+    @GetMapping("/friendships")
+    public ResponseEntity<AdminDto.PageResponse<FriendShipDto.Response>> getFriendShips(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(adminListingService.getFriendShips(afterId, size));
+    }
+
+    /**
+     * 10. 채팅방 / 회원 / 친구 관계 전체 내보내기 (NDJSON, id 순서로 한 줄에 1건)
+     * GET - /api/admin/{rooms|members|friendships}/export?afterId=
+     * - 조회하는 대로 전송 (전체 목록을 메모리에 만들지 않음), 중단되면 마지막으로 받은 id 를 afterId 로 다시 요청
+     */
+    @GetMapping("/{target}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String target,
+                                                        @RequestParam(required = false) Long afterId) {
+        StreamingResponseBody body = switch (target) {
+            case "rooms" -> out -> adminListingService.exportRooms(afterId, out);
+            case "members" -> out -> adminListingService.exportMembers(afterId, out);
+            case "friendships" -> out -> adminListingService.exportFriendShips(afterId, out);
+            default -> throw new DataNotFoundException("내보낼 수 없는 대상입니다: " + target);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 11. 채팅방 전체 대화 기록 내보내기 (오래된 순, gzip 압축 - 감사 / 보관용)
+     * GET - /api/admin/rooms/{roomId}/messages/export?format={ndjson|csv}&afterId={messageId}
+     * - 조회하는 대로 전송 (전체 목록을 메모리에 만들지 않음)
+     * - 중단되면 마지막으로 받은 메시지 ID 를 afterId 로 전달해서 이어받기
+     * - 노드당 동시 내보내기 수 / 관리자 1명당 1건 제한 (초과 시 429 + Retry-After)
+     */
+    @GetMapping("/rooms/{roomId}/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long afterId,
+            @AuthenticationPrincipal MemberDetails memberDetails) {
+        MessageExportService.Format exportFormat = MessageExportService.Format.from(format);
+        MessageExportService.Position after = messageExportService.findStart(roomId, afterId);
+
+        String username = memberDetails.getUsername();
+        messageExportService.acquire(username);
+        StreamingResponseBody body = out -> {
+            try {
+                messageExportService.export(roomId, after, exportFormat, out);
+            } finally {
+                messageExportService.release(username);
+            }
+        };
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("room-" + roomId + "-messages." + exportFormat.extension() + ".gz")
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
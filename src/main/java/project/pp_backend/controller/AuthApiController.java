@@ -1,5 +1,6 @@
 package project.pp_backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -25,9 +26,10 @@ public class AuthApiController {
      * @return 발급된 Access/Refresh 토큰 정보를 담은 TokenDto
      */
     @PostMapping("/login")
-    public ResponseEntity<TokenDto.Response> login(@Valid @RequestBody MemberDto.LoginRequest request) {
-        // AuthService를 통해 인증 후 토큰 발급
-        TokenDto.Response token = authService.login(request);
+    public ResponseEntity<TokenDto.Response> login(@Valid @RequestBody MemberDto.LoginRequest request,
+                                                   HttpServletRequest httpRequest) {
+        // AuthService를 통해 인증 후 토큰 발급 (프록시 뒤라면 server.forward-headers-strategy 설정으로 실제 IP 사용)
+        TokenDto.Response token = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(token);
     }
 
@@ -56,4 +58,17 @@ public class AuthApiController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 4. 모든 기기 로그아웃 엔드 포인트
+     * POST /api/auth/logout-all
+     * @param request AccessToken을 포함하는 DTO
+     * @return 200 OK
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@Valid @RequestBody TokenDto.Request request) {
+        //AuthService를 통해 Redis에 저장된 모든 기기의 RefreshToken 삭제
+        authService.logoutAll(request);
+        return ResponseEntity.ok().build();
+    }
+
 }
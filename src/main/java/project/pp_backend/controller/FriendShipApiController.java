@@ -7,7 +7,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import project.pp_backend.dto.FriendShipDto;
+import project.pp_backend.dto.PresenceDto;
 import project.pp_backend.service.FriendShipService;
+import project.pp_backend.service.PresenceService;
 
 import java.util.List;
 
@@ -17,6 +19,7 @@ import java.util.List;
 public class FriendShipApiController {
 
     private final FriendShipService friendShipService;
+    private final PresenceService presenceService;
 
     /** [ADMIN] Member 의 FriendShip 조회 (Owner 기준)
      * GET - /api/friends/{owner.username}
@@ -39,6 +42,18 @@ public class FriendShipApiController {
         return ResponseEntity.ok(responses);
     }
 
+    /** 1-1. 접속 중인 친구 목록 조회 (접속 여부는 메모리 조회)
+     * GET - /api/friends/me/online
+     */
+    @GetMapping("/me/online")
+    public ResponseEntity<List<PresenceDto.OnlineMember>> getMyOnlineFriends() {
+        //1. 토큰에서 사용자 이름(username) 추출
+        String username = getAuthenticatedUsername();
+
+        List<PresenceDto.OnlineMember> responses = presenceService.getOnlineFriends(username);
+        return ResponseEntity.ok(responses);
+    }
+
     /** 2. FriendShip 생성
      * POST - /api/friends/create
      */
@@ -8,6 +8,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import project.pp_backend.dto.MemberDto;
+import project.pp_backend.service.MemberAvailabilityService;
 import project.pp_backend.service.MemberService;
 
 @RestController
@@ -16,6 +17,7 @@ import project.pp_backend.service.MemberService;
 public class MemberApiController {
 
     private final MemberService memberService;
+    private final MemberAvailabilityService memberAvailabilityService;
 
     /**
      * 1. 회원가입 엔드포인트
@@ -31,6 +33,21 @@ public class MemberApiController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response); //HTTP 201 Created 응답
     }
 
+    /**
+     * 1-1. 회원가입 사용 가능 여부 확인 (입력 중 확인용)
+     * GET /api/members/availability?username=&nickname=&email=
+     * - 메모리 Bloom Filter 에 없으면 바로 응답, 있을 수도 있으면 DB 에서 확인
+     * @return 요청한 항목별 사용 가능 여부 (true -> 사용 가능)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<MemberDto.AvailabilityResponse> checkAvailability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String email
+    ) {
+        return ResponseEntity.ok(memberAvailabilityService.check(username, nickname, email));
+    }
+
 
     /**
      * 2. 사용자 정보 (로그인 회원 정보 - GET)
@@ -8,6 +8,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import project.pp_backend.config.MemberDetails;
 import project.pp_backend.dto.MessageDto;
+import project.pp_backend.service.BroadcastRoomService;
 import project.pp_backend.service.MessageService;
 
 import java.util.List;
@@ -18,10 +19,13 @@ import java.util.List;
 public class MessageApiController {
 
     private final MessageService messageService;
+    private final BroadcastRoomService broadcastRoomService;
 
     /** 1. 메시지 생성
      * POST - /api/messages/rooms/{roomId}
      * - 인증된 사용자 (@AuthenticationPrincipal)를 통해 username 을 가져와 메시지 생성
+     * - 같은 clientMessageId 로 재전송된 요청은 새로 저장하지 않고 최초 메시지를 200 OK 로 반환
+     * - 공지 채팅방은 게시자만 생성 가능 (403)
      */
     @PostMapping("/rooms/{roomId}")
     public ResponseEntity<MessageDto.Response> createMessage(
@@ -30,9 +34,11 @@ public class MessageApiController {
             @AuthenticationPrincipal MemberDetails memberDetails) {
 
         String username = memberDetails.getUsername();
+        broadcastRoomService.checkPublisher(roomId, memberDetails.getId());
         MessageDto.Response response = messageService.createMessage(username, roomId, request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        HttpStatus status = response.isDuplicate() ? HttpStatus.OK : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
     }
 
     /** 2. 특정 채팅방의 메시지 목록 조회
@@ -45,6 +51,19 @@ public class MessageApiController {
         return ResponseEntity.ok(messages);
     }
 
+    /** 2-1. 특정 채팅방의 대화 기록 페이지 조회 (최신순)
+     * GET - /api/messages/rooms/{roomId}/history?beforeId={messageId}&size={size}
+     * - 스크롤할 때마다 이전 페이지를 불러오는 용도 (공지 채팅방은 2 번 조회도 최신 1 페이지만 반환)
+     * - 다음 페이지는 응답의 nextBeforeId 를 beforeId 로 전달
+     */
+    @GetMapping("/rooms/{roomId}/history")
+    public ResponseEntity<MessageDto.HistoryResponse> getHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(messageService.getHistory(roomId, beforeId, size));
+    }
+
     /** 3. 단일 메시지 삭제
      * DELETE - /api/messages/{messageId}
      * - 메시지 삭제에 대한 권한을 고민해보자......
@@ -9,8 +9,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import project.pp_backend.config.MemberDetails;
+import project.pp_backend.dto.PresenceDto;
 import project.pp_backend.dto.RoomDto;
 import project.pp_backend.exception.BasicErrorMessage;
+import project.pp_backend.service.PresenceService;
 import project.pp_backend.service.RoomService;
 
 import java.util.List;
@@ -21,6 +23,7 @@ import java.util.List;
 public class RoomApiController {
 
     private final RoomService roomService;
+    private final PresenceService presenceService;
 
     /**
      * 1. 채팅방 생성
@@ -28,14 +31,11 @@ public class RoomApiController {
      */
     @PostMapping
     public ResponseEntity<RoomDto.Response> createRoom(
-            @Valid @RequestBody RoomDto.CreateRequest request,
-            @RequestBody List<String> members) {
+            @Valid @RequestBody RoomDto.CreateRequest request) {
         //1. 로그인 회원 username 불러오기
         String username = getAuthenticatedUsername();
-        //2. 채팅방 생성 (소속: 로그인 회원 (1명))
+        //2. 채팅방 생성 (참가자: 로그인 회원 + request.memberUsernames - 배치로 함께 추가)
         RoomDto.Response roomResponse = roomService.createRoom(username, request);
-        //3. 채팅방에 배치로 회원 여러명 추가
-        roomService.batchJoinRoom(roomResponse.getId(), members);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(roomResponse);
     }
@@ -73,6 +73,18 @@ public class RoomApiController {
         return ResponseEntity.ok(rooms);
     }
 
+    /**
+     * 2-4. 채팅방 접속자 목록 조회 (채팅방 참가자만, 메모리 조회)
+     * GET - /api/rooms/{roomId}/online
+     */
+    @GetMapping("/{roomId}/online")
+    public ResponseEntity<PresenceDto.RoomOnlineResponse> getOnlineMembers(
+            @PathVariable Long roomId,
+            @AuthenticationPrincipal MemberDetails memberDetails) {
+        PresenceDto.RoomOnlineResponse response = presenceService.getRoomOnlineMembers(roomId, memberDetails.getId());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 2-3. 참가중인 채팅방 이름 조회
      * POST - /api/rooms/my/search/{roomKeyword}
@@ -121,7 +133,7 @@ public class RoomApiController {
      * POST - /api/rooms/{roomId}/invite
      */
     @PostMapping("/{roomId}/invite")
-    public ResponseEntity<RoomDto.Response> inviteRoom(
+    public ResponseEntity<RoomDto.InviteResponse> inviteRoom(
             @PathVariable Long roomId,
             @Valid @RequestBody RoomDto.InviteRequest request
     ) {
@@ -135,8 +147,8 @@ public class RoomApiController {
             return ResponseEntity.badRequest().build();
         }
 
-        //한번에 다수의 화원 초대 로직
-        RoomDto.Response response = roomService.batchJoinRoom(roomId, request.getUsernames());
+        //한번에 다수의 화원 초대 로직 (회원별 결과: 참가 / 이미 참가 중 / 존재하지 않음)
+        RoomDto.InviteResponse response = roomService.batchJoinRoom(roomId, request.getUsernames());
 
         return ResponseEntity.ok(response);
     }
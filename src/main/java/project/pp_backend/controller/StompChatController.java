@@ -1,7 +1,7 @@
 package project.pp_backend.controller;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -9,13 +9,22 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
+import project.pp_backend.config.BroadcastFanout;
+import project.pp_backend.config.LatencyMetrics;
 import project.pp_backend.config.MemberDetails;
+import project.pp_backend.config.SlowConsumerOutboundInterceptor;
+import project.pp_backend.config.StompReceivedAtInterceptor;
 import project.pp_backend.dto.MessageDto;
+import project.pp_backend.dto.SignalDto;
 import project.pp_backend.entity.MessageType;
+import project.pp_backend.exception.UnauthorizedAccessException;
+import project.pp_backend.service.BroadcastRoomService;
 import project.pp_backend.service.MessageService;
 import project.pp_backend.service.RoomService;
+import project.pp_backend.service.TypingSignalService;
 
 import java.security.Principal;
+import java.util.Map;
 
 
 /**
@@ -24,40 +33,89 @@ import java.security.Principal;
  * 클라이언트 메시지 전송: /pub/chat/message
  * 클라이언트 입장 알림: /pub/chat/enter
  * 클라이언트 퇴장 알림: /pub/chat/leave
+ * 클라이언트 입력 중 신호: /pub/chat/typing (DB 저장 X)
+ * 재전송(중복) 메시지 응답: 보낸 회원에게만 /user/queue/messages 로 최초 응답 전달 (채팅방에 다시 브로드캐스트 X)
+ * 공지(BROADCAST) 채팅방: 게시자만 전송, /sub/broadcast/room/{roomId} 구독자에게 BroadcastFanout 으로 전달 (입장/퇴장 알림 X)
  */
 @Controller
-@RequiredArgsConstructor
 @Slf4j
 public class StompChatController {
 
+    //재전송(중복) 메시지 응답 주소 (보낸 회원의 세션만 수신: /user/queue/messages)
+    static final String DUPLICATE_DESTINATION = "/queue/messages";
+
     private final SimpMessagingTemplate messagingTemplate;
     private final MessageService messageService;
     private final RoomService roomService;
+    private final TypingSignalService typingSignalService;
+    private final BroadcastRoomService broadcastRoomService;
+    private final BroadcastFanout broadcastFanout;
+
+    //프레임 수신 -> 브로드캐스트 완료까지 걸린 시간 (Inbound 대기 + DB 저장 + 브로커 전달)
+    private final LatencyMetrics.Recorder messageLatency;
+    private final LatencyMetrics.Recorder enterLatency;
+    private final LatencyMetrics.Recorder leaveLatency;
+
+    public StompChatController(SimpMessagingTemplate messagingTemplate,
+                               MessageService messageService,
+                               RoomService roomService,
+                               TypingSignalService typingSignalService,
+                               BroadcastRoomService broadcastRoomService,
+                               BroadcastFanout broadcastFanout,
+                               LatencyMetrics latencyMetrics) {
+        this.messagingTemplate = messagingTemplate;
+        this.messageService = messageService;
+        this.roomService = roomService;
+        this.typingSignalService = typingSignalService;
+        this.broadcastRoomService = broadcastRoomService;
+        this.broadcastFanout = broadcastFanout;
+        this.messageLatency = broadcastLatency(latencyMetrics, "/pub/chat/message");
+        this.enterLatency = broadcastLatency(latencyMetrics, "/pub/chat/enter");
+        this.leaveLatency = broadcastLatency(latencyMetrics, "/pub/chat/leave");
+    }
 
 
     /**
      * 클라이언트가 일반 채팅 메시지를 보낼 때 사용
      * URL : "/pub/chat/message"
      *
-     * @param request : 전송할 메시지 정보 (roomId, content, type 등 포함)
+     * @param request : 전송할 메시지 정보 (roomId, content, type, clientMessageId 등 포함)
      * @param principal : 인증된 사용자 정보 (사용자 ID (USERNAME)만 가져온다.)
      */
     @MessageMapping("/chat/message")
     public void sendMessage(
             Principal principal,
-            @Payload MessageDto.CreateRequest request) {
+            @Payload MessageDto.CreateRequest request,
+            @Header(name = StompReceivedAtInterceptor.RECEIVED_AT_HEADER, required = false) Long receivedAt) {
 
         String username = principal.getName();
-        log.info("sendMessage: principal.getName(): {}", principal.getName());
+        log.debug("sendMessage: {}", username);
 
         Long roomId = request.getRoomId();
 
+        //0. 공지 채팅방은 게시자만 전송 (노드에 보관된 게시자 ID 로 확인 - 참가 기록 조회 없음)
+        boolean broadcastRoom = broadcastRoomService.isBroadcast(roomId);
+        if (broadcastRoom) {
+            broadcastRoomService.checkPublisher(roomId, getMemberId(principal));
+        }
+
         //1. DB 저장
         MessageDto.Response savedMessage = messageService.createMessage(username, roomId, request);
 
+        //1-1. 재전송(중복) 메시지는 이미 브로드캐스트 되었으므로, 보낸 회원에게만 최초 응답 전달 (클라이언트 전송 확인용)
+        if (savedMessage.isDuplicate()) {
+            messagingTemplate.convertAndSendToUser(username, DUPLICATE_DESTINATION, savedMessage);
+            return;
+        }
+
         // 2. STOMP 구독자들에게 메시지 전달 (브로드캐스팅)
-        // 메시지 구독 주소: /sub/chat/room/{roomId}
-        messagingTemplate.convertAndSend("/sub/chat/room/" + roomId, savedMessage);
+        // 메시지 구독 주소: /sub/chat/room/{roomId} (공지 채팅방: /sub/broadcast/room/{roomId}, 샤드별 병렬 전달)
+        if (broadcastRoom) {
+            broadcastFanout.publish(roomId, savedMessage);
+        } else {
+            broadcast(roomId, savedMessage);
+        }
+        record(messageLatency, receivedAt);
     }
 
 
@@ -71,11 +129,17 @@ public class StompChatController {
     @MessageMapping("/chat/enter")
     public void enterRoom(
             Principal principal,
-            MessageDto.CreateRequest request) {
+            MessageDto.CreateRequest request,
+            @Header(name = StompReceivedAtInterceptor.RECEIVED_AT_HEADER, required = false) Long receivedAt) {
 
         String username = principal.getName();
         Long roomId = request.getRoomId();
 
+        //0. 공지 채팅방은 입장 알림을 저장 / 전달하지 않음 (구독자 수십만 명에게 입장마다 전달되지 않도록)
+        if (broadcastRoomService.isBroadcast(roomId)) {
+            return;
+        }
+
         //1. 알림 메시지 구성
         String content = username + "님이 입장하셨습니다.";
         request.setContent(content);
@@ -85,7 +149,8 @@ public class StompChatController {
         MessageDto.Response savedMessage = messageService.createMessage(username, roomId, request);
 
         //3. STOMP 구독자들에게 메시지 전달 (브로드캐스팅)
-        messagingTemplate.convertAndSend("/sub/chat/room/" + roomId, savedMessage);
+        broadcast(roomId, savedMessage);
+        record(enterLatency, receivedAt);
     }
 
     /**
@@ -98,7 +163,8 @@ public class StompChatController {
     @MessageMapping("/chat/leave")
     public void leaveRoom(
             Principal principal,
-            MessageDto.CreateRequest request) {
+            MessageDto.CreateRequest request,
+            @Header(name = StompReceivedAtInterceptor.RECEIVED_AT_HEADER, required = false) Long receivedAt) {
 
         String username = principal.getName();
         Long roomId = request.getRoomId();
@@ -108,14 +174,71 @@ public class StompChatController {
         request.setContent(content);
         request.setType(MessageType.LEAVE);
 
-        //2. (회원의 채팅방 소속 삭제) RoomMember 삭제
+        //2. (회원의 채팅방 소속 삭제) RoomMember 삭제 (마지막 회원이면 채팅방도 삭제되므로 종류를 먼저 확인)
+        boolean broadcastRoom = broadcastRoomService.isBroadcast(roomId);
         roomService.leaveRoom(username, roomId);
 
+        //2-1. 공지 채팅방은 퇴장 알림을 저장 / 전달하지 않음
+        if (broadcastRoom) {
+            return;
+        }
+
         //3. 알림 메시지 DB 저장
         MessageDto.Response savedMessage = messageService.createMessage(username, roomId, request);
 
         //4. STOMP 구독자들에게 메시지 전달 (브로드캐스팅)
-        messagingTemplate.convertAndSend("/sub/chat/room/" + roomId, savedMessage);
+        broadcast(roomId, savedMessage);
+        record(leaveLatency, receivedAt);
+    }
+
+    /**
+     * 클라이언트가 입력 중(typing) 신호를 보낼 때 사용
+     * URL : "/pub/chat/typing"
+     * - DB 에 저장하지 않고 구독자(/sub/chat/room/{roomId}/typing)에게 바로 전달
+     *
+     * @param request : 입력 중 신호 (roomId, typing)
+     * @param principal : 인증된 사용자 정보 (StompChannelInterceptor 에서 설정한 Authentication)
+     */
+    @MessageMapping("/chat/typing")
+    public void sendTyping(
+            Principal principal,
+            @Payload SignalDto.TypingRequest request) {
+
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            typingSignalService.publishTyping(memberDetails.getId(), memberDetails.getUsername(), request);
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+    private static LatencyMetrics.Recorder broadcastLatency(LatencyMetrics latencyMetrics, String destination) {
+        return latencyMetrics.timer("stomp.inbound.broadcast", "STOMP 프레임 수신부터 브로드캐스트 완료까지 걸린 시간",
+                "destination", destination);
     }
 
+    private static Long getMemberId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            return memberDetails.getId();
+        }
+        throw new UnauthorizedAccessException("인증되지 않은 세션입니다.");
+    }
+
+    //수신 시각 헤더가 없는 메시지(서버 내부 전송 등)는 기록하지 않음
+    private static void record(LatencyMetrics.Recorder recorder, Long receivedAt) {
+        if (receivedAt != null) {
+            recorder.recordSince(receivedAt);
+        }
+    }
+
+    //채팅방 구독자들에게 메시지 전달 (메시지 타입을 헤더로 함께 전달 -> 느린 세션에서는 ENTER/LEAVE 프레임 폐기 가능)
+    private void broadcast(Long roomId, MessageDto.Response message) {
+        MessageType type = message.getType() != null ? message.getType() : MessageType.CHAT;
+        messagingTemplate.convertAndSend(
+                "/sub/chat/room/" + roomId,
+                message,
+                Map.<String, Object>of(SlowConsumerOutboundInterceptor.MESSAGE_TYPE_HEADER, type.name())
+        );
+    }
 }
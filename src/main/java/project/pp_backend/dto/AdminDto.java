@@ -0,0 +1,21 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 관리자 목록 조회 DTO (채팅방 / 회원 / 친구 관계)
+ */
+public class AdminDto {
+
+    //id 순서 keyset 페이지
+    @Data
+    @AllArgsConstructor
+    public static class PageResponse<T> {
+        private List<T> items;
+        private Long nextAfterId;  //다음 페이지 조회 시 afterId (마지막 페이지면 null)
+        private boolean hasMore;
+    }
+}
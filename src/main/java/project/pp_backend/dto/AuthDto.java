@@ -0,0 +1,47 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import project.pp_backend.service.PasswordVerifier;
+
+/**
+ * 로그인 처리 통계 DTO (관리자 API)
+ */
+public class AuthDto {
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LoginStatsResponse {
+        //비밀번호 검증 스레드 풀
+        private int poolSize;
+        private int activeCount;
+        private int queueSize;
+        private int queueCapacity;
+        private long rejectedCount; //대기열 초과로 바로 거절 (503)
+        private long expiredCount; //대기열에서 너무 오래 기다려 버림 (503)
+        private long timedOutCount; //요청 스레드가 verify-timeout 안에 결과를 받지 못함 (503)
+        private TimerStats queueWait; //대기열 대기 시간
+        private TimerStats hashTime; //비밀번호 검증(BCrypt) 시간
+
+        //로그인 시도 빈도 제한
+        private long rateLimitAllowedCount;
+        private long rateLimitThrottledCount; //빈도 제한 초과 (429)
+        private long rateLimitRedisErrorCount;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class TimerStats {
+        private long count;
+        private double meanMillis;
+        private double maxMillis;
+
+        public TimerStats(PasswordVerifier.Timer timer) {
+            this(timer.getCount(), timer.getMeanMillis(), timer.getMaxMillis());
+        }
+    }
+}
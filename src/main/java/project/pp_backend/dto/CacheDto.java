@@ -0,0 +1,42 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import java.util.List;
+
+/**
+ * 2차 캐시 통계 DTO (관리자 API)
+ */
+public class CacheDto {
+
+    @Data
+    @AllArgsConstructor
+    public static class StatsResponse {
+        private boolean statisticsEnabled;
+        private boolean redisInvalidationEnabled;
+        private List<RegionStats> regions;
+    }
+
+    @Data
+    public static class RegionStats {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private double hitRatio;
+        private long elementCount;
+
+        public RegionStats(String region, CacheRegionStatistics statistics) {
+            this.region = region;
+            this.hitCount = statistics.getHitCount();
+            this.missCount = statistics.getMissCount();
+            this.putCount = statistics.getPutCount();
+            long requests = hitCount + missCount;
+            this.hitRatio = requests == 0 ? 0.0 : (double) hitCount / requests;
+            //캐시 구현체가 지원하지 않으면 -1
+            this.elementCount = Math.max(-1, statistics.getElementCountInMemory());
+        }
+    }
+}
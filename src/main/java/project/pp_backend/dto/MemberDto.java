@@ -1,6 +1,8 @@
 package project.pp_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import project.pp_backend.entity.Member;
@@ -84,6 +86,11 @@ public class MemberDto {
     public static class LoginRequest {
         private String username;
         private String password;
+
+        //기기 ID (선택) - 없으면 새로 발급
+        @Size(max = 64, message = "기기 ID는 64자 이하로 입력해주세요.")
+        @Pattern(regexp = "^[A-Za-z0-9_-]*$", message = "기기 ID는 영문, 숫자, '-', '_' 만 사용할 수 있습니다.")
+        private String deviceId;
     }
 
 
@@ -114,4 +121,52 @@ public class MemberDto {
         @Pattern(regexp = "^[a-zA-Z0-9!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?~]+$", message = "비밀번호는 알파벳(대소문자), 숫자, 특수문자 만 유효합니다.")
         private String repeatPassword;
     }
+
+    /**
+     * 회원 일괄 등록 - 행(row)별 처리 결과 (NDJSON 한 줄)
+     */
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ImportResult {
+        private long line; //업로드 파일의 줄 번호 (1부터, CSV 헤더 포함)
+        private String username;
+        private ImportStatus status;
+        private Long id; //생성된 회원 ID (CREATED 인 경우)
+        private String message; //실패 사유
+    }
+
+    public enum ImportStatus {
+        CREATED,    //등록 성공
+        DUPLICATE,  //이미 존재하거나 같은 파일 안에서 중복된 username / nickname / email
+        INVALID,    //형식 오류 (입력값 검증 실패)
+        FAILED      //저장 실패
+    }
+
+    /**
+     * 회원 일괄 등록 - 마지막 줄 요약
+     */
+    @Data
+    @Builder
+    public static class ImportSummary {
+        private boolean summary; //항상 true (행별 결과와 구분)
+        private long total;
+        private long created;
+        private long duplicate;
+        private long invalid;
+        private long failed;
+        private long elapsedMillis;
+    }
+
+    /**
+     * 회원가입 사용 가능 여부 (요청한 항목만 포함, true -> 사용 가능)
+     */
+    @Data
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AvailabilityResponse {
+        private Boolean username;
+        private Boolean nickname;
+        private Boolean email;
+    }
 }
@@ -1,6 +1,8 @@
 package project.pp_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,10 +13,12 @@ import project.pp_backend.entity.MessageType;
 import project.pp_backend.entity.Room;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class MessageDto {
 
     @Data
+    @NoArgsConstructor
     public static class Response {
         private Long id;
         private String content;
@@ -24,7 +28,11 @@ public class MessageDto {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
-        //Entity -> ResponseDto
+        //재전송(중복) 요청에 대한 응답인지 여부 (응답 본문에는 포함하지 않음)
+        @JsonIgnore
+        private boolean duplicate;
+
+        //Entity -> ResponseDto (대화 기록 내보내기는 JDBC 조회 결과로 직접 채움)
         public Response(Message message) {
             this.id = message.getId();
             this.content = message.getContent();
@@ -36,6 +44,15 @@ public class MessageDto {
         }
     }
 
+    //대화 기록 페이지 (최신순)
+    @Data
+    @AllArgsConstructor
+    public static class HistoryResponse {
+        private List<Response> messages;
+        private Long nextBeforeId;  //다음(더 오래된) 페이지 조회 시 beforeId (마지막 페이지면 null)
+        private boolean hasMore;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -47,13 +64,18 @@ public class MessageDto {
         private Long roomId;
         private String sender;
 
+        //클라이언트가 생성한 메시지 ID (재전송 시 같은 값을 보내면 중복 저장하지 않음)
+        @Size(max = 64, message = "클라이언트 메시지 ID는 64자 이하입니다.")
+        private String clientMessageId;
+
         //RequestDto -> Entity
         public Message toEntity(Member member, Room room) {
             return new Message(
                     this.content,
                     this.type,
                     member,
-                    room
+                    room,
+                    this.clientMessageId
             );
         }
     }
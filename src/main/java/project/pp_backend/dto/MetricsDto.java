@@ -0,0 +1,16 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 지표 수집 설정 DTO (관리자 API)
+ */
+public class MetricsDto {
+
+    @Data
+    @AllArgsConstructor
+    public static class HistogramResponse {
+        private boolean detailedHistograms; //지연 시간 Timer 의 상세 히스토그램(bucket) 내보내기 여부
+    }
+}
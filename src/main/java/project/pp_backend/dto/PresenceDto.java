@@ -0,0 +1,44 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+public class PresenceDto {
+
+    /**
+     * 접속 중인 회원 정보
+     */
+    @Data
+    @AllArgsConstructor
+    public static class OnlineMember {
+        private Long memberId;
+        private String username;
+    }
+
+    /**
+     * 채팅방 접속자 목록 응답
+     * GET - /api/rooms/{roomId}/online
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RoomOnlineResponse {
+        private Long roomId;
+        private int count;
+        private List<OnlineMember> members;
+    }
+
+    /**
+     * 채팅방 접속 상태 변경(diff) 브로드캐스트 메시지
+     * 구독 주소: /sub/presence/room/{roomId}
+     * - 일정 주기 동안의 변경 사항을 합쳐서 1회 전송 (입장 후 바로 퇴장한 회원은 포함되지 않음)
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RoomDiff {
+        private Long roomId;
+        private List<Long> online;
+        private List<Long> offline;
+    }
+}
@@ -2,9 +2,11 @@ package project.pp_backend.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import project.pp_backend.entity.Room;
+import project.pp_backend.entity.RoomType;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,13 +17,17 @@ public class RoomDto {
     public static class Response {
         private Long id;
         private String name;
+        private RoomType type;
+        private long memberCount;  //참가 인원 (room.member_count 카운터 - 엔티티에 매핑하지 않으므로 따로 조회)
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
         //Entity -> ResponseDto
-        public Response(Room room) {
+        public Response(Room room, long memberCount) {
             this.id = room.getId();
             this.name = room.getName();
+            this.type = room.getType();
+            this.memberCount = memberCount;
             this.createdAt = room.getCreatedAt();
             this.updatedAt = room.getUpdatedAt();
         }
@@ -36,8 +42,11 @@ public class RoomDto {
         @NotEmpty(message = "참가할 회원 목록 리스트는 필수입니다.")
         List<String> memberUsernames;
 
+        //채팅방 종류 (없으면 GROUP, BROADCAST 는 생성자만 게시자)
+        private RoomType type;
+
         public Room toEntity() {
-            return new Room(name);
+            return new Room(name, type);
         }
     }
 
@@ -53,4 +62,30 @@ public class RoomDto {
         private List<String> usernames;
     }
 
+    //일괄 초대 결과 (회원별)
+    public enum InviteStatus {
+        JOINED,          //새로 참가
+        ALREADY_MEMBER,  //이미 참가 중
+        NOT_FOUND        //존재하지 않는 username
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class InviteResult {
+        private String username;
+        private InviteStatus status;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class InviteResponse {
+        private Long roomId;
+        private int requested;      //요청한 username 수 (중복 포함)
+        private int duplicates;     //요청 안에서 중복된 username 수 (대소문자 구분 없음, 결과에는 한 번만 포함)
+        private int joined;
+        private int alreadyMember;
+        private int notFound;
+        private List<InviteResult> results;
+    }
+
 }
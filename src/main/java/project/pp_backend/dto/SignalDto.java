@@ -0,0 +1,36 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 저장하지 않는 실시간 신호(Signal) DTO
+ */
+public class SignalDto {
+
+    /**
+     * 입력 중(typing) 신호 요청
+     * URL : "/pub/chat/typing"
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypingRequest {
+        private Long roomId;
+        private boolean typing; //true: 입력 시작, false: 입력 종료
+    }
+
+    /**
+     * 입력 중(typing) 신호 브로드캐스트
+     * 구독 주소: /sub/chat/room/{roomId}/typing
+     */
+    @Data
+    @AllArgsConstructor
+    public static class TypingEvent {
+        private Long roomId;
+        private Long memberId;
+        private String username;
+        private boolean typing;
+    }
+}
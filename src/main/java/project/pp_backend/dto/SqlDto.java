@@ -0,0 +1,34 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 요청별 SQL 실행 수 통계 DTO (관리자 API)
+ */
+public class SqlDto {
+
+    @Data
+    @AllArgsConstructor
+    public static class StatsResponse {
+        private boolean enabled;
+        private int requestBudget;          //요청 1건당 SQL 실행 수 예산 (0 -> 사용 안 함)
+        private int repeatThreshold;        //같은 형태의 SQL 이 이 횟수 이상 반복되면 N+1 의심
+        private List<EndpointStats> endpoints;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class EndpointStats {
+        private String endpoint;
+        private long executions;
+        private long totalStatements;
+        private double meanStatements;
+        private long maxStatements;
+        private long overBudgetCount;
+        private long suspectedNPlusOneCount;
+        private String lastSuspectedStatement; //가장 최근 N+1 의심 SQL 형태 (없으면 null)
+    }
+}
@@ -0,0 +1,33 @@
+package project.pp_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 시작 후 준비(예열) 결과 DTO (관리자 API)
+ */
+public class StartupDto {
+
+    @Data
+    @AllArgsConstructor
+    public static class WarmupResponse {
+        private String state;                     //WARMING_UP / READY / FAILED
+        private long elapsedMillis;               //준비 작업 전체 소요 시간
+        private int attempts;                     //준비 작업 시도 횟수 (실패 시 다시 시도)
+        private String lastError;                 //마지막 실패 원인 (실패한 적 없으면 null)
+        private List<OperationStats> operations;  //JIT 예열 작업별 지연 시간 (예열 전 / 후)
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class OperationStats {
+        private String name;
+        private int iterations;          //예열 중 실행 횟수
+        private double firstCallMicros;  //첫 호출 (클래스 로딩 + 인터프리터)
+        private double coldMicros;       //처음 N 회 평균 (배포 직후 요청이 겪는 지연 시간)
+        private double warmMicros;       //마지막 N 회 평균 (JIT 컴파일 이후)
+        private double speedup;          //coldMicros / warmMicros
+    }
+}
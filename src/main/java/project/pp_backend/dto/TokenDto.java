@@ -16,6 +16,7 @@ public class TokenDto {
         private String accessToken; //실제 인증에 사용되는 토큰
         private String refreshToken; //AccessToken 만료 시 재발급에 사용되는 토큰
         private Long accessTokenExpiresIn; //Access Token의 만료 시간
+        private String deviceId; //로그인한 기기 ID (다음 로그인 시 같은 값을 보내면 같은 기기 세션으로 처리)
     }
 
     @Data
@@ -28,4 +29,29 @@ public class TokenDto {
         //유효성을 검증할 Refresh Token
         private String refreshToken;
     }
+
+    /**
+     * Access Token 폐기 확인용 Bloom Filter 통계 (관리자 API)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RevocationStatsResponse {
+        private long expectedInsertions; //세대별 예상 폐기 토큰 수
+        private double targetFalsePositiveRate; //목표 오탐률
+        private long bitSize; //세대별 비트 배열 크기
+        private int hashFunctionCount;
+        private long memoryBytes; //비트 배열 메모리 (현재 + 이전 세대)
+        private long currentElementCount; //현재 세대 추정 원소 수
+        private long previousElementCount; //이전 세대 추정 원소 수
+        private double estimatedFalsePositiveRate; //채워진 비트 기준 예상 오탐률
+        private long checkCount; //폐기 여부 확인 횟수
+        private long bloomHitCount; //Bloom Filter 에 걸려 Redis 를 조회한 횟수
+        private long revokedHitCount; //실제로 폐기된 토큰
+        private double observedFalsePositiveRate; //(Bloom Filter 적중 - 실제 폐기) / 확인 횟수
+        private long redisErrorCount;
+        private boolean synced; //폐기 색인 / Pub/Sub 동기화 상태 (false 면 다른 노드의 폐기를 놓쳤을 수 있음)
+        private long unsyncedCheckCount; //동기화 전 상태에서 확인한 횟수 (가지고 있는 Bloom Filter 로 판단)
+    }
 }
@@ -0,0 +1,54 @@
+package project.pp_backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import project.pp_backend.config.SlowConsumerRegistry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class WebSocketDto {
+
+    /**
+     * 느린 세션 1개의 정보
+     */
+    @Data
+    public static class SlowSessionResponse {
+        private String sessionId;
+        private long slowSends;
+        private long droppedFrames;
+        private long maxSendMillis;
+        private LocalDateTime flaggedAt;
+        private LocalDateTime lastSlowSendAt;
+
+        public SlowSessionResponse(SlowConsumerRegistry.SlowSession slowSession) {
+            this.sessionId = slowSession.getSessionId();
+            this.slowSends = slowSession.getSlowSends().sum();
+            this.droppedFrames = slowSession.getDroppedFrames().sum();
+            this.maxSendMillis = TimeUnit.NANOSECONDS.toMillis(slowSession.getMaxSendNanos());
+            this.flaggedAt = toLocalDateTime(slowSession.getFlaggedAt());
+            this.lastSlowSendAt = toLocalDateTime(slowSession.getLastSlowSendAt());
+        }
+
+        private LocalDateTime toLocalDateTime(long epochMillis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+    }
+
+    /**
+     * 느린 세션 전체 현황 (정책 + 누적 지표 + 현재 느린 세션 목록)
+     */
+    @Data
+    @Builder
+    public static class SlowConsumerResponse {
+        private SlowConsumerRegistry.Policy policy;
+        private int slowSessionCount;
+        private long slowSendCount;
+        private long droppedFrameCount;
+        private long disconnectedSessionCount;
+        private List<SlowSessionResponse> sessions;
+    }
+}
@@ -7,6 +7,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = {
+        //같은 친구를 두 번 추가할 수 없음 (Owner 기준 친구 조회도 이 인덱스 사용)
+        @UniqueConstraint(name = "uk_friend_ship_owner_friend", columnNames = {"owner_member_id", "friend_member_id"})
+}, indexes = {
+        @Index(name = "idx_friend_ship_friend", columnList = "friend_member_id")
+})
 public class FriendShip extends BaseEntity {
     @Id @GeneratedValue
     private Long id;
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,10 +16,20 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = {
+        //중복 검사 조회(username OR nickname OR email)용 인덱스 + 동시 가입 방지 (username 은 @NaturalId 유니크 제약조건)
+        @UniqueConstraint(name = "uk_member_nickname", columnNames = "nickname"),
+        @UniqueConstraint(name = "uk_member_email", columnNames = "email")
+})
+@Cacheable //2차 캐시 (로컬 캐시: application.conf 의 "member" 설정)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-username") //username -> id 조회 결과 캐시
 public class Member extends BaseEntity {
     @Id @GeneratedValue
     private Long id;
 
+    //변경되지 않는 회원 식별자 -> findByUsername 을 자연 키(natural id) 조회로 처리 (2차 캐시 사용)
+    @NaturalId
     private String username;
     private String password;
 
@@ -9,6 +9,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        //재전송(중복) 메시지 방지: 같은 회원이 같은 클라이언트 메시지 ID 로 두 번 저장할 수 없음
+        @UniqueConstraint(name = "uk_message_member_client_message_id", columnNames = {"member_id", "client_message_id"})
+}, indexes = {
+        //채팅방 메시지 최신순 조회
+        @Index(name = "idx_message_room_created_at", columnList = "room_id, created_at")
+})
 public class Message extends BaseEntity {
     @Id @GeneratedValue
     private Long id;
@@ -25,11 +32,20 @@ public class Message extends BaseEntity {
     @JoinColumn(name = "room_id")
     private Room room; //소속 채팅방
 
-    @Builder
+    //클라이언트가 생성한 메시지 ID (재전송 시 중복 저장 방지, 없으면 null)
+    @Column(name = "client_message_id", length = 64)
+    private String clientMessageId;
+
     public Message(String content, MessageType type, Member member, Room room) {
+        this(content, type, member, room, null);
+    }
+
+    @Builder
+    public Message(String content, MessageType type, Member member, Room room, String clientMessageId) {
         this.content = content;
         this.type = type;
         this.member = member;
         this.room = room;
+        this.clientMessageId = clientMessageId;
     }
 }
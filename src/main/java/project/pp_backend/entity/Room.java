@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,12 +13,18 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable //2차 캐시 (로컬 캐시: application.conf 의 "room" 설정)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room")
 public class Room extends BaseEntity {
 
     @Id @GeneratedValue
     private Long id;
     private String name;
 
+    //채팅방 종류 (생성 후 변경 불가 - BroadcastRoomService 가 노드별로 보관)
+    @Enumerated(EnumType.STRING)
+    private RoomType type = RoomType.GROUP;
+
     @OneToMany(mappedBy = "room")
     private List<RoomMember> members = new ArrayList<>();
 
@@ -25,7 +33,12 @@ public class Room extends BaseEntity {
     private List<Message> messages = new ArrayList<>();
 
     public Room(String name) {
+        this(name, RoomType.GROUP);
+    }
+
+    public Room(String name, RoomType type) {
         this.name = name;
+        this.type = type != null ? type : RoomType.GROUP;
     }
 
     //채팅방 이름 수정 메서드
@@ -8,8 +8,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        //같은 채팅방에 같은 회원은 한 번만 참가 (채팅방 기준 조회/삭제/인원 수도 이 인덱스 사용)
+        @UniqueConstraint(name = "uk_room_member_room_member", columnNames = {"room_id", "member_id"})
+}, indexes = {
+        //회원 기준 참가 채팅방 조회 / 수
+        @Index(name = "idx_room_member_member", columnList = "member_id")
+})
 public class RoomMember extends BaseEntity {
-    @Id @GeneratedValue
+    //일괄 초대는 multi-row INSERT 로 저장 -> DB 가 ID 생성 (AUTO_INCREMENT)
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     //RoomMember - Room 다대일 관계
@@ -22,9 +30,18 @@ public class RoomMember extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    //참가 역할 (일괄 초대는 컬럼 기본값 MEMBER 로 저장)
+    @Enumerated(EnumType.STRING)
+    private RoomMemberRole role = RoomMemberRole.MEMBER;
+
 
     public RoomMember(Room room, Member member) {
+        this(room, member, RoomMemberRole.MEMBER);
+    }
+
+    public RoomMember(Room room, Member member, RoomMemberRole role) {
         this.room = room;
         this.member = member;
+        this.role = role;
     }
 }
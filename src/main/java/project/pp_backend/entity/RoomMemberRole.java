@@ -0,0 +1,12 @@
+package project.pp_backend.entity;
+
+public enum RoomMemberRole {
+
+    /**
+     * MEMBER : 참가자 (공지 채팅방에서는 읽기 전용)
+     * PUBLISHER : 공지 채팅방 게시자
+     */
+
+    MEMBER,
+    PUBLISHER
+}
@@ -0,0 +1,12 @@
+package project.pp_backend.entity;
+
+public enum RoomType {
+
+    /**
+     * GROUP : 일반 채팅방 (참가자 모두 전송)
+     * BROADCAST : 공지 채팅방 (수십만 명 구독, 게시자(PUBLISHER)만 전송)
+     */
+
+    GROUP,
+    BROADCAST
+}
@@ -1,5 +1,7 @@
 package project.pp_backend.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -36,6 +38,53 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(status, "접근 제한: " + ex.getMessage()));
     }
 
+    //유효하지 않거나 폐기된 토큰
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException ex) {
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
+        return ResponseEntity
+                .status(status)
+                .body(new ErrorResponse(status, ex.getMessage()));
+    }
+
+    //동시에 처리 중인 토큰 요청과 충돌
+    @ExceptionHandler(TokenConflictException.class)
+    public ResponseEntity<ErrorResponse> handleTokenConflictException(TokenConflictException ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return ResponseEntity
+                .status(status)
+                .body(new ErrorResponse(status, ex.getMessage()));
+    }
+
+    //요청 빈도 제한 초과 (로그인 시도 등)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(status, ex.getMessage()));
+    }
+
+    //처리 대기열 초과 (부하 차단)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(status, ex.getMessage()));
+    }
+
+    //DB 제약조건 위반 (동시 요청으로 인한 중복 저장 등)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return ResponseEntity
+                .status(status)
+                .body(new ErrorResponse(status, "이미 처리된 요청이거나 중복된 데이터입니다."));
+    }
+
     //보통 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception ex) {
@@ -0,0 +1,8 @@
+package project.pp_backend.exception;
+
+//유효하지 않거나 폐기된 토큰 (재로그인 필요)
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package project.pp_backend.exception;
+
+//처리 대기열이 가득 차서 요청을 받을 수 없음 (잠시 후 재시도)
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
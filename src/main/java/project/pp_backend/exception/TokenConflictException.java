@@ -0,0 +1,8 @@
+package project.pp_backend.exception;
+
+//동시에 처리 중인 토큰 요청과 충돌 (잠시 후 재시도)
+public class TokenConflictException extends RuntimeException {
+    public TokenConflictException(String message) {
+        super(message);
+    }
+}
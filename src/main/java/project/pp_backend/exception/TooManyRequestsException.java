@@ -0,0 +1,15 @@
+package project.pp_backend.exception;
+
+//요청 빈도 제한 초과 (retryAfterSeconds 이후 재시도)
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
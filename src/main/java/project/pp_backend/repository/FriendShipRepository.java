@@ -1,6 +1,10 @@
 package project.pp_backend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project.pp_backend.entity.FriendShip;
 
 import java.util.List;
@@ -12,13 +16,23 @@ public interface FriendShipRepository extends JpaRepository<FriendShip, Long> {
             String friendUsername
     );
 
-    //Owner 의 모든 친구 리스트
+    //Owner 의 모든 친구 리스트 (owner / friend 함께 조회 - 응답 DTO 변환 시 N+1 방지)
+    @EntityGraph(attributePaths = {"owner", "friend"})
     List<FriendShip> findByOwnerUsername(String ownerUsername);
 
+    //Owner 의 친구 ID 목록 (접속 중인 친구 확인용 - 회원 테이블은 owner 조건에만 사용)
+    @Query("select f.friend.id from FriendShip f where f.owner.username = :ownerUsername")
+    List<Long> findFriendIdsByOwnerUsername(@Param("ownerUsername") String ownerUsername);
+
 
     //Owner 모든 친구를 friendNicknameKeyword(친구 닉네임) 으로 검색 가능
+    @EntityGraph(attributePaths = {"owner", "friend"})
     List<FriendShip> findByOwnerUsernameAndFriendNicknameContaining(
             String ownerUsername,
             String friendNicknameKeyword
     );
+
+    //전체 친구 관계 목록 (관리자용, id 기준 keyset 페이지 조회 - owner / friend 함께 조회)
+    @Query("select f from FriendShip f join fetch f.owner join fetch f.friend where f.id > :afterId order by f.id")
+    List<FriendShip> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
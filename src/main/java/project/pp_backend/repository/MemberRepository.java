@@ -1,14 +1,65 @@
 package project.pp_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project.pp_backend.entity.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
-    Optional<Member> findByUsername(String username);
+//findByUsername -> MemberRepositoryCustom (자연 키 + 2차 캐시 조회)
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
     Optional<Member> findByNickname(String nickname);
     Optional<Member> findByEmail(String email);
     List<Member> findByUsernameIn(List<String> usernames);
+
+    boolean existsByUsername(String username);
+    boolean existsByNickname(String nickname);
+    boolean existsByEmail(String email);
+
+    //회원가입 중복 검사 - username / nickname / email 을 조회 1회로 확인 (각 컬럼 유니크 인덱스)
+    @Query("select m.id as id, m.username as username, m.nickname as nickname, m.email as email from Member m " +
+            "where m.username = :username or m.nickname = :nickname or m.email = :email")
+    List<MemberKeys> findKeysMatchingAny(@Param("username") String username,
+                                         @Param("nickname") String nickname,
+                                         @Param("email") String email);
+
+    //사용 중인 username / nickname / email 목록 (id 기준 keyset 페이지 조회)
+    @Query("select m.id as id, m.username as username, m.nickname as nickname, m.email as email from Member m " +
+            "where m.id > :afterId order by m.id")
+    List<MemberKeys> findKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    //전체 회원 목록 (관리자용, id 기준 keyset 페이지 조회)
+    @Query("select m from Member m where m.id > :afterId order by m.id")
+    List<Member> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    //일괄 등록 중복 검사 (IN 조회 1회로 이미 존재하는 값만 반환)
+    @Query("select m.username from Member m where m.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select m.nickname from Member m where m.nickname in :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    //채팅방 일괄 초대 - username -> id (username 유니크 인덱스만 읽음)
+    @Query("select m.id as id, m.username as username from Member m where m.username in :usernames")
+    List<MemberId> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    //회원 식별 값 조회용 Projection
+    interface MemberKeys {
+        Long getId();
+        String getUsername();
+        String getNickname();
+        String getEmail();
+    }
+
+    interface MemberId {
+        Long getId();
+        String getUsername();
+    }
 }
@@ -0,0 +1,16 @@
+package project.pp_backend.repository;
+
+import project.pp_backend.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * MemberRepository 직접 구현 메서드
+ */
+public interface MemberRepositoryCustom {
+
+    /**
+     * username(자연 키)으로 회원 조회 - 2차 캐시(username -> id, id -> 회원)를 거쳐 조회
+     */
+    Optional<Member> findByUsername(String username);
+}
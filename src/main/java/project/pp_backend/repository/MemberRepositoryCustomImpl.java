@@ -0,0 +1,28 @@
+package project.pp_backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import project.pp_backend.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * MemberRepositoryCustom 구현
+ * - 파생 쿼리(JPQL) 대신 Hibernate 자연 키 조회를 사용 -> 캐시에 있으면 SQL 을 실행하지 않음
+ */
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Member> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(username);
+    }
+}
@@ -1,9 +1,14 @@
 package project.pp_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project.pp_backend.entity.Message;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
@@ -16,4 +21,26 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @return : 해당 방의 메시지 리스트
      */
     List<Message> findByRoomIdOrderByCreatedAtDesc(Long roomId);
+
+    /**
+     * 대화 기록 첫 페이지 (최신순) - 공지 채팅방처럼 메시지가 많은 채팅방은 전체 대신 페이지 단위로 조회
+     * (room_id, created_at) 인덱스 (InnoDB 보조 인덱스 끝에 PK 포함 -> created_at, id 순서 정렬도 인덱스 순서)
+     */
+    List<Message> findByRoomIdOrderByCreatedAtDescIdDesc(Long roomId, Pageable pageable);
+
+    /**
+     * 대화 기록 다음 페이지 - 이전 페이지 마지막 메시지 (createdAt, id) 보다 오래된 메시지 (keyset, OFFSET 없음)
+     * created_at 은 범위 조건으로 인덱스를 타고, 같은 시각의 메시지만 id 로 구분
+     */
+    @Query("select m from Message m where m.room.id = :roomId and m.createdAt <= :createdAt"
+            + " and (m.createdAt < :createdAt or m.id < :id) order by m.createdAt desc, m.id desc")
+    List<Message> findPageBefore(@Param("roomId") Long roomId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    /**
+     * 재전송(중복) 메시지 조회 - 같은 회원이 같은 클라이언트 메시지 ID 로 저장한 최초 메시지
+     */
+    Optional<Message> findByMemberUsernameAndClientMessageId(String username, String clientMessageId);
 }
@@ -1,16 +1,22 @@
 package project.pp_backend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import project.pp_backend.entity.RoomMember;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoomMemberRepository extends JpaRepository<RoomMember, Long> {
+//insertIgnore -> RoomMemberRepositoryCustom (multi-row INSERT IGNORE)
+public interface RoomMemberRepository extends JpaRepository<RoomMember, Long>, RoomMemberRepositoryCustom {
 
     /**
-     * 특정 회원이 참가 중인 모든 Room 조회를 위함
+     * 특정 회원이 참가 중인 모든 Room 조회를 위함 (Room 함께 조회 - 참가 기록마다 Room 을 조회하는 N+1 방지)
      */
+    @EntityGraph(attributePaths = "room")
     List<RoomMember> findByMemberUsername(String username);
 
     /**
@@ -20,19 +26,25 @@ public interface RoomMemberRepository extends JpaRepository<RoomMember, Long> {
 
     /**
      * 특정 Room 에서 특정 회원의 참여 기록을 삭제 (채팅방 나가기 기능)
+     * @return : 삭제된 행 수 (참가 중이 아니었으면 0 -> 카운터를 줄이지 않음)
      */
-    void deleteByRoomIdAndMemberId(Long roomId, Long memberId);
+    long deleteByRoomIdAndMemberId(Long roomId, Long memberId);
 
     /**
      * 특정 방에 특정 회원이 이미 참가 중인지 확인
      */
     Optional<RoomMember> findByRoomIdAndMemberId(Long roomId, Long memberId);
 
-    //특정 채팅방에 소속된 회원의 수
-    long countByRoomId(Long roomId);
+    //공지 채팅방 구독 시 참가 여부 확인 (엔티티를 만들지 않음)
+    boolean existsByRoomIdAndMemberId(Long roomId, Long memberId);
 
-    //특정 회원에 참가 중인 채팅방의 수
-    long countByMemberId(Long memberId);
+    //공지 채팅방 게시자 ID (BroadcastRoomService 가 채팅방별로 1번만 조회해서 보관)
+    @Query("select rm.member.id from RoomMember rm where rm.room.id = :roomId"
+            + " and rm.role = project.pp_backend.entity.RoomMemberRole.PUBLISHER")
+    List<Long> findPublisherIdsByRoomId(@Param("roomId") Long roomId);
 
-    List<RoomMember> findByRoomIdAndMemberIdIn(Long roomId, List<Long> memberIds);
+    //이미 참가 중인 회원 ID (일괄 초대 - (room_id, member_id) 유니크 인덱스만 읽음, 엔티티를 만들지 않음)
+    @Query("select rm.member.id from RoomMember rm where rm.room.id = :roomId and rm.member.id in :memberIds")
+    List<Long> findMemberIdsByRoomIdAndMemberIdIn(@Param("roomId") Long roomId,
+                                                  @Param("memberIds") Collection<Long> memberIds);
 }
@@ -0,0 +1,55 @@
+package project.pp_backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * RoomMemberRepository 직접 구현 메서드
+ * - 참가 일괄 저장 (multi-row INSERT IGNORE)
+ * - 참가 인원 / 참가 채팅방 수 카운터 (room.member_count / member.room_count) - 참가 기록 변경과 같은 트랜잭션에서 증감
+ *   엔티티에 매핑하지 않은 컬럼 -> 2차 캐시(room / member)에 오래된 값이 남지 않고, 증감 시 캐시를 비우지 않음
+ */
+public interface RoomMemberRepositoryCustom {
+
+    /**
+     * 채팅방 참가 일괄 저장 - 여러 행을 INSERT 1문장으로 저장, 이미 참가 중인 회원은 무시 (uk_room_member_room_member)
+     * @return : 실제로 저장된 행 수
+     */
+    int insertIgnore(Long roomId, Collection<Long> memberIds, LocalDateTime joinedAt);
+
+    //채팅방 참가 인원 증감 (UPDATE 1문장 - 현재 값 기준 증감이므로 동시에 참가 / 퇴장해도 값을 잃지 않음)
+    void addRoomMemberCount(Long roomId, long delta);
+
+    //회원별 참가 채팅방 수 증감
+    void addMemberRoomCount(Collection<Long> memberIds, long delta);
+
+    //회원별 참가 채팅방 수를 참가 기록으로 다시 계산 (일괄 참가 중 일부가 동시에 먼저 참가된 경우 - 어느 회원이 무시됐는지 알 수 없음)
+    void recountMemberRoomCount(Collection<Long> memberIds);
+
+    //채팅방 참가자 전체의 참가 채팅방 수 1 감소 (채팅방 삭제 - 참가 기록 삭제 전에 호출)
+    void subtractMemberRoomCountOfRoom(Long roomId);
+
+    long findRoomMemberCount(Long roomId);
+
+    long findMemberRoomCount(Long memberId);
+
+    //채팅방 ID -> 참가 인원 (채팅방 목록 응답 - IN 조회 1번)
+    Map<Long, Long> findRoomMemberCounts(Collection<Long> roomIds);
+
+    /**
+     * 카운터 보정 (ID 순서로 limit 개씩) - 대상 행을 잠근 뒤 참가 기록 수와 다르면 수정
+     * 잠근 이후에 커밋되는 참가 / 퇴장은 잠금이 풀린 뒤 증감하므로 보정 값과 섞이지 않음
+     */
+    ReconcileBatch reconcileRoomMemberCounts(long afterId, int limit);
+
+    ReconcileBatch reconcileMemberRoomCounts(long afterId, int limit);
+
+    /**
+     * @param lastId : 이번에 확인한 마지막 ID (다음 배치의 afterId)
+     * @param scanned : 확인한 행 수 (limit 보다 작으면 마지막 배치)
+     * @param corrected : 값을 수정한 행 수
+     */
+    record ReconcileBatch(long lastId, int scanned, int corrected) {
+    }
+}
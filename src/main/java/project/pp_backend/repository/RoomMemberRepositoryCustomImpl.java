@@ -0,0 +1,162 @@
+package project.pp_backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RoomMemberRepositoryCustom 구현
+ * - JPA saveAll 은 행마다 INSERT 1문장 (IDENTITY 키는 JDBC batch 도 사용하지 않음)
+ *   -> multi-row INSERT IGNORE 1문장으로 저장 (JPA 트랜잭션과 같은 커넥션 사용)
+ * - JPA 를 거치지 않으므로 생성/수정 시각(Auditing)을 직접 채움
+ * - 카운터 컬럼(room.member_count / member.room_count)도 같은 커넥션에서 JDBC 로 증감 (엔티티에 매핑하지 않은 컬럼)
+ */
+@RequiredArgsConstructor
+public class RoomMemberRepositoryCustomImpl implements RoomMemberRepositoryCustom {
+
+    private static final String INSERT_IGNORE = "insert ignore into room_member (room_id, member_id, created_at, updated_at) values ";
+    private static final String ROW = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIgnore(Long roomId, Collection<Long> memberIds, LocalDateTime joinedAt) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_IGNORE.length() + memberIds.size() * (ROW.length() + 2))
+                .append(INSERT_IGNORE);
+        Object[] parameters = new Object[memberIds.size() * 4];
+        int index = 0;
+        for (Long memberId : memberIds) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            parameters[index++] = roomId;
+            parameters[index++] = memberId;
+            parameters[index++] = joinedAt;
+            parameters[index++] = joinedAt;
+        }
+        return jdbcTemplate.update(sql.toString(), parameters);
+    }
+
+    @Override
+    public void addRoomMemberCount(Long roomId, long delta) {
+        jdbcTemplate.update("update room set member_count = member_count + ? where id = ?", delta, roomId);
+    }
+
+    @Override
+    public void addMemberRoomCount(Collection<Long> memberIds, long delta) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Object[] parameters = new Object[memberIds.size() + 1];
+        parameters[0] = delta;
+        System.arraycopy(memberIds.toArray(), 0, parameters, 1, memberIds.size());
+        jdbcTemplate.update("update `member` set room_count = room_count + ? where id in ("
+                + placeholders(memberIds.size()) + ")", parameters);
+    }
+
+    @Override
+    public void recountMemberRoomCount(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("update `member` m set room_count = "
+                + "(select count(*) from room_member rm where rm.member_id = m.id) "
+                + "where m.id in (" + placeholders(memberIds.size()) + ")", memberIds.toArray());
+    }
+
+    @Override
+    public void subtractMemberRoomCountOfRoom(Long roomId) {
+        jdbcTemplate.update("update `member` set room_count = room_count - 1 "
+                + "where id in (select member_id from room_member where room_id = ?)", roomId);
+    }
+
+    @Override
+    public long findRoomMemberCount(Long roomId) {
+        List<Long> counts = jdbcTemplate.queryForList("select member_count from room where id = ?", Long.class, roomId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public long findMemberRoomCount(Long memberId) {
+        List<Long> counts = jdbcTemplate.queryForList("select room_count from `member` where id = ?", Long.class, memberId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public Map<Long, Long> findRoomMemberCounts(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        return queryCounts("select id, member_count from room where id in (" + placeholders(roomIds.size()) + ")",
+                roomIds.toArray());
+    }
+
+    @Override
+    public ReconcileBatch reconcileRoomMemberCounts(long afterId, int limit) {
+        return reconcile("room", "member_count", "room_id", afterId, limit);
+    }
+
+    @Override
+    public ReconcileBatch reconcileMemberRoomCounts(long afterId, int limit) {
+        return reconcile("`member`", "room_count", "member_id", afterId, limit);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    /**
+     * 1. 대상 행 잠금 (FOR UPDATE) -> 2. 참가 기록 수 (잠근 뒤 시작하는 일반 조회 - 잠금 전에 커밋된 변경 포함)
+     * -> 3. 다른 행만 수정
+     */
+    private ReconcileBatch reconcile(String table, String counterColumn, String roomMemberColumn, long afterId, int limit) {
+        Map<Long, Long> stored = new HashMap<>();
+        List<Long> ids = new ArrayList<>(limit);
+        jdbcTemplate.query("select id, " + counterColumn + " from " + table + " where id > ? order by id limit ? for update",
+                resultSet -> {
+                    long id = resultSet.getLong(1);
+                    ids.add(id);
+                    stored.put(id, resultSet.getLong(2));
+                }, afterId, limit);
+        if (ids.isEmpty()) {
+            return new ReconcileBatch(afterId, 0, 0);
+        }
+
+        Map<Long, Long> actual = queryCounts("select " + roomMemberColumn + ", count(*) from room_member where "
+                + roomMemberColumn + " in (" + placeholders(ids.size()) + ") group by " + roomMemberColumn, ids.toArray());
+
+        List<Object[]> corrections = new ArrayList<>();
+        for (Long id : ids) {
+            long count = actual.getOrDefault(id, 0L);
+            if (count != stored.get(id)) {
+                corrections.add(new Object[]{count, id});
+            }
+        }
+        if (!corrections.isEmpty()) {
+            jdbcTemplate.batchUpdate("update " + table + " set " + counterColumn + " = ? where id = ?", corrections);
+        }
+        return new ReconcileBatch(ids.get(ids.size() - 1), ids.size(), corrections.size());
+    }
+
+    private Map<Long, Long> queryCounts(String sql, Object[] parameters) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            counts.put(resultSet.getLong(1), resultSet.getLong(2));
+        }, parameters);
+        return counts;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,5 +1,6 @@
 package project.pp_backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +23,8 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             @Param("username") String username,
             @Param("roomKeyword") String roomKeyword
     );
+
+    //전체 채팅방 목록 (관리자용, id 기준 keyset 페이지 조회)
+    @Query("select r from Room r where r.id > :afterId order by r.id")
+    List<Room> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,229 @@
+package project.pp_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.pp_backend.config.ExportDataSource;
+import project.pp_backend.dto.AdminDto;
+import project.pp_backend.dto.FriendShipDto;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.entity.FriendShip;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Room;
+import project.pp_backend.repository.FriendShipRepository;
+import project.pp_backend.repository.MemberRepository;
+import project.pp_backend.repository.RoomRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 목록 조회 (채팅방 / 회원 / 친구 관계)
+ * - 페이지 조회 : id 순서 keyset (afterId 이후 size 건) -> OFFSET / COUNT 없이 어느 페이지든 PK 범위 조회 1번
+ * - 내보내기(NDJSON) : JDBC 커서로 fetch-size 행씩 읽으면서 바로 출력 (엔티티 / 목록을 만들지 않음 -> 행 수와 관계없이 메모리 일정)
+ *   MySQL 은 useCursorFetch=true 일 때만 서버 커서 사용 -> 이 설정을 적용한 내보내기 전용 커넥션 풀(ExportDataSource)에서 조회
+ * - 내보내기는 조회 1문장 (같은 시점의 스냅샷), 기본 커넥션 풀의 트랜잭션 / 커넥션을 잡고 있지 않음
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AdminListingService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String EXPORT_ROOMS = "select id, name, type, member_count, created_at, updated_at "
+            + "from room where id > ? order by id";
+    private static final String EXPORT_MEMBERS = "select id, username, nickname, email, member_role, room_count, created_at, updated_at "
+            + "from `member` where id > ? order by id";
+    private static final String EXPORT_FRIEND_SHIPS = "select f.id, o.username, fr.username, fr.nickname, f.created_at "
+            + "from friend_ship f left join `member` o on o.id = f.owner_member_id "
+            + "left join `member` fr on fr.id = f.friend_member_id where f.id > ? order by f.id";
+
+    private final RoomRepository roomRepository;
+    private final MemberRepository memberRepository;
+    private final FriendShipRepository friendShipRepository;
+    private final RoomMembershipService roomMembershipService;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final int pageSize;
+    private final int fetchSize;
+
+    public AdminListingService(
+            RoomRepository roomRepository,
+            MemberRepository memberRepository,
+            FriendShipRepository friendShipRepository,
+            RoomMembershipService roomMembershipService,
+            ObjectMapper objectMapper,
+            ExportDataSource exportDataSource,
+            @Value("${admin.listing.page-size:100}") int pageSize,
+            @Value("${admin.listing.export-fetch-size:1000}") int fetchSize
+    ) {
+        this.roomRepository = roomRepository;
+        this.memberRepository = memberRepository;
+        this.friendShipRepository = friendShipRepository;
+        this.roomMembershipService = roomMembershipService;
+        this.objectMapper = objectMapper;
+        this.pageSize = Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE);
+        this.fetchSize = Math.max(1, fetchSize);
+
+        //내보내기 전용 (다른 조회에는 fetch size / 서버 커서를 적용하지 않음)
+        this.cursorJdbcTemplate = new JdbcTemplate(exportDataSource.getDataSource());
+        this.cursorJdbcTemplate.setFetchSize(this.fetchSize);
+    }
+
+    /**
+     * 1. 채팅방 목록 (참가 인원은 카운터 컬럼 IN 조회 1번)
+     */
+    public AdminDto.PageResponse<RoomDto.Response> getRooms(Long afterId, Integer size) {
+        int limit = pageSize(size);
+        List<Room> rooms = roomRepository.findPageAfter(afterId(afterId), PageRequest.of(0, limit + 1));
+        List<Room> page = rooms.subList(0, Math.min(rooms.size(), limit));
+        Map<Long, Long> memberCounts = page.isEmpty()
+                ? Map.of()
+                : roomMembershipService.getMemberCounts(page.stream().map(Room::getId).toList());
+        return toPage(page, rooms.size() > limit,
+                room -> new RoomDto.Response(room, memberCounts.getOrDefault(room.getId(), 0L)), RoomDto.Response::getId);
+    }
+
+    /**
+     * 2. 회원 목록
+     */
+    public AdminDto.PageResponse<MemberDto.Response> getMembers(Long afterId, Integer size) {
+        int limit = pageSize(size);
+        List<Member> members = memberRepository.findPageAfter(afterId(afterId), PageRequest.of(0, limit + 1));
+        return toPage(members.subList(0, Math.min(members.size(), limit)), members.size() > limit,
+                MemberDto.Response::new, MemberDto.Response::getId);
+    }
+
+    /**
+     * 3. 친구 관계 목록
+     */
+    public AdminDto.PageResponse<FriendShipDto.Response> getFriendShips(Long afterId, Integer size) {
+        int limit = pageSize(size);
+        List<FriendShip> friendShips = friendShipRepository.findPageAfter(afterId(afterId), PageRequest.of(0, limit + 1));
+        return toPage(friendShips.subList(0, Math.min(friendShips.size(), limit)), friendShips.size() > limit,
+                FriendShipDto.Response::new, FriendShipDto.Response::getId);
+    }
+
+    /**
+     * 4. 내보내기 (NDJSON, id 순서) -> 출력한 행 수
+     * @param afterId : 이 id 이후부터 (중단된 내보내기 이어받기, 없으면 처음부터)
+     * - 진행 중인 트랜잭션이 없으면 트랜잭션 없이 실행 (응답 전송 중 기본 커넥션 풀의 커넥션을 사용하지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long exportRooms(Long afterId, OutputStream out) {
+        return export(EXPORT_ROOMS, afterId, out, (resultSet, generator) -> {
+            generator.writeNumberField("id", resultSet.getLong(1));
+            generator.writeStringField("name", resultSet.getString(2));
+            generator.writeStringField("type", resultSet.getString(3));
+            generator.writeNumberField("memberCount", resultSet.getLong(4));
+            writeTime(generator, "createdAt", resultSet.getTimestamp(5));
+            writeTime(generator, "updatedAt", resultSet.getTimestamp(6));
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long exportMembers(Long afterId, OutputStream out) {
+        return export(EXPORT_MEMBERS, afterId, out, (resultSet, generator) -> {
+            generator.writeNumberField("id", resultSet.getLong(1));
+            generator.writeStringField("username", resultSet.getString(2));
+            generator.writeStringField("nickname", resultSet.getString(3));
+            generator.writeStringField("email", resultSet.getString(4));
+            generator.writeStringField("role", resultSet.getString(5));
+            generator.writeNumberField("roomCount", resultSet.getLong(6));
+            writeTime(generator, "createdAt", resultSet.getTimestamp(7));
+            writeTime(generator, "updatedAt", resultSet.getTimestamp(8));
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long exportFriendShips(Long afterId, OutputStream out) {
+        return export(EXPORT_FRIEND_SHIPS, afterId, out, (resultSet, generator) -> {
+            generator.writeNumberField("id", resultSet.getLong(1));
+            generator.writeStringField("ownerUsername", resultSet.getString(2));
+            generator.writeStringField("friendUsername", resultSet.getString(3));
+            generator.writeStringField("friendNickname", resultSet.getString(4));
+            writeTime(generator, "createdAt", resultSet.getTimestamp(5));
+        });
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //행 1개 -> JSON 객체 필드
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet resultSet, JsonGenerator generator) throws SQLException, IOException;
+    }
+
+    /**
+     * 1. 커서 조회 (fetch-size 행씩) -> 2. 행마다 JSON 1줄 출력 (fetch-size 행마다 flush)
+     * - 클라이언트 연결이 끊기면 IOException -> 조회 중단 (커서 / 커넥션 반환)
+     */
+    private long export(String sql, Long afterId, OutputStream out, RowWriter rowWriter) {
+        long startedAt = System.nanoTime();
+        long rows;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            long[] count = {0};
+            cursorJdbcTemplate.query(sql, resultSet -> {
+                try {
+                    generator.writeStartObject();
+                    rowWriter.write(resultSet, generator);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    if (++count[0] % fetchSize == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, afterId(afterId));
+            generator.flush();
+            rows = count[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("[AdminListing] exported {} rows ({} ms)", rows, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+
+    private static void writeTime(JsonGenerator generator, String name, Timestamp timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, timestamp.toLocalDateTime().toString());
+        }
+    }
+
+    private static <E, D> AdminDto.PageResponse<D> toPage(List<E> page, boolean hasMore,
+                                                          Function<E, D> mapper, Function<D, Long> idOf) {
+        List<D> items = page.stream().map(mapper).collect(Collectors.toList());
+        Long nextAfterId = hasMore ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new AdminDto.PageResponse<>(items, nextAfterId, hasMore);
+    }
+
+    private int pageSize(Integer size) {
+        return size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : pageSize;
+    }
+
+    private static long afterId(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+}
@@ -1,19 +1,30 @@
 package project.pp_backend.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import project.pp_backend.config.JwtTokenProvider;
+import project.pp_backend.config.LatencyMetrics;
 import project.pp_backend.dto.MemberDto;
 import project.pp_backend.dto.TokenDto;
+import project.pp_backend.exception.InvalidTokenException;
+import project.pp_backend.exception.TokenConflictException;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -23,20 +34,48 @@ public class AuthService {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordVerifier passwordVerifier;
+    private final LatencyMetrics latencyMetrics;
 
-    @Value("${jwt.refresh-token-expiration-milliseconds}")
-    private long refreshTokenExpiration;
+    //인증 처리 중 Redis 명령 지연 시간 (auth.redis - operation 태그)
+    private LatencyMetrics.Recorder redisSaveTimer;
+    private LatencyMetrics.Recorder redisRotateTimer;
+    private LatencyMetrics.Recorder redisDeleteTimer;
+    private LatencyMetrics.Recorder redisRevokeTimer;
 
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    //동시 재발급 요청 합치기 (토큰 쌍 해시 -> 재발급 결과), 유예 시간 동안 같은 결과 반환
+    @Value("${jwt.reissue-grace-milliseconds:5000}")
+    private long reissueGraceMillis;
+    private final Map<String, ReissueFlight> reissueFlights = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initMetrics() {
+        redisSaveTimer = redisTimer("save");
+        redisRotateTimer = redisTimer("rotate");
+        redisDeleteTimer = redisTimer("delete");
+        redisRevokeTimer = redisTimer("revoke");
+    }
+
+    private LatencyMetrics.Recorder redisTimer(String operation) {
+        return latencyMetrics.timer("auth.redis", "인증 처리 중 Redis 명령 시간", "operation", operation);
+    }
 
     /** Login 메서드
      * 사용자의 자격 증명 검증, 성공 시 JWT 토큰을 발행
      * @param request ID와 비밓번호를 포함하는 로그인 요청 DTO
+     * @param clientIp 요청 IP (로그인 시도 빈도 제한)
      * @return 발급된 Access/Refresh 토큰 정보를 담은 TokenDto
+     * - 트랜잭션 없이 실행: 빈도 제한 / BCrypt 대기 중에 DB 커넥션을 잡지 않음
+     *   (회원 조회는 검증 스레드에서 Repository 트랜잭션으로 짧게, Refresh Token 저장은 Redis)
      */
-    @Transactional
-    public TokenDto.Response login(MemberDto.LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenDto.Response login(MemberDto.LoginRequest request, String clientIp) {
+
+        //0. 로그인 시도 빈도 제한 (회원/IP 별 Token Bucket) - BCrypt 검증 전에 차단
+        loginRateLimiter.acquire(request.getUsername(), clientIp);
 
         //1. Username/Password를 기반으로 Authentication 객체 생성
         // 이 시점에는 아직 인증되지 않은(unauthenticated) 객체
@@ -47,27 +86,30 @@ public class AuthService {
                 );
 
         try {
-            //2. 실제 인증(Authentication) 진행
+            //2. 실제 인증(Authentication) 진행 - 비밀번호 검증 전용 스레드 풀에서 실행 (대기열 초과 시 503)
             // authenticate() 메서드 실행 시:
             // a. CustomUserDetailsService.loadUserByUsername() 호출
             // b. BCryptPasswordEncoder를 사용하여 비밀번호 일치 여부 검증
-            Authentication authenticate = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+            Authentication authenticate = passwordVerifier.verify(
+                    () -> authenticationManagerBuilder.getObject().authenticate(authenticationToken));
 
             //3. 인증이 성공적으로 완료되면 SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authenticate);
 
-            //4. JWT 토큰 생성 및 반환
-            TokenDto.Response token = jwtTokenProvider.generateToken(authenticate);
-
-            //4-1. Refresh Token을 Redis에 <Key: RT:<Username>, Value: Refresh Token> 형태로 저장
-            String refreshTokenKey = REFRESH_TOKEN_PREFIX + authenticate.getName();
+            //4. JWT 토큰 생성 및 반환 (기기 ID 가 없으면 새로 발급)
+            String deviceId = StringUtils.hasText(request.getDeviceId())
+                    ? request.getDeviceId()
+                    : UUID.randomUUID().toString();
+            TokenDto.Response token = jwtTokenProvider.generateToken(authenticate, deviceId);
 
-            redisTemplate.opsForValue().set(
-                    refreshTokenKey,             // Key: RT:testuser01
-                    token.getRefreshToken(),     // Value: Refresh Token 문자열
-                    refreshTokenExpiration,      // 만료 시간 (TTL)
-                    TimeUnit.MILLISECONDS        // 시간 단위: 밀리초
-            );
+            //4-1. Refresh Token 해시를 Redis에 <Key: RT:<Username>, Field: 기기 ID, Value: SHA-256(Refresh Token)> 형태로 저장
+            // (기기 수 제한을 넘으면 가장 오래 사용하지 않은 기기는 로그아웃)
+            long startedAt = System.nanoTime();
+            try {
+                refreshTokenStore.save(authenticate.getName(), deviceId, token.getRefreshToken());
+            } finally {
+                redisSaveTimer.recordSince(startedAt);
+            }
 
             //4. 인증 정보를 기반으로 JWT 토큰 생성 및 반환
             return token;
@@ -80,55 +122,101 @@ public class AuthService {
 
     /** 토큰 재발급 (Reissue) 메서드
      * Refresh Token을 검증하고 새로운 Access Token과 Refresh Token 쌍을 발행
+     * - 같은 Refresh Token 으로 동시에 들어온 요청은 1번만 처리하고 같은 결과를 반환 (single-flight)
      * @param request Access Token과 Refresh Token을 포함하는 DTO
      * @return 새로 발급된 Access/Refresh 토큰 정보를 담은 TokenDto
      */
-    @Transactional
     public TokenDto.Response reissue(TokenDto.Request request) {
         //1. Refresh Token 유효성 검증
         if (!jwtTokenProvider.validateToken(request.getRefreshToken())) {
-            throw new RuntimeException("Refresh Token이 유효하지 않습니다.");
+            throw new InvalidTokenException("Refresh Token이 유효하지 않습니다.");
+        }
+
+        //2. 같은 토큰 쌍의 재발급이 진행 중이거나 방금 끝났으면 그 결과를 함께 사용
+        // (Refresh Token 에는 회원 정보가 없으므로 Access Token 과 함께 Key 로 사용)
+        String flightKey = RefreshTokenStore.hash(request.getAccessToken() + ":" + request.getRefreshToken());
+        long now = System.nanoTime();
+        ReissueFlight flight = new ReissueFlight(new CompletableFuture<>(), now);
+        ReissueFlight existing = reissueFlights.compute(flightKey, (key, current) ->
+                current != null && !current.isExpired(now, reissueGraceMillis) ? current : flight);
+        if (existing != flight) {
+            return await(existing.result());
         }
 
-        //2. Access Token에서 Authentication 객체 가져오기 (만료되어도 클레임은 가져올 수 있음)
+        //3. 실제 재발급
+        try {
+            TokenDto.Response newToken = rotate(request);
+            flight.result().complete(newToken);
+            return newToken;
+        } catch (RuntimeException e) {
+            flight.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    //Refresh Token 교체 (Redis 왕복 1회)
+    private TokenDto.Response rotate(TokenDto.Request request) {
+        //1. Access Token에서 Authentication 객체 가져오기 (만료되어도 클레임은 가져올 수 있음)
         Authentication authentication = jwtTokenProvider.getAuthentication(request.getAccessToken());
         String username = authentication.getName();
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + username;
-
-        // 3. 저장소에서 사용자 ID를 기반으로 저장된 Refresh Token 값 가져오기
-        String storedRefreshToken = redisTemplate.opsForValue().get(refreshTokenKey);
 
-        //3-1. 저장된 Refresh Token이 없으면 (로그아웃되었거나 만료됨)
-        if(storedRefreshToken == null) {
-            throw new RuntimeException("로그아웃되었거나 만료된 사용자입니다. 다시 로그인 해주세요.");
+        //1-1. Refresh Token 에 저장된 기기 ID (기기별 세션 도입 전 발급된 토큰은 다시 로그인)
+        String deviceId = jwtTokenProvider.getDeviceId(request.getRefreshToken());
+        if (deviceId == null) {
+            throw new InvalidTokenException("기기 정보가 없는 Refresh Token 입니다. 다시 로그인 해주세요.");
         }
 
-        // 4. 저장소의 Refresh Token과 요청된 Refresh Token 일치 여부 검증
-        if (!storedRefreshToken.equals(request.getRefreshToken())) {
-            // 보안상 중요한 조치: Refresh Token 탈취 시도(토큰 불일치)로 간주, 기존 토큰을 삭제하고 예외 발생
-            redisTemplate.delete(refreshTokenKey);
-            throw new RuntimeException("Refresh Token 정보가 일치하지 않습니다. 보안상 위험이 감지되었습니다.");
+        //2. 새로운 토큰 쌍 생성 (같은 기기 ID 유지)
+        TokenDto.Response newToken = jwtTokenProvider.generateToken(authentication, deviceId);
+
+        //3. 해당 기기에 저장된 Refresh Token 해시와 비교 후 교체 (Lua 스크립트 - 원자적 실행)
+        RefreshTokenStore.RotationResult result;
+        long startedAt = System.nanoTime();
+        try {
+            result = refreshTokenStore.rotate(username, deviceId, request.getRefreshToken(), newToken.getRefreshToken());
+        } finally {
+            redisRotateTimer.recordSince(startedAt);
         }
 
-        //5. 새로운 토큰 쌍 생성
-        TokenDto.Response newToken = jwtTokenProvider.generateToken(authentication);
+        return switch (result) {
+            case ROTATED -> newToken;
+            //저장된 Refresh Token이 없으면 (로그아웃되었거나 만료됨)
+            case NOT_FOUND -> throw new InvalidTokenException("로그아웃되었거나 만료된 사용자입니다. 다시 로그인 해주세요.");
+            //다른 서버에서 같은 토큰으로 방금 재발급함 -> 폐기하지 않고 재시도 안내
+            case ALREADY_ROTATED -> throw new TokenConflictException("이미 재발급 처리 중인 Refresh Token 입니다. 잠시 후 다시 시도해주세요.");
+            //보안상 중요한 조치: Refresh Token 탈취 시도(토큰 불일치)로 간주, 해당 기기 세션은 스크립트에서 삭제됨
+            case REUSED -> throw new InvalidTokenException("Refresh Token 정보가 일치하지 않습니다. 보안상 위험이 감지되었습니다.");
+        };
+    }
+
+    private TokenDto.Response await(CompletableFuture<TokenDto.Response> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        // 6. 저장소 정보 업데이트 (새로운 Refresh Token으로 교체)
-        // Redis에 새 Refresh Token을 기존의 TTL(만료 시간)을 유지하며 업데이트
-        redisTemplate.opsForValue().set(
-                refreshTokenKey,
-                newToken.getRefreshToken(),
-                refreshTokenExpiration,
-                TimeUnit.MILLISECONDS
-        );
+    //유예 시간이 지난 재발급 결과 정리
+    @Scheduled(fixedDelayString = "${jwt.reissue-grace-milliseconds:5000}")
+    public void evictReissueFlights() {
+        long now = System.nanoTime();
+        reissueFlights.values().removeIf(flight -> flight.isExpired(now, reissueGraceMillis));
+    }
 
-        //7. 토큰 반환
-        return newToken;
+    private record ReissueFlight(CompletableFuture<TokenDto.Response> result, long startedAt) {
+        //완료 후 유예 시간이 지났는지 (진행 중이면 만료되지 않음)
+        boolean isExpired(long now, long graceMillis) {
+            return result.isDone() && now - startedAt >= TimeUnit.MILLISECONDS.toNanos(graceMillis);
+        }
     }
 
 
     /** Logout 메서드
-     * Refresh Token을 저장소에서 삭제하여 토큰 재사용을 방지합니다.
+     * 현재 기기의 Refresh Token을 저장소에서 삭제하여 토큰 재사용을 방지합니다.
      * @param request Access Token을 포함하는 DTO
      */
     @Transactional
@@ -136,18 +224,57 @@ public class AuthService {
         //1. Access Token 에서 Authentication 객체 가져오기
         Authentication authentication = jwtTokenProvider.getAuthentication(request.getAccessToken());
         String username = authentication.getName();
-        String refreshTokenKey = REFRESH_TOKEN_PREFIX + username;
 
-        // 2. Refresh Token 저장소에서 해당 사용자 ID의 Refresh Token 삭제
-        //Redis에 키가 존재하는지 확인 후 삭제
-        if (redisTemplate.hasKey(refreshTokenKey)) {
-            redisTemplate.delete(refreshTokenKey);
+        //2. Refresh Token 저장소에서 현재 기기의 Refresh Token 삭제 (HDEL 1회)
+        // 기기 ID 가 없는 토큰(기기별 세션 도입 전 발급)은 모든 기기 로그아웃
+        String deviceId = jwtTokenProvider.getDeviceId(request.getAccessToken());
+        long startedAt = System.nanoTime();
+        try {
+            if (deviceId == null) {
+                refreshTokenStore.deleteAll(username);
+            } else {
+                refreshTokenStore.delete(username, deviceId);
+            }
+        } finally {
+            redisDeleteTimer.recordSince(startedAt);
         }
 
+        //3. Access Token 폐기 (만료 전까지 재사용 불가)
+        revokeAccessToken(request.getAccessToken());
+
         // SecurityContext 초기화
         SecurityContextHolder.clearContext();
     }
 
+    /** 모든 기기 Logout 메서드
+     * 해당 사용자의 모든 기기 Refresh Token 을 삭제합니다. (파이프라인 1회 왕복)
+     * @param request Access Token을 포함하는 DTO
+     */
+    @Transactional
+    public void logoutAll(TokenDto.Request request) {
+        Authentication authentication = jwtTokenProvider.getAuthentication(request.getAccessToken());
+        long startedAt = System.nanoTime();
+        try {
+            refreshTokenStore.deleteAll(authentication.getName());
+        } finally {
+            redisDeleteTimer.recordSince(startedAt);
+        }
+        revokeAccessToken(request.getAccessToken());
+
+        SecurityContextHolder.clearContext();
+    }
+
+    private void revokeAccessToken(String accessToken) {
+        String tokenId = jwtTokenProvider.getTokenId(accessToken);
+        long expiration = jwtTokenProvider.getExpiration(accessToken);
+        long startedAt = System.nanoTime();
+        try {
+            tokenRevocationService.revoke(tokenId, expiration);
+        } finally {
+            redisRevokeTimer.recordSince(startedAt);
+        }
+    }
+
 
 
 }
@@ -0,0 +1,151 @@
+package project.pp_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom Filter (스레드 안전, 잠금 없음)
+ * - "없음" 판정은 항상 정확 (false negative 없음), "있을 수 있음" 판정만 오탐(false positive) 가능
+ * - 비트 배열 크기 m, 해시 함수 개수 k 는 예상 원소 수 n 과 목표 오탐률 p 로 계산
+ *   m = -n ln p / (ln 2)^2, k = (m / n) ln 2
+ * - 해시 함수 k 개는 64비트 해시 2개의 조합(h1 + i * h2)으로 대신함 (Kirsch-Mitzenmacher)
+ * - 원소 삭제는 지원하지 않음 -> 사용하는 쪽에서 필터 자체를 주기적으로 교체
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final double targetFalsePositiveRate;
+
+    public BloomFilter(long expectedInsertions, double targetFalsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (targetFalsePositiveRate <= 0 || targetFalsePositiveRate >= 1) {
+            throw new IllegalArgumentException("targetFalsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(targetFalsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+
+        this.words = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+    }
+
+    /**
+     * 원소 추가
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    /**
+     * 포함 여부 (false -> 확실히 없음 / true -> 있거나 오탐)
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 기준 예상 오탐률 = (설정된 비트 비율)^k
+     */
+    public double estimatedFalsePositiveRate() {
+        return Math.pow((double) setBitCount() / bitSize, hashCount);
+    }
+
+    /**
+     * 설정된 비트 수로 추정한 원소 수 = -(m / k) ln(1 - X / m)
+     */
+    public long estimatedElementCount() {
+        long setBits = setBitCount();
+        if (setBits >= bitSize) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-((double) bitSize / hashCount) * Math.log(1 - (double) setBits / bitSize));
+    }
+
+    public long setBitCount() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public double getTargetFalsePositiveRate() {
+        return targetFalsePositiveRate;
+    }
+
+    //비트 배열 크기 (객체 헤더 제외)
+    public long getMemoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    //FNV-1a 64 + 비트 섞기
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    //SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,171 @@
+package project.pp_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.pp_backend.config.BroadcastSubscriberRegistry;
+import project.pp_backend.entity.Room;
+import project.pp_backend.entity.RoomType;
+import project.pp_backend.exception.DataNotFoundException;
+import project.pp_backend.exception.UnauthorizedAccessException;
+import project.pp_backend.repository.RoomMemberRepository;
+import project.pp_backend.repository.RoomRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 공지(BROADCAST) 채팅방 권한 - 구독자 수십만 명, 게시자(PUBLISHER)만 전송
+ * - 채팅방 종류 / 게시자 ID 는 채팅방별로 조회해서 노드 메모리에 보관 (Caffeine - 채팅방 수 제한 + 일정 시간 후 다시 조회)
+ *   -> 메시지 전송 경로에서 참가 기록(RoomMember)을 조회하지 않음
+ * - 참가 여부는 구독(SUBSCRIBE) 시에만 확인 (세션 / 구독당 1번)
+ *   -> 퇴장하면 커밋 이후 모든 노드에서 그 회원의 구독을 해제 (Redis Pub/Sub 으로 다른 노드에 전달)
+ * - 트랜잭션 없음 (보관된 값을 읽는 전송 경로에서 트랜잭션을 시작하지 않도록, 조회는 Repository 트랜잭션 사용)
+ */
+@Slf4j
+@Service
+public class BroadcastRoomService {
+
+    private static final String MEMBER_LEFT_CHANNEL = "broadcast:member-left";
+
+    private final RoomRepository roomRepository;
+    private final RoomMemberRepository roomMemberRepository;
+    private final BroadcastSubscriberRegistry subscriberRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    //roomId -> 채팅방 종류 / 게시자 ID (메시지를 보낸 적 있는 채팅방만, 오래 안 쓰인 채팅방부터 제거)
+    private final Cache<Long, RoomPolicy> policies;
+
+    //자신이 보낸 퇴장 메시지를 구분하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public BroadcastRoomService(
+            RoomRepository roomRepository,
+            RoomMemberRepository roomMemberRepository,
+            BroadcastSubscriberRegistry subscriberRegistry,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${broadcast.publisher-cache-seconds:60}") long policyTtlSeconds,
+            @Value("${broadcast.publisher-cache-max-rooms:10000}") long policyMaxRooms
+    ) {
+        this.roomRepository = roomRepository;
+        this.roomMemberRepository = roomMemberRepository;
+        this.subscriberRegistry = subscriberRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.policies = Caffeine.newBuilder()
+                .maximumSize(policyMaxRooms)
+                .expireAfterWrite(Duration.ofSeconds(policyTtlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onRemoteMemberLeft(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MEMBER_LEFT_CHANNEL)
+        );
+    }
+
+    /**
+     * 1. 공지 채팅방 여부
+     */
+    public boolean isBroadcast(Long roomId) {
+        return policy(roomId).broadcast();
+    }
+
+    /**
+     * 2. 메시지 전송 권한 확인 (공지 채팅방은 게시자만, 일반 채팅방은 확인하지 않음)
+     */
+    public void checkPublisher(Long roomId, Long memberId) {
+        RoomPolicy policy = policy(roomId);
+        if (policy.broadcast() && !policy.publisherIds().contains(memberId)) {
+            throw new UnauthorizedAccessException("공지 채팅방은 게시자만 메시지를 보낼 수 있습니다.");
+        }
+    }
+
+    /**
+     * 3. 구독 권한 확인 (참가 중인 회원만 - 구독 시 1번)
+     */
+    public void checkSubscriber(Long roomId, Long memberId) {
+        if (memberId == null || !roomMemberRepository.existsByRoomIdAndMemberId(roomId, memberId)) {
+            throw new UnauthorizedAccessException("채팅방에 참가하지 않은 회원입니다.");
+        }
+    }
+
+    /**
+     * 4. 채팅방 수정 / 삭제 시 보관한 정보 제거 (다른 노드는 보관 시간이 지나면 다시 조회)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEvict(EntityCacheService.EvictEvent event) {
+        if (event.entity() == EntityCacheService.CachedEntity.ROOM && event.id() != null) {
+            policies.invalidate(event.id());
+        }
+    }
+
+    /**
+     * 5. 퇴장 / 채팅방 삭제 시 구독 해제 - 이 노드는 바로, 다른 노드는 Redis 메시지로
+     * - 퇴장한 회원이 게시자일 수 있으므로 보관한 게시자 ID 도 제거
+     * 메시지 형식: "{nodeId}|{roomId}|{memberId 또는 *}"
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMemberLeft(RoomMembershipService.MemberLeftEvent event) {
+        policies.invalidate(event.roomId());
+        subscriberRegistry.unsubscribeMember(event.roomId(), event.memberId());
+        try {
+            redisTemplate.convertAndSend(MEMBER_LEFT_CHANNEL, nodeId + "|" + event.roomId() + "|"
+                    + (event.memberId() != null ? event.memberId() : "*"));
+        } catch (RuntimeException e) {
+            //전송 실패 시 다른 노드의 구독은 세션이 끝날 때 해제
+            log.warn("[BroadcastRoom] failed to publish member left {}: {}", event, e.getMessage());
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void onRemoteMemberLeft(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            Long roomId = Long.parseLong(parts[1]);
+            policies.invalidate(roomId);
+            subscriberRegistry.unsubscribeMember(roomId, "*".equals(parts[2]) ? null : Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("[BroadcastRoom] invalid member left message: {}", message);
+        }
+    }
+
+    //보관된 값이 없거나 만료됐으면 다시 조회 (같은 채팅방을 동시에 조회하면 1번만 조회)
+    private RoomPolicy policy(Long roomId) {
+        return policies.get(roomId, this::load);
+    }
+
+    private RoomPolicy load(Long roomId) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new DataNotFoundException("채팅방을 찾을 수 없습니다."));
+        boolean broadcast = room.getType() == RoomType.BROADCAST;
+        Set<Long> publisherIds = broadcast
+                ? Set.copyOf(roomMemberRepository.findPublisherIdsByRoomId(roomId))
+                : Set.of();
+
+        log.debug("[BroadcastRoom] room {} loaded (broadcast={}, publishers={})", roomId, broadcast, publisherIds.size());
+        return new RoomPolicy(broadcast, publisherIds);
+    }
+
+    private record RoomPolicy(boolean broadcast, Set<Long> publisherIds) {
+    }
+}
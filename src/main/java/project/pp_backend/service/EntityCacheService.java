@@ -0,0 +1,172 @@
+package project.pp_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.pp_backend.dto.CacheDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Room;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원(Member) / 채팅방(Room) 2차 캐시 관리
+ * - 캐시 자체는 Hibernate 2차 캐시 (노드별 로컬 캐시, 크기 제한 + TTL: application.conf)
+ * - 같은 노드의 수정/삭제는 Hibernate 가 캐시에 바로 반영
+ * - 다른 노드의 캐시는 커밋 이후 Redis Pub/Sub 으로 무효화 메시지를 보내서 제거
+ */
+@Slf4j
+@Service
+public class EntityCacheService {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_USERNAME_REGION = "member-username";
+    public static final String ROOM_REGION = "room";
+    public static final List<String> REGIONS = List.of(MEMBER_REGION, MEMBER_USERNAME_REGION, ROOM_REGION);
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    //JPA 초기화를 백그라운드에서 하는 경우(prod) 생성 시점에 기다리지 않도록 사용할 때 SessionFactory 를 꺼냄
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean redisInvalidationEnabled;
+
+    //자신이 보낸 무효화 메시지를 구분하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public EntityCacheService(
+            EntityManagerFactory entityManagerFactory,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${cache.invalidation.redis-enabled:true}") boolean redisInvalidationEnabled
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisInvalidationEnabled = redisInvalidationEnabled;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (redisInvalidationEnabled) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onRemoteInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(INVALIDATION_CHANNEL)
+            );
+        }
+    }
+
+
+    //*********** 무효화 **************
+
+    /**
+     * 캐시 무효화 이벤트 (MemberService / RoomService 에서 발행)
+     */
+    public record EvictEvent(CachedEntity entity, Long id, boolean deleted) {
+        public static EvictEvent member(Long id) {
+            return new EvictEvent(CachedEntity.MEMBER, id, false);
+        }
+
+        public static EvictEvent memberDeleted(Long id) {
+            return new EvictEvent(CachedEntity.MEMBER, id, true);
+        }
+
+        public static EvictEvent room(Long id) {
+            return new EvictEvent(CachedEntity.ROOM, id, false);
+        }
+    }
+
+    public enum CachedEntity {
+        MEMBER, ROOM
+    }
+
+    /**
+     * 커밋 이후 다른 노드에 무효화 메시지 전송 (롤백되면 전송하지 않음)
+     * 메시지 형식: "{nodeId}|{MEMBER|ROOM}|{id}|{deleted}"
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEvict(EvictEvent event) {
+        if (!redisInvalidationEnabled || event.id() == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + "|" + event.entity() + "|" + event.id() + "|" + event.deleted());
+        } catch (RuntimeException e) {
+            //전송 실패 시 다른 노드는 TTL 만료 후 갱신
+            log.warn("[EntityCache] failed to publish invalidation {}: {}", event, e.getMessage());
+        }
+    }
+
+    private void onRemoteInvalidation(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(new EvictEvent(CachedEntity.valueOf(parts[1]), Long.parseLong(parts[2]), Boolean.parseBoolean(parts[3])));
+        } catch (IllegalArgumentException e) {
+            log.warn("[EntityCache] invalid invalidation message: {}", message);
+        }
+    }
+
+    //이 노드의 2차 캐시에서 제거
+    void evictLocal(EvictEvent event) {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        if (event.entity() == CachedEntity.MEMBER) {
+            cache.evictEntityData(Member.class, event.id());
+            //username 은 변경되지 않으므로, 삭제된 경우에만 username -> id 캐시 제거
+            if (event.deleted()) {
+                cache.evictNaturalIdData(Member.class);
+            }
+        } else {
+            cache.evictEntityData(Room.class, event.id());
+        }
+    }
+
+
+    //*********** 통계 **************
+
+    /**
+     * 캐시 영역별 적중률 (cache.statistics.enabled=true -> hibernate.generate_statistics 일 때 집계)
+     */
+    public CacheDto.StatsResponse getStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<CacheDto.RegionStats> regions = new ArrayList<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.add(new CacheDto.RegionStats(region, regionStatistics));
+            }
+        }
+        return new CacheDto.StatsResponse(statistics.isStatisticsEnabled(), redisInvalidationEnabled, regions);
+    }
+
+    /**
+     * 캐시 영역 통계 (영역이 없으면 null) - 지표(EntityCacheMetrics) 수집 시 호출
+     */
+    public CacheRegionStatistics getRegionStatistics(String region) {
+        return sessionFactory().getStatistics().getCacheRegionStatistics(region);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -1,6 +1,7 @@
 package project.pp_backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.pp_backend.dto.FriendShipDto;
@@ -19,6 +20,13 @@ import java.util.stream.Collectors;
 public class FriendShipService {
     final private FriendShipRepository friendShipRepository;
     final private MemberRepository memberRepository;
+    final private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 친구 추가 / 삭제 이벤트 (커밋 이후 접속 중인 친구 목록 캐시 제거)
+     */
+    public record FriendShipChangedEvent(String ownerUsername) {
+    }
 
     /**
      * friendShip Owner 기준 정보 조회
@@ -64,6 +72,7 @@ public class FriendShipService {
         //3. friendShip 객체 생성 및 저장
         FriendShip friendShip = request.toEntity(owner, friend);
         FriendShip savedEntity = friendShipRepository.save(friendShip);
+        eventPublisher.publishEvent(new FriendShipChangedEvent(owner.getUsername()));
         //4. return
         return new FriendShipDto.Response(savedEntity);
     }
@@ -77,6 +86,7 @@ public class FriendShipService {
         FriendShip friendShip = friendShipRepository.findByOwnerUsernameAndFriendUsername(ownerUsername, friendUsername)
                 .orElseThrow(() -> new IllegalArgumentException("FriendShip not found"));
         friendShipRepository.delete(friendShip);
+        eventPublisher.publishEvent(new FriendShipChangedEvent(ownerUsername));
     }
 
     //친구 이름으로 조회
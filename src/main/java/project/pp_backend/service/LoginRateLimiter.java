@@ -0,0 +1,104 @@
+package project.pp_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import project.pp_backend.exception.TooManyRequestsException;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 빈도 제한 (Redis Token Bucket - 모든 노드가 같은 버킷 사용)
+ * - 회원(username) 버킷 + IP 버킷을 Lua 스크립트 1회로 함께 확인 (둘 다 남아 있을 때만 차감)
+ * - BCrypt 비밀번호 검증 전에 호출 -> 차단된 요청은 CPU 를 쓰지 않음
+ * - Redis 장애 시에는 로그인을 막지 않음 (비밀번호 검증 대기열 제한이 마지막 방어선)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String USERNAME_BUCKET_PREFIX = "LB:user:";
+    private static final String IP_BUCKET_PREFIX = "LB:ip:";
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/login-token-bucket.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final long usernameCapacity;
+    private final double usernameRefillPerMilli;
+    private final long ipCapacity;
+    private final double ipRefillPerMilli;
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder throttledCount = new LongAdder();
+    private final LongAdder redisErrorCount = new LongAdder();
+
+    public LoginRateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${login.rate-limit.username.capacity:10}") long usernameCapacity,
+            @Value("${login.rate-limit.username.refill-per-minute:10}") double usernameRefillPerMinute,
+            @Value("${login.rate-limit.ip.capacity:50}") long ipCapacity,
+            @Value("${login.rate-limit.ip.refill-per-minute:60}") double ipRefillPerMinute
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPerMilli = usernameRefillPerMinute / 60_000;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMilli = ipRefillPerMinute / 60_000;
+    }
+
+    /**
+     * 로그인 시도 1회 차감 (남은 시도가 없으면 TooManyRequestsException)
+     * @param username : 로그인 요청 ID (Key 길이를 고정하기 위해 해시로 저장)
+     * @param clientIp : 요청 IP
+     */
+    public void acquire(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        Long retryAfterMillis;
+        try {
+            retryAfterMillis = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(USERNAME_BUCKET_PREFIX + RefreshTokenStore.hash(String.valueOf(username)),
+                            IP_BUCKET_PREFIX + clientIp),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(usernameCapacity), String.valueOf(usernameRefillPerMilli),
+                    String.valueOf(ipCapacity), String.valueOf(ipRefillPerMilli)
+            );
+        } catch (RuntimeException e) {
+            redisErrorCount.increment();
+            log.warn("[LoginRateLimiter] failed to check bucket: {}", e.getMessage());
+            return;
+        }
+
+        if (retryAfterMillis != null && retryAfterMillis > 0) {
+            throttledCount.increment();
+            throw new TooManyRequestsException(
+                    "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                    Math.max(1, (retryAfterMillis + 999) / 1000)
+            );
+        }
+        allowedCount.increment();
+    }
+
+    public long getAllowedCount() {
+        return allowedCount.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    public long getRedisErrorCount() {
+        return redisErrorCount.sum();
+    }
+}
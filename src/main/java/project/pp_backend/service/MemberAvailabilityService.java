@@ -0,0 +1,272 @@
+package project.pp_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.repository.MemberRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원가입 username / nickname / email 사용 가능 여부 확인
+ * - 노드별 메모리 Bloom Filter (항목별 1개) 에 사용 중인 값을 보관
+ *   Bloom Filter 에 없으면 DB 조회 없이 "사용 가능", 있을 수도 있으면(probable hit) DB 에서 확인
+ * - 가입 / 정보 수정이 커밋된 뒤 추가하고 Redis Pub/Sub 으로 다른 노드에도 전달 (TakenEvent)
+ * - 삭제된 값은 Bloom Filter 에서 지울 수 없으므로 주기적으로 DB 에서 다시 만듦 (그 전까지는 DB 조회로 정확히 응답)
+ *   다시 만드는 작업은 전용 스레드에서 실행 (주기 작업 스레드를 막지 않음)
+ *   다시 만드는 동안 추가된 값은 새 Filter 에도 넣음 + 커밋된 뒤에만 추가 -> 조회가 지나간 뒤 커밋된 값도 빠지지 않음
+ * - MySQL 기본 collation 이 대소문자를 구분하지 않으므로 소문자로 바꿔서 저장/확인
+ */
+@Slf4j
+@Service
+public class MemberAvailabilityService {
+
+    private static final String TAKEN_CHANNEL = "member:taken";
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedMembers;
+    private final double falsePositiveRate;
+
+    private volatile Filters current;
+    private volatile Filters building; //다시 만드는 중인 Filter (그 사이 추가된 값도 함께 넣음)
+    private volatile boolean ready; //처음 만들기 전에는 항상 DB 조회
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-availability-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder filterMissCount = new LongAdder();
+    private final LongAdder databaseCheckCount = new LongAdder();
+
+    public MemberAvailabilityService(
+            MemberRepository memberRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${member.availability.expected-members:1000000}") long expectedMembers,
+            @Value("${member.availability.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedMembers = expectedMembers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilters();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onRemoteTaken(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TAKEN_CHANNEL)
+        );
+    }
+
+    public enum Field {
+        USERNAME, NICKNAME, EMAIL
+    }
+
+    //사용 중이 된 값 (가입 / 정보 수정 - 변경하지 않은 항목은 null), 커밋된 뒤 Filter 에 추가
+    public record TakenEvent(String username, String nickname, String email) {
+    }
+
+    /**
+     * 1. 사용 가능 여부 확인 (요청하지 않은 항목은 null)
+     */
+    public MemberDto.AvailabilityResponse check(String username, String nickname, String email) {
+        return new MemberDto.AvailabilityResponse(
+                StringUtils.hasText(username) ? isAvailable(Field.USERNAME, username) : null,
+                StringUtils.hasText(nickname) ? isAvailable(Field.NICKNAME, nickname) : null,
+                StringUtils.hasText(email) ? isAvailable(Field.EMAIL, email) : null
+        );
+    }
+
+    public boolean isAvailable(Field field, String value) {
+        if (ready && !current.mightContain(field, normalize(value))) {
+            filterMissCount.increment();
+            return true;
+        }
+
+        databaseCheckCount.increment();
+        return switch (field) {
+            case USERNAME -> !memberRepository.existsByUsername(value);
+            case NICKNAME -> !memberRepository.existsByNickname(value);
+            case EMAIL -> !memberRepository.existsByEmail(value);
+        };
+    }
+
+    /**
+     * 2. 사용 중인 값 추가 (회원 가입 / 정보 수정 / 일괄 등록) - 다른 노드에도 전달
+     * - 커밋된 뒤에 호출 (커밋 전에 추가하면 다시 만드는 조회가 아직 커밋되지 않은 행을 지나친 뒤 새 Filter 로 교체되어 빠질 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTaken(TakenEvent event) {
+        markTaken(event.username(), event.nickname(), event.email());
+    }
+
+    public void markTaken(String username, String nickname, String email) {
+        markTaken(Field.USERNAME, username);
+        markTaken(Field.NICKNAME, nickname);
+        markTaken(Field.EMAIL, email);
+    }
+
+    private void markTaken(Field field, String value) {
+        if (!StringUtils.hasText(value)) {
+            return;
+        }
+        put(field, normalize(value));
+        try {
+            redisTemplate.convertAndSend(TAKEN_CHANNEL, field + "|" + value);
+        } catch (RuntimeException e) {
+            //전달 실패 시 다른 노드는 다음 재생성 때 반영 (가입 시 중복 검사는 DB 에서 하므로 안전)
+            log.warn("[MemberAvailability] failed to publish {}: {}", field, e.getMessage());
+        }
+    }
+
+    /**
+     * 3. DB 에서 다시 만들기 (시작 시 + 주기적으로) - 삭제된 값 정리
+     * - 전용 스레드에서 실행 (이전 작업이 아직 진행 중이면 건너뜀)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${member.availability.rebuild-interval-milliseconds:3600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildNow();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            log.warn("[MemberAvailability] failed to schedule rebuild: {}", e.getMessage());
+        }
+    }
+
+    void rebuildNow() {
+        long startedAt = System.currentTimeMillis();
+        Filters filters = newFilters();
+        building = filters;
+        try {
+            long count = 0;
+            long afterId = 0;
+            while (true) {
+                List<MemberRepository.MemberKeys> page =
+                        memberRepository.findKeysAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (MemberRepository.MemberKeys keys : page) {
+                    filters.put(Field.USERNAME, normalize(keys.getUsername()));
+                    filters.put(Field.NICKNAME, normalize(keys.getNickname()));
+                    filters.put(Field.EMAIL, normalize(keys.getEmail()));
+                    afterId = keys.getId();
+                }
+                count += page.size();
+                if (page.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            current = filters;
+            ready = true;
+            log.info("[MemberAvailability] rebuilt filters from {} members in {} ms",
+                    count, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("[MemberAvailability] failed to rebuild filters: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    public long getFilterMissCount() {
+        return filterMissCount.sum();
+    }
+
+    public long getDatabaseCheckCount() {
+        return databaseCheckCount.sum();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void onRemoteTaken(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            put(Field.valueOf(message.substring(0, separator)), normalize(message.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("[MemberAvailability] invalid message: {}", message);
+        }
+    }
+
+    private void put(Field field, String normalized) {
+        if (normalized == null) {
+            return;
+        }
+        Filters building = this.building;
+        current.put(field, normalized);
+        if (building != null) {
+            building.put(field, normalized);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Filters newFilters() {
+        return new Filters(
+                new BloomFilter(expectedMembers, falsePositiveRate),
+                new BloomFilter(expectedMembers, falsePositiveRate),
+                new BloomFilter(expectedMembers, falsePositiveRate)
+        );
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter nicknames, BloomFilter emails) {
+        void put(Field field, String value) {
+            if (value != null) {
+                filter(field).put(value);
+            }
+        }
+
+        boolean mightContain(Field field, String value) {
+            return filter(field).mightContain(value);
+        }
+
+        private BloomFilter filter(Field field) {
+            return switch (field) {
+                case USERNAME -> usernames;
+                case NICKNAME -> nicknames;
+                case EMAIL -> emails;
+            };
+        }
+    }
+}
@@ -0,0 +1,503 @@
+package project.pp_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.exception.ServiceBusyException;
+import project.pp_backend.repository.MemberRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록 (CSV / NDJSON 업로드)
+ * - 업로드를 한 줄씩 읽으면서 chunk 단위로 처리하고, chunk 마다 행별 결과를 NDJSON 으로 바로 내보냄
+ * - chunk 처리 순서
+ *   1. 입력값 검증 (회원가입과 같은 CreateRequest 검증 규칙) + 같은 파일 안의 중복 확인
+ *   2. DB 중복 확인 - username / nickname / email 별 IN 조회 1회씩
+ *      중복 비교는 소문자로 맞춰서 함 (MySQL 기본 collation 은 대소문자를 구분하지 않으므로, IN 조회 결과는 DB 에 저장된 표기로 돌아옴)
+ *   3. 비밀번호 BCrypt - 크기가 제한된 전용 ForkJoinPool 에서 병렬 처리 (기본: CPU 코어의 절반)
+ *   4. 저장 - chunk 당 트랜잭션 1개, JDBC batch insert (2차 캐시는 사용하지 않음)
+ *      실패하면 해당 chunk 만 한 행씩 다시 저장해서 행별 결과를 확인
+ */
+@Slf4j
+@Service
+public class MemberImportService implements DisposableBean {
+
+    private static final List<String> CSV_COLUMNS = List.of("username", "password", "nickname", "email", "role");
+
+    private final MemberRepository memberRepository;
+    private final MemberAvailabilityService memberAvailabilityService;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public MemberImportService(
+            MemberRepository memberRepository,
+            MemberAvailabilityService memberAvailabilityService,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.import.hash-parallelism:0}") int hashParallelism,
+            @Value("${member.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.memberAvailabilityService = memberAvailabilityService;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        //0 이면 CPU 코어의 절반 (최소 1) -> 나머지 코어는 채팅/일반 요청용 (PasswordVerifier 와 같은 기준)
+        this.hashPool = new ForkJoinPool(hashParallelism > 0 ? hashParallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * 일괄 등록 실행 - 행별 결과를 out 으로 바로 내보내고, 마지막 줄에 요약 출력
+     * @param in : 업로드 본문 (UTF-8)
+     * @param csv : true -> CSV (첫 줄은 헤더: username,password,nickname,email[,role]) / false -> NDJSON
+     * @param out : 응답 본문 (NDJSON)
+     */
+    public MemberDto.ImportSummary importMembers(InputStream in, boolean csv, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        ImportContext context = new ImportContext(out);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        Map<String, Integer> header = null;
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        String line;
+        long lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            if (csv && header == null) {
+                header = parseHeader(line);
+                continue;
+            }
+
+            chunk.add(csv ? parseCsvRow(lineNumber, line, header) : parseJsonRow(lineNumber, line));
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, context);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, context);
+        }
+
+        MemberDto.ImportSummary summary = context.summary(System.currentTimeMillis() - startedAt);
+        context.write(summary);
+        context.flush();
+        log.info("[MemberImport] {}", summary);
+        return summary;
+    }
+
+
+    //*********** chunk 처리 **************
+
+    private void processChunk(List<ImportRow> rows, ImportContext context) throws IOException {
+        //1. 입력값 검증 + 같은 파일 안의 중복 확인
+        List<ImportRow> candidates = new ArrayList<>();
+        for (ImportRow row : rows) {
+            if (row.error() != null) {
+                context.add(row.result(MemberDto.ImportStatus.INVALID, null, row.error()));
+                continue;
+            }
+            String invalid = validate(row.request());
+            if (invalid != null) {
+                context.add(row.result(MemberDto.ImportStatus.INVALID, null, invalid));
+                continue;
+            }
+            String duplicate = context.markSeen(row.request());
+            if (duplicate != null) {
+                context.add(row.result(MemberDto.ImportStatus.DUPLICATE, null, "같은 파일 안에서 중복된 " + duplicate + " 입니다."));
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        //2. DB 중복 확인 (IN 조회 3회)
+        Set<String> usernames = existing(candidates, MemberDto.CreateRequest::getUsername, memberRepository::findExistingUsernames);
+        Set<String> nicknames = existing(candidates, MemberDto.CreateRequest::getNickname, memberRepository::findExistingNicknames);
+        Set<String> emails = existing(candidates, MemberDto.CreateRequest::getEmail, memberRepository::findExistingEmails);
+
+        List<ImportRow> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            MemberDto.CreateRequest request = row.request();
+            String duplicate = usernames.contains(key(request.getUsername())) ? "username"
+                    : nicknames.contains(key(request.getNickname())) ? "nickname"
+                    : request.getEmail() != null && emails.contains(key(request.getEmail())) ? "email"
+                    : null;
+            if (duplicate != null) {
+                context.add(row.result(MemberDto.ImportStatus.DUPLICATE, null, "이미 존재하는 " + duplicate + " 입니다."));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        //3. 비밀번호 병렬 BCrypt + 4. 저장
+        if (!accepted.isEmpty()) {
+            List<Member> members = toMembers(accepted, encodePasswords(accepted));
+            insert(accepted, members, context);
+        }
+
+        context.writeResults();
+    }
+
+    private List<String> encodePasswords(List<ImportRow> rows) {
+        try {
+            //병렬 스트림을 전용 풀에서 실행 -> 공용 ForkJoinPool / 요청 스레드 풀과 분리
+            return hashPool.submit(() -> rows.parallelStream()
+                    .map(row -> passwordEncoder.encode(row.request().getPassword()))
+                    .toList()
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("회원 일괄 등록이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 암호화에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private List<Member> toMembers(List<ImportRow> rows, List<String> encodedPasswords) {
+        List<Member> members = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MemberDto.CreateRequest request = rows.get(i).request();
+            members.add(new Member(request.getUsername(), encodedPasswords.get(i), request.getNickname(),
+                    request.getEmail(), request.getRole()));
+        }
+        return members;
+    }
+
+    //chunk 전체를 트랜잭션 1개로 저장 (실패 시 한 행씩 다시 저장)
+    private void insert(List<ImportRow> rows, List<Member> members, ImportContext context) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistAll(members));
+            for (int i = 0; i < rows.size(); i++) {
+                created(rows.get(i), members.get(i), context);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MemberImport] batch insert failed, retrying row by row: {}", e.getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                insertOne(rows.get(i), members.get(i), context);
+            }
+        }
+    }
+
+    private void insertOne(ImportRow row, Member failed, ImportContext context) {
+        //실패한 트랜잭션에서 ID 가 할당되었을 수 있으므로 새 엔티티로 저장
+        Member member = new Member(failed.getUsername(), failed.getPassword(), failed.getNickname(),
+                failed.getEmail(), failed.getMemberRole());
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistAll(List.of(member)));
+            created(row, member, context);
+        } catch (DataIntegrityViolationException | ConstraintViolationException e) {
+            //flush 중 위반은 Hibernate 예외 그대로 전달됨 (커밋 시점 위반만 DataIntegrityViolationException 으로 변환)
+            context.add(row.result(MemberDto.ImportStatus.DUPLICATE, null, "이미 존재하는 회원 정보입니다."));
+        } catch (RuntimeException e) {
+            context.add(row.result(MemberDto.ImportStatus.FAILED, null, "저장에 실패했습니다."));
+        }
+    }
+
+    private void created(ImportRow row, Member member, ImportContext context) {
+        memberAvailabilityService.markTaken(member.getUsername(), member.getNickname(), member.getEmail());
+        context.add(row.result(MemberDto.ImportStatus.CREATED, member.getId(), null));
+    }
+
+    private void persistAll(List<Member> members) {
+        //일괄 등록한 회원은 2차 캐시에 넣지 않음 (캐시를 밀어내지 않도록)
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        members.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    //*********** 파싱 / 검증 **************
+
+    private Map<String, Integer> parseHeader(String line) {
+        Map<String, Integer> header = new HashMap<>();
+        List<String> columns = splitCsv(line);
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : CSV_COLUMNS.subList(0, 3)) {
+            if (!header.containsKey(required)) {
+                throw new IllegalArgumentException("CSV 헤더에 " + required + " 컬럼이 없습니다. (" + String.join(",", CSV_COLUMNS) + ")");
+            }
+        }
+        return header;
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line, Map<String, Integer> header) {
+        List<String> values;
+        try {
+            values = splitCsv(line);
+        } catch (IllegalArgumentException e) {
+            return ImportRow.invalid(lineNumber, null, e.getMessage());
+        }
+        Map<String, String> row = new HashMap<>();
+        header.forEach((column, index) -> row.put(column, index < values.size() ? values.get(index) : null));
+        return toRow(lineNumber, row);
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (node == null || !node.isObject()) {
+                return ImportRow.invalid(lineNumber, null, "JSON 객체가 아닙니다.");
+            }
+            Map<String, String> row = new HashMap<>();
+            for (String column : CSV_COLUMNS) {
+                JsonNode value = node.get(column);
+                row.put(column, value == null || value.isNull() ? null : value.asText());
+            }
+            return toRow(lineNumber, row);
+        } catch (IOException e) {
+            return ImportRow.invalid(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ImportRow toRow(long lineNumber, Map<String, String> row) {
+        String username = emptyToNull(row.get("username"));
+        MemberRole role = MemberRole.USER;
+        String roleValue = emptyToNull(row.get("role"));
+        if (roleValue != null) {
+            try {
+                role = MemberRole.valueOf(roleValue.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ImportRow.invalid(lineNumber, username, "알 수 없는 회원 권한입니다: " + roleValue);
+            }
+        }
+        if (role == MemberRole.SUPER_ADMIN) {
+            return ImportRow.invalid(lineNumber, username, "일괄 등록으로 최고 관리자를 만들 수 없습니다.");
+        }
+
+        MemberDto.CreateRequest request = MemberDto.CreateRequest.builder()
+                .username(username)
+                .password(emptyToNull(row.get("password")))
+                .nickname(emptyToNull(row.get("nickname")))
+                .email(emptyToNull(row.get("email")))
+                .role(role)
+                .build();
+        return new ImportRow(lineNumber, request, null);
+    }
+
+    //회원가입(CreateRequest)과 같은 검증 규칙
+    private String validate(MemberDto.CreateRequest request) {
+        Set<ConstraintViolation<MemberDto.CreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    //CSV 한 줄 분리 (따옴표 안의 쉼표, "" -> " 지원)
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String emptyToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    //DB 에 이미 있는 값 (소문자)
+    private static Set<String> existing(List<ImportRow> rows,
+                                        Function<MemberDto.CreateRequest, String> getter,
+                                        Function<Collection<String>, List<String>> query) {
+        Set<String> values = rows.stream()
+                .map(row -> getter.apply(row.request()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return query.apply(values).stream()
+                .map(MemberImportService::key)
+                .collect(Collectors.toSet());
+    }
+
+    //중복 비교용 값 (대소문자 구분 없음)
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+
+    //*********** 내부 클래스 **************
+
+    private record ImportRow(long line, MemberDto.CreateRequest request, String error) {
+        static ImportRow invalid(long line, String username, String error) {
+            MemberDto.CreateRequest request = MemberDto.CreateRequest.builder().username(username).build();
+            return new ImportRow(line, request, error);
+        }
+
+        MemberDto.ImportResult result(MemberDto.ImportStatus status, Long id, String message) {
+            return MemberDto.ImportResult.builder()
+                    .line(line)
+                    .username(request.getUsername())
+                    .status(status)
+                    .id(id)
+                    .message(message)
+                    .build();
+        }
+    }
+
+    /**
+     * 업로드 1건의 진행 상태 (파일 안 중복 확인용 값, 집계, 출력 대기 중인 결과)
+     */
+    private final class ImportContext {
+        private final OutputStream out;
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenNicknames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<MemberDto.ImportResult> pending = new ArrayList<>();
+        private final Map<MemberDto.ImportStatus, Long> counts = new HashMap<>();
+
+        private ImportContext(OutputStream out) {
+            this.out = out;
+        }
+
+        //같은 파일 안에서 이미 나온 값이면 해당 항목 이름 반환 (대소문자 구분 없음)
+        private String markSeen(MemberDto.CreateRequest request) {
+            String username = key(request.getUsername());
+            String nickname = key(request.getNickname());
+            String email = request.getEmail() != null ? key(request.getEmail()) : null;
+            if (seenUsernames.contains(username)) {
+                return "username";
+            }
+            if (seenNicknames.contains(nickname)) {
+                return "nickname";
+            }
+            if (email != null && seenEmails.contains(email)) {
+                return "email";
+            }
+            seenUsernames.add(username);
+            seenNicknames.add(nickname);
+            if (email != null) {
+                seenEmails.add(email);
+            }
+            return null;
+        }
+
+        private void add(MemberDto.ImportResult result) {
+            pending.add(result);
+            counts.merge(result.getStatus(), 1L, Long::sum);
+        }
+
+        //chunk 결과를 줄 번호 순서로 내보내기
+        private void writeResults() throws IOException {
+            pending.sort(Comparator.comparingLong(MemberDto.ImportResult::getLine));
+            for (MemberDto.ImportResult result : pending) {
+                write(result);
+            }
+            pending.clear();
+            flush();
+        }
+
+        private void write(Object value) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        }
+
+        private void flush() throws IOException {
+            out.flush();
+        }
+
+        private MemberDto.ImportSummary summary(long elapsedMillis) {
+            long created = counts.getOrDefault(MemberDto.ImportStatus.CREATED, 0L);
+            long duplicate = counts.getOrDefault(MemberDto.ImportStatus.DUPLICATE, 0L);
+            long invalid = counts.getOrDefault(MemberDto.ImportStatus.INVALID, 0L);
+            long failed = counts.getOrDefault(MemberDto.ImportStatus.FAILED, 0L);
+            return MemberDto.ImportSummary.builder()
+                    .summary(true)
+                    .total(created + duplicate + invalid + failed)
+                    .created(created)
+                    .duplicate(duplicate)
+                    .invalid(invalid)
+                    .failed(failed)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package project.pp_backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,12 +12,15 @@ import project.pp_backend.exception.DataAlreadyExistsException;
 import project.pp_backend.exception.DataNotFoundException;
 import project.pp_backend.repository.MemberRepository;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     //1. 회원가입 로직
     @Transactional
@@ -36,35 +40,42 @@ public class MemberService {
 
         //1-4. 엔티티 저장
         Member savedMember = memberRepository.save(newMember);
+        eventPublisher.publishEvent(new MemberAvailabilityService.TakenEvent(
+                savedMember.getUsername(), savedMember.getNickname(), savedMember.getEmail()));
 
         //1-5. responseDto 타입 반환
         return new MemberDto.Response(savedMember);
     }
 
-    //중복검사 메서드
+    //중복검사 메서드 - username / nickname / email 을 조회 1회로 확인 (동시 가입은 유니크 제약조건으로 차단)
     private void validateDuplicateMember(String username, String nickname, String email) {
+        List<MemberRepository.MemberKeys> matches = memberRepository.findKeysMatchingAny(
+                StringUtils.hasText(username) ? username : null,
+                StringUtils.hasText(nickname) ? nickname : null,
+                StringUtils.hasText(email) ? email : null
+        );
+
         // 1. Username 중복 검사
-        if (StringUtils.hasText(username)) {
-            if (memberRepository.findByUsername(username).isPresent()) {
-                throw new DataAlreadyExistsException("이미 존재하는 username 입니다.");
-            }
+        if (matches.stream().anyMatch(keys -> equalsIgnoreCase(username, keys.getUsername()))) {
+            throw new DataAlreadyExistsException("이미 존재하는 username 입니다.");
         }
 
         // 2. Nickname 중복 검사
-        if (StringUtils.hasText(nickname)) {
-            if (memberRepository.findByNickname(nickname).isPresent()) {
-                throw new DataAlreadyExistsException("이미 존재하는 nickname 입니다.");
-            }
+        if (matches.stream().anyMatch(keys -> equalsIgnoreCase(nickname, keys.getNickname()))) {
+            throw new DataAlreadyExistsException("이미 존재하는 nickname 입니다.");
         }
 
         // 3. Email 중복 검사
-        if (StringUtils.hasText(email)) {
-            if (memberRepository.findByEmail(email).isPresent()) {
-                throw new DataAlreadyExistsException("이미 존재하는 email 입니다.");
-            }
+        if (matches.stream().anyMatch(keys -> equalsIgnoreCase(email, keys.getEmail()))) {
+            throw new DataAlreadyExistsException("이미 존재하는 email 입니다.");
         }
     }
 
+    //MySQL 기본 collation 은 대소문자를 구분하지 않음
+    private boolean equalsIgnoreCase(String requested, String existing) {
+        return StringUtils.hasText(requested) && requested.equalsIgnoreCase(existing);
+    }
+
 
     //2-1. 회원 정보 조회 (id 기반)
     public MemberDto.Response getMemberById(Long id) {
@@ -99,6 +110,7 @@ public class MemberService {
                 throw new DataAlreadyExistsException("이미 존재하는 닉네임 입니다.");
             }
             member.updateNickname(request.getNickname());
+            eventPublisher.publishEvent(new MemberAvailabilityService.TakenEvent(null, request.getNickname(), null));
         }
 
         //3. 회원 정보 수정 (email)
@@ -107,9 +119,13 @@ public class MemberService {
                 throw new DataAlreadyExistsException("이미 존재하는 이메일 입니다.");
             }
             member.updateEmail(request.getEmail());
+            eventPublisher.publishEvent(new MemberAvailabilityService.TakenEvent(null, null, request.getEmail()));
         }
 
-        //4. 변경된 회원 정보 반환
+        //4. 다른 노드의 회원 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(EntityCacheService.EvictEvent.member(member.getId()));
+
+        //5. 변경된 회원 정보 반환
         return new MemberDto.Response(member);
     }
 
@@ -138,6 +154,7 @@ public class MemberService {
         // 5. 성공시, 새 비밀번호 암호화 후 업데이트
         String newEncodedPassword = passwordEncoder.encode(request.getNewPassword());
         member.updatePassword(newEncodedPassword);
+        eventPublisher.publishEvent(EntityCacheService.EvictEvent.member(member.getId()));
 
         // 6. 변경 회원 username 반환
         return username;
@@ -155,6 +172,8 @@ public class MemberService {
                 .orElseThrow(() -> new DataNotFoundException("회원(Member)을 찾을 수 없음"));
         //2. 회원 삭제
         memberRepository.delete(member);
+        //3. 다른 노드의 회원 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(EntityCacheService.EvictEvent.memberDeleted(member.getId()));
         return username;
     }
 
@@ -0,0 +1,80 @@
+package project.pp_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.pp_backend.repository.RoomMemberRepository;
+import project.pp_backend.repository.RoomMemberRepositoryCustom.ReconcileBatch;
+
+import java.util.function.BiFunction;
+
+/**
+ * 참가 인원(room.member_count) / 참가 채팅방 수(member.room_count) 카운터 보정 (주기 작업)
+ * - 카운터는 RoomMembershipService 가 참가 기록 변경과 같은 트랜잭션에서 증감 -> 평소에는 어긋나지 않음
+ *   (DB 를 직접 수정한 경우, 카운터를 거치지 않는 삭제 등으로 어긋난 값만 보정)
+ * - ID 순서로 batch-size 개씩, 배치마다 짧은 트랜잭션 (대상 행만 잠금 - 참가 / 퇴장을 오래 막지 않음)
+ * - 여러 노드에서 동시에 실행돼도 결과는 같음 (행 잠금 순서대로 보정)
+ * - 전체 채팅방 / 회원을 훑는 긴 작업 -> 주기 작업 스레드가 여러 개여야 다른 주기 작업이 멈추지 않음 (spring.task.scheduling.pool.size)
+ */
+@Slf4j
+@Service
+public class MembershipCounterReconciler {
+
+    private final RoomMemberRepository roomMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public MembershipCounterReconciler(
+            RoomMemberRepository roomMemberRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${room.counter.reconcile-enabled:true}") boolean enabled,
+            @Value("${room.counter.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.roomMemberRepository = roomMemberRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 1. 전체 채팅방 / 회원 카운터 보정
+     */
+    @Scheduled(initialDelayString = "${room.counter.reconcile-initial-delay-milliseconds:600000}",
+            fixedDelayString = "${room.counter.reconcile-interval-milliseconds:3600000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        int rooms = reconcile(roomMemberRepository::reconcileRoomMemberCounts);
+        int members = reconcile(roomMemberRepository::reconcileMemberRoomCounts);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (rooms + members > 0) {
+            log.warn("[MembershipCounter] corrected {} room counters, {} member counters ({} ms)", rooms, members, elapsedMillis);
+        } else {
+            log.debug("[MembershipCounter] counters are consistent ({} ms)", elapsedMillis);
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //마지막 배치(batchSize 보다 적게 확인)까지 반복 -> 수정한 행 수
+    private int reconcile(BiFunction<Long, Integer, ReconcileBatch> batch) {
+        long afterId = 0;
+        int corrected = 0;
+        while (true) {
+            long from = afterId;
+            ReconcileBatch result = transactionTemplate.execute(status -> batch.apply(from, batchSize));
+            corrected += result.corrected();
+            if (result.scanned() < batchSize) {
+                return corrected;
+            }
+            afterId = result.lastId();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package project.pp_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.pp_backend.dto.MessageDto;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 재전송(중복) 메시지 확인용 캐시
+ * - Key: (보낸 회원 username, 클라이언트 메시지 ID) / Value: 최초 저장된 메시지 응답
+ * - 크기 제한 + 시간 창(window) 제한 -> 오래된 항목부터 제거
+ * - 잠금 경합을 줄이기 위해 Key 해시 기준으로 여러 구역(stripe)에 나누어 저장
+ * - 캐시에서 빠진 항목은 DB 의 유니크 제약조건(member_id, client_message_id)으로 확인
+ */
+@Component
+public class MessageDedupCache {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final long windowNanos;
+    //현재 시각 (나노초, 테스트에서 시간 창 경과 확인용으로 교체)
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public MessageDedupCache(
+            @Value("${message.dedup.max-entries:100000}") int maxEntries,
+            @Value("${message.dedup.window-seconds:300}") long windowSeconds
+    ) {
+        this(maxEntries, windowSeconds, System::nanoTime);
+    }
+
+    MessageDedupCache(int maxEntries, long windowSeconds, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        int maxEntriesPerStripe = Math.max(1, maxEntries / STRIPE_COUNT);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(maxEntriesPerStripe);
+        }
+    }
+
+    /**
+     * 최초 저장된 메시지 응답 조회 (없거나 시간 창이 지났으면 null)
+     */
+    public MessageDto.Response get(String username, String clientMessageId) {
+        DedupKey key = new DedupKey(username, clientMessageId);
+        Stripe stripe = stripe(key);
+        long now = nanoTime.getAsLong();
+
+        synchronized (stripe) {
+            CachedResponse entry = stripe.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.storedAt() >= windowNanos) {
+                stripe.remove(key);
+                return null;
+            }
+            return entry.response();
+        }
+    }
+
+    /**
+     * 저장된 메시지 응답 등록 (트랜잭션 커밋 이후 호출)
+     */
+    public void put(String username, String clientMessageId, MessageDto.Response response) {
+        DedupKey key = new DedupKey(username, clientMessageId);
+        Stripe stripe = stripe(key);
+        long now = nanoTime.getAsLong();
+
+        synchronized (stripe) {
+            stripe.put(key, new CachedResponse(response, now));
+            stripe.evictExpired(now - windowNanos);
+        }
+    }
+
+    private Stripe stripe(DedupKey key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private record DedupKey(String username, String clientMessageId) {
+    }
+
+    private record CachedResponse(MessageDto.Response response, long storedAt) {
+    }
+
+    /**
+     * 삽입 순서 유지 LinkedHashMap -> 가장 오래된 항목이 항상 맨 앞
+     */
+    private static final class Stripe extends LinkedHashMap<DedupKey, CachedResponse> {
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DedupKey, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+
+        //시간 창이 지난 항목 제거 (앞에서부터 확인하다가 유효한 항목을 만나면 중단)
+        private void evictExpired(long threshold) {
+            Iterator<CachedResponse> iterator = values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().storedAt() >= threshold) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+}
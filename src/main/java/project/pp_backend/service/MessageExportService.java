@@ -0,0 +1,315 @@
+package project.pp_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+import project.pp_backend.config.ExportDataSource;
+import project.pp_backend.dto.MessageDto;
+import project.pp_backend.entity.Message;
+import project.pp_backend.entity.MessageType;
+import project.pp_backend.exception.DataNotFoundException;
+import project.pp_backend.exception.TooManyRequestsException;
+import project.pp_backend.repository.MessageRepository;
+import project.pp_backend.repository.RoomRepository;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅방 대화 기록 내보내기 (오래된 순, gzip 압축 NDJSON / CSV)
+ * - JDBC 커서로 fetch-size 행씩 읽으면서 1건씩 출력 (엔티티를 만들지 않음 -> 메시지 수와 관계없이 메모리 일정)
+ *   MySQL 서버 커서(useCursorFetch=true)는 내보내기 전용 커넥션 풀(ExportDataSource)에만 적용
+ * - 이어받기 : 마지막으로 받은 메시지 ID (message 시퀀스 값) 다음부터 - (createdAt, id) keyset 조건
+ * - flush-rows 건마다 압축 블록을 비워서 전송 (클라이언트가 받는 중에도 진행 상황 확인 가능)
+ * - 관리자 전용 (AdminApiController - /api/admin/**)
+ * - 내보내기 1건이 끝날 때까지 커넥션 1개를 사용 -> 노드당 동시 내보내기 수 제한 (max-concurrent, 초과 시 429)
+ *   + 관리자 1명당 동시 1건 (한 사람이 자리를 모두 차지하지 않도록)
+ *   + 1건당 최대 시간 (timeout-seconds, 초과 시 중단 -> 끝나지 않은 gzip 으로 응답, afterId 로 이어받기)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MessageExportService {
+
+    private static final String CSV_HEADER = "id,createdAt,memberId,type,content\n";
+    private static final long RETRY_AFTER_SECONDS = 30;
+    private static final int FETCH_SIZE = 500;
+
+    //(room_id, created_at) 인덱스 순서 그대로 읽음 (정렬 없음), 이어받기는 (created_at, id) keyset
+    private static final String EXPORT = "select id, content, type, member_id, room_id, created_at, updated_at "
+            + "from message where room_id = ? order by created_at, id";
+    private static final String EXPORT_AFTER = "select id, content, type, member_id, room_id, created_at, updated_at "
+            + "from message where room_id = ? and created_at >= ? and (created_at > ? or id > ?) order by created_at, id";
+
+    private final MessageRepository messageRepository;
+    private final RoomRepository roomRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final int flushRows;
+    private final long timeoutNanos;
+    private final Semaphore permits;
+    private final Set<String> activeUsers = ConcurrentHashMap.newKeySet();
+
+    public MessageExportService(
+            MessageRepository messageRepository,
+            RoomRepository roomRepository,
+            ObjectMapper objectMapper,
+            ExportDataSource exportDataSource,
+            @Value("${message.export.flush-rows:500}") int flushRows,
+            @Value("${message.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${message.export.timeout-seconds:600}") long timeoutSeconds
+    ) {
+        this.messageRepository = messageRepository;
+        this.roomRepository = roomRepository;
+        this.objectMapper = objectMapper;
+        this.cursorJdbcTemplate = new JdbcTemplate(exportDataSource.getDataSource());
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.flushRows = Math.max(1, flushRows);
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new DataNotFoundException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    //이어받기 위치 (마지막으로 받은 메시지)
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+
+    /**
+     * 1. 내보내기 전 확인 (응답 전송 전에 404 로 응답할 수 있도록 요청 스레드에서 실행)
+     * @param afterId : 마지막으로 받은 메시지 ID (없으면 처음부터)
+     * @return : 이어받기 위치 (처음부터면 null)
+     */
+    public Position findStart(Long roomId, Long afterId) {
+        if (!roomRepository.existsById(roomId)) {
+            throw new DataNotFoundException("채팅방을 찾을 수 없습니다.");
+        }
+        if (afterId == null) {
+            return null;
+        }
+        Message cursor = messageRepository.findById(afterId)
+                .filter(message -> message.getRoom().getId().equals(roomId))
+                .orElseThrow(() -> new DataNotFoundException("메시지를 찾을 수 없습니다."));
+        return new Position(cursor.getCreatedAt(), cursor.getId());
+    }
+
+    /**
+     * 2. 동시 내보내기 자리 확보 (요청 스레드에서 실행, 없으면 429) -> 내보내기가 끝나면 release
+     * @param username : 요청한 관리자 (1명당 동시 1건)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void acquire(String username) {
+        if (!activeUsers.add(username)) {
+            throw new TooManyRequestsException("이미 진행 중인 대화 기록 내보내기가 있습니다. 끝난 뒤 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+        if (!permits.tryAcquire()) {
+            activeUsers.remove(username);
+            throw new TooManyRequestsException("진행 중인 대화 기록 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void release(String username) {
+        permits.release();
+        activeUsers.remove(username);
+    }
+
+    /**
+     * 3. 대화 기록 출력 (gzip) -> 출력한 메시지 수
+     * - 클라이언트 연결이 끊기거나 최대 시간을 넘으면 IOException -> 조회 중단 (커서 / 커넥션 반환)
+     *   이때는 gzip 끝부분을 쓰지 않음 (클라이언트가 완료된 파일로 오인하지 않도록)
+     * - 진행 중인 트랜잭션이 없으면 트랜잭션 없이 실행 (응답 전송 중 기본 커넥션 풀의 커넥션을 사용하지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long export(Long roomId, Position after, Format format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long[] rows = {0};
+        AbortableOutputStream target = new AbortableOutputStream(StreamUtils.nonClosing(out));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(target, 8192, true);
+             Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);  //행마다 압축 블록을 비우지 않음
+            generator.setRootValueSeparator(null);
+            try {
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                }
+
+                RowCallback callback = resultSet -> {
+                    MessageDto.Response response = toResponse(resultSet);
+
+                    //1. 출력
+                    if (format == Format.CSV) {
+                        writeCsv(writer, response);
+                    } else {
+                        generator.writeObject(response);
+                        generator.flush();
+                        writer.write('\n');
+                    }
+
+                    //2. flush-rows 건마다 전송 + 최대 시간 확인
+                    if (++rows[0] % flushRows == 0) {
+                        writer.flush();
+                        if (System.nanoTime() - startedAt > timeoutNanos) {
+                            throw new IOException("export timed out after " + rows[0] + " messages");
+                        }
+                    }
+                };
+                query(roomId, after, callback);
+            } catch (IOException | RuntimeException e) {
+                //아래 close 에서 gzip 끝부분이 전송되지 않도록 차단 (압축기 메모리는 close 에서 반환)
+                target.abort();
+                log.warn("[MessageExport] room {} export aborted after {} messages: {}", roomId, rows[0], e.getMessage());
+                throw e;
+            }
+        }
+        out.flush();
+
+        log.info("[MessageExport] room {} exported {} messages as {} ({} ms)",
+                roomId, rows[0], format, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows[0];
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //행 1개 처리 (출력 중 IOException 을 그대로 전달)
+    @FunctionalInterface
+    private interface RowCallback {
+        void process(ResultSet resultSet) throws SQLException, IOException;
+    }
+
+    private void query(Long roomId, Position after, RowCallback callback) throws IOException {
+        try {
+            if (after == null) {
+                cursorJdbcTemplate.query(EXPORT, resultSet -> handle(resultSet, callback), roomId);
+            } else {
+                Timestamp createdAt = Timestamp.valueOf(after.createdAt());
+                cursorJdbcTemplate.query(EXPORT_AFTER, resultSet -> handle(resultSet, callback),
+                        roomId, createdAt, createdAt, after.id());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void handle(ResultSet resultSet, RowCallback callback) throws SQLException {
+        try {
+            callback.process(resultSet);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDto.Response toResponse(ResultSet resultSet) throws SQLException {
+        MessageDto.Response response = new MessageDto.Response();
+        response.setId(resultSet.getLong(1));
+        response.setContent(resultSet.getString(2));
+        String type = resultSet.getString(3);
+        response.setType(type != null ? MessageType.valueOf(type) : null);
+        long memberId = resultSet.getLong(4);
+        response.setMemberId(resultSet.wasNull() ? null : memberId);
+        response.setRoomId(resultSet.getLong(5));
+        response.setCreatedAt(toLocalDateTime(resultSet.getTimestamp(6)));
+        response.setUpdatedAt(toLocalDateTime(resultSet.getTimestamp(7)));
+        return response;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static void writeCsv(Writer writer, MessageDto.Response response) throws IOException {
+        writer.write(String.valueOf(response.getId()));
+        writer.write(',');
+        writer.write(response.getCreatedAt() != null ? response.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(response.getMemberId() != null ? String.valueOf(response.getMemberId()) : "");
+        writer.write(',');
+        writer.write(response.getType() != null ? response.getType().name() : "");
+        writer.write(',');
+        writer.write(csvField(response.getContent()));
+        writer.write('\n');
+    }
+
+    //쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 (RFC 4180)
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    //중단 이후의 출력은 버림 (close 시 gzip 끝부분 포함)
+    private static final class AbortableOutputStream extends FilterOutputStream {
+        private boolean aborted;
+
+        private AbortableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        private void abort() {
+            aborted = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!aborted) {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!aborted) {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!aborted) {
+                out.flush();
+            }
+        }
+    }
+}
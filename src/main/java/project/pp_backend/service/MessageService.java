@@ -1,12 +1,19 @@
 package project.pp_backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 import project.pp_backend.dto.MessageDto;
 import project.pp_backend.entity.Member;
 import project.pp_backend.entity.Message;
 import project.pp_backend.entity.Room;
+import project.pp_backend.entity.RoomType;
 import project.pp_backend.exception.DataNotFoundException;
 import project.pp_backend.repository.MemberRepository;
 import project.pp_backend.repository.MessageRepository;
@@ -23,13 +30,64 @@ public class MessageService {
     private final MessageRepository messageRepository;
     private final MemberRepository memberRepository;
     private final RoomRepository roomRepository;
+    private final MessageDedupCache messageDedupCache;
+    private final TransactionTemplate transactionTemplate;
 
     //message 개수 임계값 (100개)
     private static final long MESSAGE_COUNT_THRESHOLD = 100;
+    //대화 기록 페이지 최대 크기
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
 
-    //1. 메시지 생성
-    @Transactional
+    //대화 기록 페이지 기본 크기 (공지 채팅방 입장 시 최신 1 페이지만 조회)
+    @Value("${message.history.page-size:50}")
+    private int historyPageSize;
+
+    /**
+     * 1. 메시지 생성
+     * - 클라이언트 메시지 ID(clientMessageId)가 있으면 재전송 확인 캐시를 먼저 확인
+     *   (이미 저장된 메시지면 새로 저장하지 않고 최초 응답을 duplicate=true 로 반환)
+     * - 캐시에 없는 재전송(다른 서버로 재연결, 시간 창 경과)은 유니크 제약조건 위반으로 감지하여,
+     *   롤백 후 최초 메시지를 조회해 반환 -> 새 메시지 저장 시에는 중복 확인용 SELECT 를 추가로 실행하지 않음
+     * - 제약조건 위반 후에도 조회할 수 있도록 트랜잭션은 TransactionTemplate 으로 직접 관리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MessageDto.Response createMessage(String username, Long roomId, MessageDto.CreateRequest request) {
+        String clientMessageId = request.getClientMessageId();
+
+        //0. 클라이언트 메시지 ID 가 없으면 기존과 동일하게 저장
+        if (!StringUtils.hasText(clientMessageId)) {
+            return new MessageDto.Response(transactionTemplate.execute(status -> saveMessage(username, roomId, request)));
+        }
+
+        //1. 재전송 확인 (캐시 - DB 조회 없음)
+        MessageDto.Response cached = messageDedupCache.get(username, clientMessageId);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            //2. 저장 (커밋 완료 후 재전송 확인 캐시에 등록)
+            Message message = transactionTemplate.execute(status -> saveMessage(username, roomId, request));
+            messageDedupCache.put(username, clientMessageId, toDuplicateResponse(message));
+            return new MessageDto.Response(message);
+
+        } catch (DataIntegrityViolationException e) {
+            //3. 이미 저장된 메시지 (유니크 제약조건: member_id + client_message_id) -> 최초 메시지 반환
+            MessageDto.Response original = transactionTemplate.execute(status ->
+                    messageRepository.findByMemberUsernameAndClientMessageId(username, clientMessageId)
+                            .map(this::toDuplicateResponse)
+                            .orElse(null)
+            );
+            if (original == null) {
+                throw e;
+            }
+            messageDedupCache.put(username, clientMessageId, original);
+            return original;
+        }
+    }
+
+    //메시지 엔티티 생성 및 저장 (TransactionTemplate 안에서 실행)
+    private Message saveMessage(String username, Long roomId, MessageDto.CreateRequest request) {
         //1. 회원 및 채팅방 존재 유무 확인
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new DataNotFoundException("Username not found"));
@@ -40,9 +98,14 @@ public class MessageService {
         Message message = request.toEntity(member, room);
 
         //3. DB 저장
-        messageRepository.save(message);
+        return messageRepository.save(message);
+    }
 
-        return new MessageDto.Response(message);
+    //재전송 요청에 돌려줄 응답 (브로드캐스트/저장 응답과 별도의 객체)
+    private MessageDto.Response toDuplicateResponse(Message message) {
+        MessageDto.Response response = new MessageDto.Response(message);
+        response.setDuplicate(true);
+        return response;
     }
 
 
@@ -53,9 +116,13 @@ public class MessageService {
      * @return : 메시지 응답 DTO 리스트 (최신순)
      */
     public List<MessageDto.Response> getMessagesByRoom(Long roomId) {
-        //1. 채팅방 존재 유무 확인
-        if (!roomRepository.existsById(roomId)) {
-            throw new DataNotFoundException("채팅방을 찾을 수 없습니다.");
+        //1. 채팅방 존재 유무 확인 (2차 캐시)
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new DataNotFoundException("채팅방을 찾을 수 없습니다."));
+
+        //1-1. 공지 채팅방은 전체 기록 대신 최신 1 페이지 (이전 기록은 getHistory 로 나눠서 조회)
+        if (room.getType() == RoomType.BROADCAST) {
+            return findHistory(roomId, null, historyPageSize).getMessages();
         }
 
         //2. 메시지 조회 (최신순 내림차순 정렬)
@@ -67,6 +134,41 @@ public class MessageService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 2-1. 대화 기록 페이지 조회 (최신순, 스크롤할 때마다 이전 페이지를 불러옴)
+     * @param beforeId : 이전 페이지의 마지막 메시지 ID (없으면 최신 페이지)
+     * @param size : 페이지 크기 (없으면 기본 크기, 최대 200)
+     */
+    public MessageDto.HistoryResponse getHistory(Long roomId, Long beforeId, Integer size) {
+        if (!roomRepository.existsById(roomId)) {
+            throw new DataNotFoundException("채팅방을 찾을 수 없습니다.");
+        }
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE) : historyPageSize;
+        return findHistory(roomId, beforeId, pageSize);
+    }
+
+    //keyset 페이지 조회 - 1건 더 조회해서 다음 페이지 유무 확인 (COUNT / OFFSET 없음)
+    private MessageDto.HistoryResponse findHistory(Long roomId, Long beforeId, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Message> messages;
+        if (beforeId == null) {
+            messages = messageRepository.findByRoomIdOrderByCreatedAtDescIdDesc(roomId, pageRequest);
+        } else {
+            Message cursor = messageRepository.findById(beforeId)
+                    .filter(message -> message.getRoom().getId().equals(roomId))
+                    .orElseThrow(() -> new DataNotFoundException("메시지를 찾을 수 없습니다."));
+            messages = messageRepository.findPageBefore(roomId, cursor.getCreatedAt(), cursor.getId(), pageRequest);
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<MessageDto.Response> page = messages.stream()
+                .limit(pageSize)
+                .map(MessageDto.Response::new)
+                .collect(Collectors.toList());
+        Long nextBeforeId = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new MessageDto.HistoryResponse(page, nextBeforeId, hasMore);
+    }
+
 
     //3-1. 메시지 삭제(단일)
     @Transactional
@@ -0,0 +1,192 @@
+package project.pp_backend.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.exception.ServiceBusyException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 검증(BCrypt) 전용 스레드 풀
+ * - BCrypt 는 CPU 를 많이 쓰므로 Tomcat 요청 스레드가 아닌 고정 크기 풀에서만 실행 -> 로그인 폭주 시에도 채팅 요청에 CPU 가 남음
+ * - 대기열 크기 제한: 가득 차면 바로 503 (ServiceBusyException)
+ * - 대기열에서 너무 오래 기다린 작업은 검증하지 않고 버림 (클라이언트가 이미 포기했을 가능성이 큼)
+ * - 요청 스레드는 verify-timeout 까지만 기다림 (넘으면 503 - 요청 스레드가 무한정 묶이지 않음)
+ * - 검증 시간 / 대기 시간 통계 집계 (관리자 API) + Micrometer Timer (login.verify.queue / login.verify.hash)
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final long verifyTimeoutMillis;
+
+    private final Timer queueWait = new Timer();
+    private final Timer hashTime = new Timer();
+    private final LatencyMetrics.Recorder queueWaitTimer;
+    private final LatencyMetrics.Recorder hashTimer;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    public PasswordVerifier(
+            LatencyMetrics latencyMetrics,
+            @Value("${login.executor.threads:0}") int threads,
+            @Value("${login.executor.queue-capacity:64}") int queueCapacity,
+            @Value("${login.executor.max-queue-wait-milliseconds:2000}") long maxQueueWaitMillis,
+            @Value("${login.executor.verify-timeout-milliseconds:5000}") long verifyTimeoutMillis
+    ) {
+        //0 이면 CPU 코어의 절반 (최소 1) -> 나머지 코어는 채팅/일반 요청용
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMillis);
+        this.verifyTimeoutMillis = verifyTimeoutMillis;
+        this.queueWaitTimer = latencyMetrics.timer("login.verify.queue", "비밀번호 검증 대기열에서 기다린 시간");
+        this.hashTimer = latencyMetrics.timer("login.verify.hash", "비밀번호 검증(BCrypt) 시간");
+    }
+
+    /**
+     * 인증(비밀번호 검증) 실행 - 결과가 나올 때까지 (최대 verify-timeout) 요청 스레드는 대기
+     * 인증 실패 예외(AuthenticationException 등)는 그대로 다시 던짐
+     */
+    public Authentication verify(Supplier<Authentication> authentication) {
+        long submittedAt = System.nanoTime();
+        Future<Authentication> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt);
+                queueWaitTimer.record(startedAt - submittedAt);
+                if (startedAt - submittedAt > maxQueueWaitNanos) {
+                    expiredCount.increment();
+                    throw new ServiceBusyException("로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                try {
+                    return authentication.get();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashTime.record(elapsed);
+                    hashTimer.record(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServiceBusyException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(verifyTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOutCount.increment();
+            future.cancel(true);
+            throw new ServiceBusyException("로그인 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException("로그인 처리가 중단되었습니다.");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return executor.getQueue().size() + executor.getQueue().remainingCapacity();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public Timer getQueueWait() {
+        return queueWait;
+    }
+
+    public Timer getHashTime() {
+        return hashTime;
+    }
+
+    /**
+     * 소요 시간 집계 (건수 / 합계 / 최대)
+     */
+    public static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getMeanMillis() {
+            long count = getCount();
+            return count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        public double getTotalSeconds() {
+            return totalNanos.sum() / 1_000_000_000.0;
+        }
+    }
+}
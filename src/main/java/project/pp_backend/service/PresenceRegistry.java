@@ -0,0 +1,249 @@
+package project.pp_backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 중인 회원(Presence) 레지스트리 - 메모리 전용
+ * - 회원 ID -> 세션 목록 / 채팅방 ID -> 접속 중인 회원 을 샤드(Shard) 단위로 나누어 관리
+ * - 샤드마다 별도의 락을 사용하므로, 재접속이 몰려도 서로 다른 회원/채팅방의 갱신은 경합하지 않음
+ */
+@Component
+public class PresenceRegistry {
+
+    //샤드 개수 (2의 거듭제곱)
+    private static final int SHARD_COUNT = 64;
+
+    //sessionId -> 세션 정보
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    //memberId 기준 샤드 (회원 -> 세션 목록)
+    private final MemberShard[] memberShards = new MemberShard[SHARD_COUNT];
+    //roomId 기준 샤드 (채팅방 -> 접속 중인 회원)
+    private final RoomShard[] roomShards = new RoomShard[SHARD_COUNT];
+
+    public PresenceRegistry() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            memberShards[i] = new MemberShard();
+            roomShards[i] = new RoomShard();
+        }
+    }
+
+    /**
+     * 1. STOMP 연결 (CONNECT)
+     * @return : 회원이 새로 접속 상태가 되었는지 여부 (첫 번째 세션)
+     */
+    public boolean connect(String sessionId, Long memberId, String username) {
+        sessions.put(sessionId, new SessionPresence(memberId));
+
+        MemberShard shard = memberShard(memberId);
+        synchronized (shard) {
+            MemberPresence presence = shard.members.computeIfAbsent(memberId, id -> new MemberPresence(username));
+            presence.sessionIds.add(sessionId);
+            return presence.sessionIds.size() == 1;
+        }
+    }
+
+    /**
+     * 2. 채팅방 구독 (SUBSCRIBE)
+     * @return : 회원이 해당 채팅방에 새로 접속 상태가 되었는지 여부
+     */
+    public boolean subscribe(String sessionId, String subscriptionId, Long roomId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+
+        //연결 종료 처리와 동시에 실행되는 경우를 막기 위해 세션 단위로 잠금
+        synchronized (session) {
+            if (session.closed || session.subscriptions.putIfAbsent(subscriptionId, roomId) != null) {
+                return false;
+            }
+
+            RoomShard shard = roomShard(roomId);
+            synchronized (shard) {
+                Map<Long, Integer> members = shard.rooms.computeIfAbsent(roomId, id -> new HashMap<>());
+                return members.merge(session.memberId, 1, Integer::sum) == 1;
+            }
+        }
+    }
+
+    /**
+     * 3. 채팅방 구독 해제 (UNSUBSCRIBE)
+     * @return : 회원이 해당 채팅방에서 접속 해제 상태가 된 경우 roomId, 아니면 null
+     */
+    public Long unsubscribe(String sessionId, String subscriptionId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+
+        synchronized (session) {
+            Long roomId = session.subscriptions.remove(subscriptionId);
+            if (session.closed || roomId == null) {
+                return null;
+            }
+            return leaveRoom(roomId, session.memberId) ? roomId : null;
+        }
+    }
+
+    /**
+     * 4. STOMP 연결 종료 (DISCONNECT)
+     * @return : 연결 종료 결과 (회원 접속 해제 여부, 접속 해제된 채팅방 목록)
+     */
+    public DisconnectResult disconnect(String sessionId) {
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+
+        //1. 구독 중이던 채팅방에서 제거
+        List<Long> subscribedRoomIds;
+        synchronized (session) {
+            session.closed = true;
+            subscribedRoomIds = new ArrayList<>(session.subscriptions.values());
+        }
+
+        List<Long> leftRoomIds = new ArrayList<>();
+        for (Long roomId : subscribedRoomIds) {
+            if (leaveRoom(roomId, session.memberId)) {
+                leftRoomIds.add(roomId);
+            }
+        }
+
+        //2. 회원의 세션 목록에서 제거
+        boolean offline = false;
+        MemberShard shard = memberShard(session.memberId);
+        synchronized (shard) {
+            MemberPresence presence = shard.members.get(session.memberId);
+            if (presence != null) {
+                presence.sessionIds.remove(sessionId);
+                if (presence.sessionIds.isEmpty()) {
+                    shard.members.remove(session.memberId);
+                    offline = true;
+                }
+            }
+        }
+
+        return new DisconnectResult(session.memberId, offline, leftRoomIds);
+    }
+
+
+    //*********** 조회 메서드 **************
+
+    public boolean isOnline(Long memberId) {
+        MemberShard shard = memberShard(memberId);
+        synchronized (shard) {
+            return shard.members.containsKey(memberId);
+        }
+    }
+
+    public String getUsername(Long memberId) {
+        MemberShard shard = memberShard(memberId);
+        synchronized (shard) {
+            MemberPresence presence = shard.members.get(memberId);
+            return presence != null ? presence.username : null;
+        }
+    }
+
+    //채팅방에 접속 중인 회원 ID 목록
+    public Set<Long> getOnlineMemberIds(Long roomId) {
+        RoomShard shard = roomShard(roomId);
+        synchronized (shard) {
+            Map<Long, Integer> members = shard.rooms.get(roomId);
+            return members != null ? new HashSet<>(members.keySet()) : Collections.emptySet();
+        }
+    }
+
+    //회원이 채팅방을 구독(접속) 중인지 확인
+    public boolean isInRoom(Long roomId, Long memberId) {
+        RoomShard shard = roomShard(roomId);
+        synchronized (shard) {
+            Map<Long, Integer> members = shard.rooms.get(roomId);
+            return members != null && members.containsKey(memberId);
+        }
+    }
+
+    //세션 소유 회원 ID
+    public Long getMemberId(String sessionId) {
+        SessionPresence session = sessions.get(sessionId);
+        return session != null ? session.memberId : null;
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //채팅방 구독 수 감소, 0 이 되면 제거
+    private boolean leaveRoom(Long roomId, Long memberId) {
+        RoomShard shard = roomShard(roomId);
+        synchronized (shard) {
+            Map<Long, Integer> members = shard.rooms.get(roomId);
+            if (members == null) {
+                return false;
+            }
+            Integer remaining = members.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null);
+            if (members.isEmpty()) {
+                shard.rooms.remove(roomId);
+            }
+            return remaining == null;
+        }
+    }
+
+    private MemberShard memberShard(Long memberId) {
+        return memberShards[index(memberId)];
+    }
+
+    private RoomShard roomShard(Long roomId) {
+        return roomShards[index(roomId)];
+    }
+
+    private static int index(Long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 58) & (SHARD_COUNT - 1);
+    }
+
+    private static final class MemberShard {
+        private final Map<Long, MemberPresence> members = new HashMap<>();
+    }
+
+    private static final class RoomShard {
+        //roomId -> (memberId -> 구독 수)
+        private final Map<Long, Map<Long, Integer>> rooms = new HashMap<>();
+    }
+
+    private static final class MemberPresence {
+        private final String username;
+        private final Set<String> sessionIds = new HashSet<>();
+
+        private MemberPresence(String username) {
+            this.username = username;
+        }
+    }
+
+    private static final class SessionPresence {
+        private final Long memberId;
+        //subscriptionId -> roomId
+        private final Map<String, Long> subscriptions = new HashMap<>();
+        private boolean closed;
+
+        private SessionPresence(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+
+    /**
+     * 연결 종료 결과
+     * @param memberId : 세션 소유 회원 ID
+     * @param offline : 회원의 마지막 세션이었는지 (완전히 접속 해제)
+     * @param leftRoomIds : 회원이 접속 해제된 채팅방 목록
+     */
+    public record DisconnectResult(Long memberId, boolean offline, List<Long> leftRoomIds) {
+    }
+}
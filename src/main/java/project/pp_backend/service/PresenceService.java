@@ -0,0 +1,257 @@
+package project.pp_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.dto.PresenceDto;
+import project.pp_backend.exception.UnauthorizedAccessException;
+import project.pp_backend.repository.FriendShipRepository;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 상태(Presence) 서비스
+ * - STOMP 세션 이벤트(CONNECT / SUBSCRIBE / UNSUBSCRIBE / DISCONNECT)로 PresenceRegistry 갱신
+ * - 채팅방별 접속 상태 변경은 모아 두었다가 일정 주기마다 1회만 브로드캐스트 (재접속 폭주 시 트래픽 증폭 방지)
+ * - 접속 상태는 노드(서버) 단위 : 이 노드에 STOMP 연결한 세션만 집계 (다른 노드에 연결한 회원은 접속자 목록 / 변경 브로드캐스트에 없음)
+ *   여러 노드로 운영할 때는 STOMP 연결을 같은 노드로 고정(sticky session)하거나, 노드 간 집계(Redis 등)를 별도로 구성해야 함
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    //채팅방 구독 주소 (/sub/chat/room/{roomId})
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    //접속 상태 변경 브로드캐스트 주소
+    private static final String PRESENCE_DESTINATION_PREFIX = "/sub/presence/room/";
+
+    private final PresenceRegistry presenceRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final FriendShipRepository friendShipRepository;
+    private final RoomMemberRepository roomMemberRepository;
+
+    //전송 대기 중인 채팅방별 변경 사항 (roomId -> (memberId -> 접속 여부))
+    private final Map<Long, Map<Long, Boolean>> pendingRoomDiffs = new ConcurrentHashMap<>();
+
+    //회원별 친구 ID 목록 (ownerUsername -> 친구 ID) - 조회마다 DB 접근 없음
+    private final Cache<String, List<Long>> friendIds;
+
+    public PresenceService(
+            PresenceRegistry presenceRegistry,
+            SimpMessagingTemplate messagingTemplate,
+            FriendShipRepository friendShipRepository,
+            RoomMemberRepository roomMemberRepository,
+            @Value("${presence.friend-cache-seconds:60}") long friendCacheSeconds,
+            @Value("${presence.friend-cache-max-entries:100000}") long friendCacheMaxEntries
+    ) {
+        this.presenceRegistry = presenceRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.friendShipRepository = friendShipRepository;
+        this.roomMemberRepository = roomMemberRepository;
+        this.friendIds = Caffeine.newBuilder()
+                .maximumSize(friendCacheMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(friendCacheSeconds))
+                .build();
+    }
+
+
+    //*********** STOMP 세션 이벤트 **************
+
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        MemberDetails memberDetails = getMemberDetails(event.getUser());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (memberDetails == null || sessionId == null) {
+            return;
+        }
+        presenceRegistry.connect(sessionId, memberDetails.getId(), memberDetails.getUsername());
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        MessageHeaders headers = event.getMessage().getHeaders();
+        Long roomId = parseRoomId(SimpMessageHeaderAccessor.getDestination(headers));
+        if (roomId == null) {
+            return;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        if (presenceRegistry.subscribe(sessionId, subscriptionId, roomId)) {
+            markRoomChanged(roomId, presenceRegistry.getMemberId(sessionId), true);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        MessageHeaders headers = event.getMessage().getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Long roomId = presenceRegistry.unsubscribe(sessionId, subscriptionId);
+        if (roomId != null) {
+            markRoomChanged(roomId, presenceRegistry.getMemberId(sessionId), false);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        PresenceRegistry.DisconnectResult result = presenceRegistry.disconnect(event.getSessionId());
+        if (result == null) {
+            return;
+        }
+        for (Long roomId : result.leftRoomIds()) {
+            markRoomChanged(roomId, result.memberId(), false);
+        }
+    }
+
+
+    //*********** 조회 **************
+
+    /**
+     * 1. 채팅방 접속자 목록 (메모리 조회)
+     * - 채팅방 참가자만 조회 가능 : 요청한 회원이 채팅방을 구독 중이면 메모리에서 확인, 아니면 참가 기록(RoomMember) 조회
+     */
+    public PresenceDto.RoomOnlineResponse getRoomOnlineMembers(Long roomId, Long requesterId) {
+        if (!presenceRegistry.isInRoom(roomId, requesterId)
+                && !roomMemberRepository.existsByRoomIdAndMemberId(roomId, requesterId)) {
+            throw new UnauthorizedAccessException("채팅방에 참가하지 않은 회원입니다.");
+        }
+
+        List<PresenceDto.OnlineMember> members = new ArrayList<>();
+        for (Long memberId : presenceRegistry.getOnlineMemberIds(roomId)) {
+            String username = presenceRegistry.getUsername(memberId);
+            if (username != null) {
+                members.add(new PresenceDto.OnlineMember(memberId, username));
+            }
+        }
+        return new PresenceDto.RoomOnlineResponse(roomId, members.size(), members);
+    }
+
+    /**
+     * 2. 접속 중인 친구 목록
+     * - 친구 ID 목록은 메모리에 보관 (보관된 값이 없을 때만 친구 ID 만 DB 조회), 접속 여부는 메모리에서 확인
+     * - 친구 추가 / 삭제 시 이 노드는 커밋 이후 바로 제거, 다른 노드는 보관 시간이 지나면 다시 조회
+     */
+    public List<PresenceDto.OnlineMember> getOnlineFriends(String ownerUsername) {
+        List<PresenceDto.OnlineMember> onlineFriends = new ArrayList<>();
+        for (Long friendId : friendIds.get(ownerUsername, friendShipRepository::findFriendIdsByOwnerUsername)) {
+            String username = presenceRegistry.getUsername(friendId);
+            if (username != null) {
+                onlineFriends.add(new PresenceDto.OnlineMember(friendId, username));
+            }
+        }
+        return onlineFriends;
+    }
+
+
+    /**
+     * 친구 추가 / 삭제 시 보관한 친구 ID 목록 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFriendShipChanged(FriendShipService.FriendShipChangedEvent event) {
+        friendIds.invalidate(event.ownerUsername());
+    }
+
+
+    //*********** 접속 상태 변경 브로드캐스트 **************
+
+    /**
+     * 주기마다 채팅방별 변경 사항을 합쳐서 전송 (채팅방당 주기마다 최대 1회)
+     */
+    @Scheduled(fixedDelayString = "${presence.broadcast-interval-milliseconds:1000}")
+    public void flushRoomDiffs() {
+        for (Long roomId : pendingRoomDiffs.keySet()) {
+            Map<Long, Boolean> diff = pendingRoomDiffs.remove(roomId);
+            if (diff == null || diff.isEmpty()) {
+                continue;
+            }
+
+            List<Long> online = new ArrayList<>();
+            List<Long> offline = new ArrayList<>();
+            diff.forEach((memberId, isOnline) -> (isOnline ? online : offline).add(memberId));
+
+            messagingTemplate.convertAndSend(
+                    PRESENCE_DESTINATION_PREFIX + roomId,
+                    new PresenceDto.RoomDiff(roomId, online, offline)
+            );
+        }
+    }
+
+    //변경 사항 누적 - 같은 주기 안에서 입장 후 퇴장(또는 퇴장 후 입장)하면 서로 상쇄
+    private void markRoomChanged(Long roomId, Long memberId, boolean online) {
+        if (memberId == null) {
+            return;
+        }
+        pendingRoomDiffs.compute(roomId, (id, diff) -> {
+            if (diff == null) {
+                diff = new HashMap<>();
+            }
+            Boolean previous = diff.get(memberId);
+            if (previous != null && previous != online) {
+                diff.remove(memberId);
+            } else {
+                diff.put(memberId, online);
+            }
+            return diff.isEmpty() ? null : diff;
+        });
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //STOMP 세션의 Principal -> MemberDetails (StompChannelInterceptor 에서 설정)
+    private MemberDetails getMemberDetails(Principal user) {
+        if (user instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            return memberDetails;
+        }
+        return null;
+    }
+
+    //"/sub/chat/room/{roomId}" -> roomId (그 외 구독 주소는 null)
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        if (roomId.isEmpty() || roomId.length() > 18) {
+            return null;
+        }
+        for (int i = 0; i < roomId.length(); i++) {
+            if (!Character.isDigit(roomId.charAt(i))) {
+                return null;
+            }
+        }
+        return Long.parseLong(roomId);
+    }
+}
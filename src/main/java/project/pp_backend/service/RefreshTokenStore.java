@@ -0,0 +1,234 @@
+package project.pp_backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * - 토큰 원문이 아닌 SHA-256 해시만 저장
+ * - 회원당 Hash 1개 (RT:{username}), field = 기기 ID -> 기기마다 독립적으로 로그인/재발급/로그아웃
+ * - 기기 수 제한: 초과 시 가장 오래 사용하지 않은 기기부터 로그아웃
+ * - field 단위 만료는 Redis 가 지원하지 않으므로 value 에 만료 시각을 함께 저장하고,
+ *   정리 색인(RT-index)을 기준으로 스케줄러가 만료된 기기를 정리
+ * - 로그인/재발급은 Lua 스크립트 1회, 전체 로그아웃은 파이프라인 1회 (모두 Redis 왕복 1회)
+ * - 스크립트는 EVALSHA 로 실행 (스크립트 본문은 처음 1회만 전송)
+ *   로그인/재발급: RedisTemplate 이 NOSCRIPT 응답 시 EVAL 로 다시 실행
+ *   정리(SWEEP): 파이프라인 전에 SCRIPT LOAD 1회, Redis 재시작 등으로 NOSCRIPT 면 다시 등록 후 1회 재실행
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    private static final String INDEX_KEY = "RT-index"; //"RT:" 접두사와 겹치지 않도록 (username 이 "index" 인 경우)
+
+    private static final RedisScript<Long> SESSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/refresh-token-session.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long refreshTokenExpiration;
+    private final long rotationGraceMillis;
+    private final int maxDevices;
+    private final int sweepBatchSize;
+
+    //SWEEP 파이프라인용 스크립트 등록 여부 (SCRIPT LOAD)
+    private volatile boolean sweepScriptLoaded;
+
+    public RefreshTokenStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${jwt.refresh-token-expiration-milliseconds}") long refreshTokenExpiration,
+            @Value("${jwt.reissue-grace-milliseconds:5000}") long rotationGraceMillis,
+            @Value("${jwt.max-devices:5}") int maxDevices,
+            @Value("${jwt.session-sweep-batch-size:500}") int sweepBatchSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.rotationGraceMillis = rotationGraceMillis;
+        this.maxDevices = Math.max(1, maxDevices);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 교체 결과
+     */
+    public enum RotationResult {
+        ROTATED,          //교체 성공
+        NOT_FOUND,        //해당 기기의 세션 없음 (로그아웃 / 만료 / 기기 수 초과로 밀려남)
+        ALREADY_ROTATED,  //방금 다른 요청이 같은 토큰으로 교체함 (동시 재발급)
+        REUSED            //이미 교체된 오래된 토큰 재사용 -> 탈취로 간주, 해당 기기 세션 삭제
+    }
+
+    /**
+     * 1. 저장 (로그인) - 기기 세션 등록 + 만료 기기 정리 + 기기 수 초과분 로그아웃
+     * @return : 기기 수 제한으로 로그아웃된 기기 수
+     */
+    public long save(String username, String deviceId, String refreshToken) {
+        Long evicted = redisTemplate.execute(
+                SESSION_SCRIPT,
+                List.of(key(username), INDEX_KEY),
+                "LOGIN", username, now(),
+                deviceId,
+                hash(refreshToken),
+                String.valueOf(refreshTokenExpiration),
+                String.valueOf(maxDevices)
+        );
+        return evicted == null ? 0 : evicted;
+    }
+
+    /**
+     * 2. 교체 (재발급) - 해당 기기에 저장된 해시가 요청 토큰과 같을 때만 새 토큰으로 교체
+     */
+    public RotationResult rotate(String username, String deviceId, String presentedToken, String newToken) {
+        Long result = redisTemplate.execute(
+                SESSION_SCRIPT,
+                List.of(key(username), INDEX_KEY),
+                "ROTATE", username, now(),
+                deviceId,
+                hash(presentedToken),
+                hash(newToken),
+                String.valueOf(refreshTokenExpiration),
+                String.valueOf(rotationGraceMillis)
+        );
+
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (result == 1) {
+            return RotationResult.ROTATED;
+        }
+        if (result == 2) {
+            return RotationResult.ALREADY_ROTATED;
+        }
+        return RotationResult.REUSED;
+    }
+
+    /**
+     * 3. 기기 1대 로그아웃 - HDEL 1회 (정리 색인은 스케줄러가 갱신)
+     */
+    public void delete(String username, String deviceId) {
+        redisTemplate.opsForHash().delete(key(username), deviceId);
+    }
+
+    /**
+     * 4. 모든 기기 로그아웃 - DEL + ZREM 을 파이프라인으로 1회 왕복
+     */
+    public void deleteAll(String username) {
+        byte[] key = bytes(key(username));
+        byte[] index = bytes(INDEX_KEY);
+        byte[] member = bytes(username);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(key);
+            connection.zSetCommands().zRem(index, member);
+            return null;
+        });
+    }
+
+    /**
+     * 5. 만료된 기기 정리
+     * - 정리 색인에서 만료 시각이 지난 회원을 batch 크기만큼 꺼내고, 회원별 SWEEP 스크립트를 파이프라인으로 실행
+     */
+    @Scheduled(fixedDelayString = "${jwt.session-sweep-interval-milliseconds:60000}")
+    public void sweepExpiredSessions() {
+        Set<String> usernames = redisTemplate.opsForZSet()
+                .rangeByScore(INDEX_KEY, 0, System.currentTimeMillis(), 0, sweepBatchSize);
+        if (usernames == null || usernames.isEmpty()) {
+            return;
+        }
+
+        byte[] now = bytes(now());
+        if (!sweepScriptLoaded) {
+            loadSweepScript();
+        }
+        try {
+            sweepPipelined(usernames, now);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            //Redis 재시작 / SCRIPT FLUSH 로 스크립트 캐시가 비었음 -> 다시 등록 후 1회 재실행
+            loadSweepScript();
+            sweepPipelined(usernames, now);
+        }
+        log.debug("Swept refresh token sessions of {} members", usernames.size());
+    }
+
+    //회원별 SWEEP 을 파이프라인으로 실행 (EVALSHA - 스크립트 본문은 보내지 않음)
+    private void sweepPipelined(Set<String> usernames, byte[] now) {
+        String sha = SESSION_SCRIPT.getSha1();
+        byte[] index = bytes(INDEX_KEY);
+        byte[] op = bytes("SWEEP");
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String username : usernames) {
+                sweep(connection, sha, bytes(key(username)), index, op, bytes(username), now);
+            }
+            return null;
+        });
+    }
+
+    private void sweep(RedisConnection connection, String sha, byte[]... keysAndArgs) {
+        connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 2, keysAndArgs);
+    }
+
+    private void loadSweepScript() {
+        redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(bytes(SESSION_SCRIPT.getScriptAsString())));
+        sweepScriptLoaded = true;
+    }
+
+    //NOSCRIPT 응답 여부 (파이프라인은 실패한 명령의 예외를 모아서 전달)
+    private static boolean isNoScript(Throwable e) {
+        if (e instanceof RedisPipelineException pipeline) {
+            for (Throwable failure : pipeline.getFailures()) {
+                if (isNoScript(failure)) {
+                    return true;
+                }
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String key(String username) {
+        return REFRESH_TOKEN_PREFIX + username;
+    }
+
+    private static String now() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    //SHA-256 (hex)
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package project.pp_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Room;
+import project.pp_backend.entity.RoomMember;
+import project.pp_backend.entity.RoomMemberRole;
+import project.pp_backend.repository.MemberRepository;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 참가 / 퇴장 + 참가 인원 / 참가 채팅방 수 카운터
+ * - 일괄 참가 (채팅방 생성 / 초대) - 수천 명 단위 초대
+ *   username 중복 제거 (대소문자 구분 없음 - MySQL 기본 collation 과 같은 기준, 요청 순서 유지)
+ *   username -> id, 이미 참가 중인 회원 확인: chunk 별 IN 조회 + HashMap / HashSet 으로 비교
+ *   저장: chunk 별 multi-row INSERT IGNORE 1문장 (동시에 같은 회원을 초대해도 유니크 키로 무시)
+ *   존재하지 않는 username 이 있어도 나머지는 참가시키고 회원별 결과를 반환
+ * - 참가 기록을 바꾸는 모든 경로는 이 서비스를 거쳐 같은 트랜잭션에서 카운터를 증감 (COUNT(*) 조회 없음)
+ * - 퇴장 / 채팅방 삭제 시 MemberLeftEvent 발행 (커밋 이후 공지 채팅방 구독 해제)
+ */
+@Service
+@Transactional
+public class RoomMembershipService {
+
+    private final MemberRepository memberRepository;
+    private final RoomMemberRepository roomMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public RoomMembershipService(
+            MemberRepository memberRepository,
+            RoomMemberRepository roomMemberRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${room.invite.chunk-size:1000}") int chunkSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.roomMemberRepository = roomMemberRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 퇴장 이벤트 (memberId 가 null 이면 채팅방 삭제 - 모든 참가자 퇴장)
+     */
+    public record MemberLeftEvent(Long roomId, Long memberId) {
+        public static MemberLeftEvent all(Long roomId) {
+            return new MemberLeftEvent(roomId, null);
+        }
+    }
+
+    /**
+     * 1. 채팅방에 회원 일괄 참가 (채팅방은 호출하는 쪽에서 확인 / 저장 - 같은 트랜잭션)
+     */
+    public RoomDto.InviteResponse addMembers(Long roomId, Collection<String> usernames) {
+        //1. 중복 제거 (정규화한 username -> 요청한 username)
+        Map<String, String> requested = new LinkedHashMap<>(capacity(usernames.size()));
+        int duplicates = 0;
+        for (String username : usernames) {
+            if (!StringUtils.hasText(username)) {
+                continue;
+            }
+            String trimmed = username.trim();
+            if (requested.putIfAbsent(normalize(trimmed), trimmed) != null) {
+                duplicates++;
+            }
+        }
+
+        //2. username -> id (chunk 별 IN 조회)
+        Map<String, Long> memberIds = new HashMap<>(capacity(requested.size()));
+        for (List<String> chunk : chunks(new ArrayList<>(requested.values()))) {
+            for (MemberRepository.MemberId member : memberRepository.findIdsByUsernameIn(chunk)) {
+                memberIds.put(normalize(member.getUsername()), member.getId());
+            }
+        }
+
+        //3. 이미 참가 중인 회원 (chunk 별 IN 조회)
+        Set<Long> existingMemberIds = new HashSet<>(capacity(memberIds.size()));
+        for (List<Long> chunk : chunks(new ArrayList<>(memberIds.values()))) {
+            existingMemberIds.addAll(roomMemberRepository.findMemberIdsByRoomIdAndMemberIdIn(roomId, chunk));
+        }
+
+        //4. 회원별 결과 + 새로 참가시킬 회원
+        List<RoomDto.InviteResult> results = new ArrayList<>(requested.size());
+        List<Long> newMemberIds = new ArrayList<>(memberIds.size());
+        int alreadyMember = 0;
+        int notFound = 0;
+        for (Map.Entry<String, String> entry : requested.entrySet()) {
+            Long memberId = memberIds.get(entry.getKey());
+            RoomDto.InviteStatus status;
+            if (memberId == null) {
+                status = RoomDto.InviteStatus.NOT_FOUND;
+                notFound++;
+            } else if (existingMemberIds.contains(memberId)) {
+                status = RoomDto.InviteStatus.ALREADY_MEMBER;
+                alreadyMember++;
+            } else {
+                status = RoomDto.InviteStatus.JOINED;
+                newMemberIds.add(memberId);
+            }
+            results.add(new RoomDto.InviteResult(entry.getValue(), status));
+        }
+
+        //5. 저장 (chunk 별 multi-row INSERT IGNORE) - 3 과 5 사이에 다른 요청이 먼저 참가시킨 회원은 무시됨
+        //5-1. 회원별 참가 채팅방 수 증가 (무시된 행이 있으면 어느 회원인지 알 수 없으므로 해당 chunk 만 다시 계산)
+        LocalDateTime joinedAt = LocalDateTime.now();
+        long inserted = 0;
+        for (List<Long> chunk : chunks(newMemberIds)) {
+            int rows = roomMemberRepository.insertIgnore(roomId, chunk, joinedAt);
+            if (rows == chunk.size()) {
+                roomMemberRepository.addMemberRoomCount(chunk, 1);
+            } else {
+                roomMemberRepository.recountMemberRoomCount(chunk);
+            }
+            inserted += rows;
+        }
+
+        //5-2. 채팅방 참가 인원 증가 (채팅방 행 잠금은 마지막에 1번 - 같은 채팅방 초대끼리 기다리는 시간 최소화)
+        if (inserted > 0) {
+            roomMemberRepository.addRoomMemberCount(roomId, inserted);
+        }
+
+        return new RoomDto.InviteResponse(roomId, usernames.size(), duplicates,
+                newMemberIds.size(), alreadyMember, notFound, results);
+    }
+
+
+    /**
+     * 2. 채팅방에 회원 1명 참가 (JPA 저장 - 공지 채팅방 게시자 / 단일 참가)
+     */
+    public void addMember(Room room, Member member, RoomMemberRole role) {
+        roomMemberRepository.save(new RoomMember(room, member, role));
+        roomMemberRepository.addMemberRoomCount(List.of(member.getId()), 1);
+        roomMemberRepository.addRoomMemberCount(room.getId(), 1);
+    }
+
+    /**
+     * 3. 채팅방에서 회원 1명 퇴장
+     * @return : 남은 참가 인원 (참가 중이 아니었으면 카운터를 바꾸지 않고 현재 인원)
+     */
+    public long removeMember(Long roomId, Long memberId) {
+        if (roomMemberRepository.deleteByRoomIdAndMemberId(roomId, memberId) > 0) {
+            roomMemberRepository.addMemberRoomCount(List.of(memberId), -1);
+            roomMemberRepository.addRoomMemberCount(roomId, -1);
+            eventPublisher.publishEvent(new MemberLeftEvent(roomId, memberId));
+        }
+        //채팅방 행은 위 UPDATE 로 잠겨 있음 -> 동시에 퇴장해도 마지막 1명만 0 을 읽음
+        return roomMemberRepository.findRoomMemberCount(roomId);
+    }
+
+    /**
+     * 4. 채팅방의 모든 참가 기록 삭제 (채팅방 삭제 - 채팅방 카운터는 행과 함께 삭제)
+     */
+    public void removeAllMembers(Long roomId) {
+        roomMemberRepository.subtractMemberRoomCountOfRoom(roomId);
+        roomMemberRepository.deleteByRoomId(roomId);
+        eventPublisher.publishEvent(MemberLeftEvent.all(roomId));
+    }
+
+    /**
+     * 5. 카운터 조회 (COUNT(*) 대신 카운터 컬럼)
+     */
+    @Transactional(readOnly = true)
+    public long getMemberCount(Long roomId) {
+        return roomMemberRepository.findRoomMemberCount(roomId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getMemberCounts(Collection<Long> roomIds) {
+        return roomMemberRepository.findRoomMemberCounts(roomIds);
+    }
+
+    @Transactional(readOnly = true)
+    public long getRoomCount(Long memberId) {
+        return roomMemberRepository.findMemberRoomCount(memberId);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>((values.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            chunks.add(values.subList(from, Math.min(values.size(), from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    //기본 load factor(0.75) 에서 다시 해싱하지 않는 초기 크기
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+}
@@ -1,12 +1,15 @@
 package project.pp_backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.pp_backend.dto.RoomDto;
 import project.pp_backend.entity.Member;
 import project.pp_backend.entity.Room;
 import project.pp_backend.entity.RoomMember;
+import project.pp_backend.entity.RoomMemberRole;
+import project.pp_backend.entity.RoomType;
 import project.pp_backend.exception.DataAlreadyExistsException;
 import project.pp_backend.exception.DataNotFoundException;
 import project.pp_backend.repository.MemberRepository;
@@ -14,10 +17,10 @@ import project.pp_backend.repository.MessageRepository;
 import project.pp_backend.repository.RoomMemberRepository;
 import project.pp_backend.repository.RoomRepository;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +35,8 @@ public class RoomService {
     private final MessageRepository messageRepository;
     private final MemberRepository memberRepository;
     private final RoomMemberRepository roomMemberRepository;
+    private final RoomMembershipService roomMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 1. 채팅방 생성
@@ -45,62 +50,44 @@ public class RoomService {
         Member roomOwner = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new DataNotFoundException("회원을 찾을 수 없습니다. 채팅방을 생성할 수 없습니다."));
 
-        //2. 회원당 채팅방 생성 개수 제한 (쿼리 2회: COUNT)
-        long existingRoomCount = roomMemberRepository.countByMemberId(roomOwner.getId());
+        //2. 회원당 채팅방 생성 개수 제한 (쿼리 2회: 카운터 컬럼 PK 조회 - COUNT 없음)
+        long existingRoomCount = roomMembershipService.getRoomCount(roomOwner.getId());
         if (existingRoomCount >= MAX_ROOM_CREATION_LIMIT) {
             throw new SecurityException("최대 채팅방 생성/참가 개수(" + MAX_ROOM_CREATION_LIMIT + "개)");
         }
 
-        //3. 엔티티 변환 및 저장 (쿼리 3회: INSECT Room)
+        //3. 엔티티 변환 및 저장 (쿼리 3회: INSECT Room) - 참가 기록은 JDBC 로 저장하므로 바로 INSERT
         Room room = request.toEntity();
-        roomRepository.save(room);
+        roomRepository.saveAndFlush(room);
 
-        //--- 4. 참가자 목록(방 생성자 포함) 채팅방에 참가시키기 ---
-
-        //4-1. 참가자 username 리스트 구성
-        Set<String> uniqueUsernames = new HashSet<>(request.getMemberUsernames());
-        uniqueUsernames.add(username); //Set->중복 방지 / 명시적으로 방 생성자 참가
-
-        //4-2. 모든 초대 대상 회원 조회 (쿼리 4회: SELECT IN)
-        List<Member> members = memberRepository.findByUsernameIn(uniqueUsernames.stream().toList());
-
-        //4-3. 유효성 검사 (초대 목록에 없는 회원이 있는지 확인)
-        if (members.size() != uniqueUsernames.size()) {
-            throw new DataNotFoundException("초대 목록에 존재하지 않는 회원이 포함되어 있습니다.");
+        //3-1. 공지 채팅방은 생성자만 게시자 (4 의 일괄 참가에서는 이미 참가 중으로 무시됨)
+        long memberCount = 0;
+        if (room.getType() == RoomType.BROADCAST) {
+            roomMembershipService.addMember(room, roomOwner, RoomMemberRole.PUBLISHER);
+            memberCount++;
         }
 
-        //4-4. 새로 참가시킬 회원 목록 생성
-        List<RoomMember> newRoomMembers = members.stream()
-                .map(member -> new RoomMember(room, member))
-                .collect(Collectors.toList());
+        //4. 참가자 목록(방 생성자 포함) 채팅방에 참가시키기 (chunk 별 SELECT IN + multi-row INSERT IGNORE)
+        List<String> usernames = new ArrayList<>(request.getMemberUsernames().size() + 1);
+        usernames.add(username); //명시적으로 방 생성자 참가 (중복은 RoomMembershipService 에서 제거)
+        usernames.addAll(request.getMemberUsernames());
+        memberCount += roomMembershipService.addMembers(room.getId(), usernames).getJoined();
 
-        //4-5. RoomMember 엔티티를 배치 저장 (쿼리 5회: Batch INSERT)
-        if (!newRoomMembers.isEmpty()) {
-            roomMemberRepository.saveAll(newRoomMembers);
-        }
-
-        return new RoomDto.Response(room);
+        return new RoomDto.Response(room, memberCount);
     }
 
     //2-1. 채팅방 조회 (단일 조회)
     public RoomDto.Response getRoom(Long roomId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new DataNotFoundException("채팅방을 찾을 수 없습니다."));
-        return new RoomDto.Response(room);
+        return new RoomDto.Response(room, roomMembershipService.getMemberCount(roomId));
     }
 
     //2-2. 채팅방 목록 조회 (회원이 참가중인 채팅방 목록)
     public List<RoomDto.Response> getRoomsByUsername(String username) {
-        return roomMemberRepository.findByMemberUsername(username).stream()
-                .map(roomMember -> new RoomDto.Response(roomMember.getRoom()))
-                .collect(Collectors.toList());
-    }
-
-    //2-3. 채팅방 목록 조회 (전체 조회 - 관리자용)
-    public List<RoomDto.Response> getAllRooms() {
-        return roomRepository.findAll().stream()
-                .map(RoomDto.Response::new)
-                .collect(Collectors.toList());
+        return toResponses(roomMemberRepository.findByMemberUsername(username).stream()
+                .map(RoomMember::getRoom)
+                .toList());
     }
 
 
@@ -126,10 +113,11 @@ public class RoomService {
         //2) 운영자 권한인가?
 
 
-        //3. 채팅방 이름 수정
+        //3. 채팅방 이름 수정 (다른 노드의 채팅방 캐시는 커밋 이후 무효화)
         room.updateName(request.getName());
+        eventPublisher.publishEvent(EntityCacheService.EvictEvent.room(roomId));
         //4. 수정된 데이터 반환
-        return new RoomDto.Response(room);
+        return new RoomDto.Response(room, roomMembershipService.getMemberCount(roomId));
     }
 
     //4. 채팅방 삭제
@@ -150,11 +138,12 @@ public class RoomService {
         // 2. 해당 방의 모든 메시지 삭제
         messageRepository.deleteByRoomId(roomId);
 
-        // 3. 해당 방의 모든 RoomMember 기록 삭제
-        roomMemberRepository.deleteByRoomId(roomId);
+        // 3. 해당 방의 모든 RoomMember 기록 삭제 (참가자들의 참가 채팅방 수 감소)
+        roomMembershipService.removeAllMembers(roomId);
 
-        // 4. 채팅방 삭제
+        // 4. 채팅방 삭제 (다른 노드의 채팅방 캐시는 커밋 이후 무효화)
         roomRepository.delete(room);
+        eventPublisher.publishEvent(EntityCacheService.EvictEvent.room(roomId));
 
         return roomId;
     }
@@ -175,10 +164,9 @@ public class RoomService {
             throw new DataAlreadyExistsException("이미 채팅방에 참가 중입니다.");
         }
 
-        //3. RoomMember 엔티티 생성 및 저장 (참가 처리)
-        RoomMember roomMember = new RoomMember(room, member);
-        roomMemberRepository.save(roomMember);
-        return new RoomDto.Response(room);
+        //3. RoomMember 엔티티 생성 및 저장 (참가 처리 + 카운터 증가)
+        roomMembershipService.addMember(room, member, RoomMemberRole.MEMBER);
+        return new RoomDto.Response(room, roomMembershipService.getMemberCount(roomId));
     }
 
     //6. 채팅방에서 회원 퇴장 기능 (Leave)
@@ -190,71 +178,56 @@ public class RoomService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new DataNotFoundException("회원을 찾을 수 없습니다."));
 
-        //2. RoomMember 기록 삭제 (퇴장 처리)
-        roomMemberRepository.deleteByRoomIdAndMemberId(roomId, member.getId());
+        //2. RoomMember 기록 삭제 (퇴장 처리) -> 남은 인원 (카운터 감소 후 값 - COUNT 없음)
+        long remainingMembers = roomMembershipService.removeMember(roomId, member.getId());
 
         //3. 방에 남아 있는 멤버가 0명인 경우, 방을 자동으로 삭제
-        long remainingMembers = roomMemberRepository.countByRoomId(roomId);
 
         if (remainingMembers == 0) {
             // 3-1. 해당 방의 모든 메시지 삭제
             // (RoomMember 기록은 이미 삭제되었으므로, 메시지 삭제 후 방 자체를 삭제)
             messageRepository.deleteByRoomId(roomId);
 
-            // 3-2. 채팅방 삭제
+            // 3-2. 채팅방 삭제 (deleteRoom 과 같이 다른 노드의 채팅방 캐시는 커밋 이후 무효화)
             roomRepository.delete(room);
+            eventPublisher.publishEvent(EntityCacheService.EvictEvent.room(roomId));
         }
 
         return roomId;
     }
 
-    //7. 여러 회원을 한번에 참가 시키는 최적화 로직
+    //7. 여러 회원을 한번에 참가 (수천 명 단위 초대) - 존재하지 않는 username 은 건너뛰고 회원별 결과 반환
     @Transactional
-    public RoomDto.Response batchJoinRoom(Long roomId, List<String> usernames) {
-        //1. 채팅방 조회 (쿼리 1회)
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new DataNotFoundException("채팅방을 찾을 수 없습니다."));
-
-        //2. 모든 초대 대상 회원 조회 (쿼리 2회: SELECT IN)
-        List<Member> members = memberRepository.findByUsernameIn(usernames);
-
-        // 유효성 검사 (초대 목록에 없는 회원 필터링 등)
-        if (members.size() != usernames.size()) {
-            throw new DataNotFoundException("회원이 존재하지 않습니다.");
+    public RoomDto.InviteResponse batchJoinRoom(Long roomId, List<String> usernames) {
+        //1. 채팅방 확인 (쿼리 1회)
+        if (!roomRepository.existsById(roomId)) {
+            throw new DataNotFoundException("채팅방을 찾을 수 없습니다.");
         }
 
-        // 3. 이미 참가 중인 회원을 미리 조회하여 필터링 (쿼리 3회: SELECT IN)
-        List<Long> memberIds = members.stream()
-                .map(Member::getId)
-                .collect(Collectors.toList());
-
-        List<RoomMember> existingMembers = roomMemberRepository.findByRoomIdAndMemberIdIn(roomId, memberIds);
-
-        // 이미 참가 중인 회원 ID 목록
-        List<Long> existingMemberIds = existingMembers.stream()
-                .map(roomMember -> roomMember.getMember().getId())
-                .toList();
-
-        // 4. 새로 참가시킬 회원 목록 생성
-        List<RoomMember> newRoomMembers = members.stream()
-                .filter(member -> !existingMemberIds.contains(member.getId()))
-                .map(member -> new RoomMember(room, member))
-                .collect(Collectors.toList());
-
-        // 5. RoomMember 엔티티를 배치 저장 (쿼리 4회: Batch INSERT)
-        if (!newRoomMembers.isEmpty()) {
-            roomMemberRepository.saveAll(newRoomMembers);
-        }
-
-        return new RoomDto.Response(room);
+        //2. 일괄 참가 (chunk 별 SELECT IN 2회 + multi-row INSERT IGNORE 1회)
+        return roomMembershipService.addMembers(roomId, usernames);
     }
 
     //8. 참가중인 채팅방 이름 조회
     public List<RoomDto.Response> searchRoomsForMember(String username, String roomKeyword) {
-        return roomRepository.findParticipatingRoomsByMemberUsernameAndRoomNameContaining(
+        List<Room> rooms = roomRepository.findParticipatingRoomsByMemberUsernameAndRoomNameContaining(
                 username, roomKeyword
-                ).stream()
-                .map(RoomDto.Response::new)
-                .toList();
+                );
+        return toResponses(rooms);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    //채팅방 목록 -> 응답 (참가 인원은 카운터 컬럼 IN 조회 1번)
+    private List<RoomDto.Response> toResponses(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> memberCounts = roomMembershipService.getMemberCounts(
+                rooms.stream().map(Room::getId).toList());
+        return rooms.stream()
+                .map(room -> new RoomDto.Response(room, memberCounts.getOrDefault(room.getId(), 0L)))
+                .collect(Collectors.toList());
     }
 }
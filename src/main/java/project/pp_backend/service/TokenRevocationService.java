@@ -0,0 +1,261 @@
+package project.pp_backend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.pp_backend.dto.TokenDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Access Token 폐기(revocation) - 토큰 ID(jti) 기준
+ * - Redis: RV:{jti} (TTL = 토큰의 남은 유효 시간) + 폐기 색인 RV-index (Sorted Set, score = 만료 시각)
+ * - 노드별 로컬 Bloom Filter 를 먼저 확인 -> 대부분의 요청(폐기되지 않은 토큰)은 Redis 조회 없이 통과
+ *   Bloom Filter 에 걸린 경우에만 Redis 에서 실제 폐기 여부 확인 (오탐 제거)
+ * - 다른 노드의 Bloom Filter 는 Redis Pub/Sub 으로 동기화, 새로 시작한 노드는 폐기 색인으로 채움
+ *   Pub/Sub 구독이 끊긴 동안(synced=false)에도 요청은 가지고 있는 Bloom Filter 로 판단 (Redis 왕복 없음)
+ *   -> 끊긴 동안 다른 노드에서 폐기된 토큰은 다시 채울 때까지 통과할 수 있음 (최대 unsynced-retry-interval)
+ *   (구독이 다시 연결될 때 + 동기화 전이면 unsynced-retry-interval 마다 + resync-interval 마다 폐기 색인으로 다시 채움)
+ * - Redis 장애 시 Bloom Filter 에 걸린 토큰만 폐기로 처리 (나머지 토큰은 Redis 와 관계없이 통과)
+ * - Bloom Filter 는 삭제가 안 되므로 2세대(현재/이전)로 운영하고 Access Token 유효 시간마다 교체
+ *   (폐기 후 최소 Access Token 유효 시간 동안은 둘 중 한 세대에 남아 있음)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String REVOKED_PREFIX = "RV:";
+    private static final String INDEX_KEY = "RV-index";
+    private static final String REVOCATION_CHANNEL = "token:revoke";
+    private static final int BOOTSTRAP_PAGE_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile boolean synced;
+
+    private final LongAdder checkCount = new LongAdder();
+    private final LongAdder bloomHitCount = new LongAdder();
+    private final LongAdder revokedHitCount = new LongAdder();
+    private final LongAdder redisErrorCount = new LongAdder();
+    private final LongAdder unsyncedCheckCount = new LongAdder();
+
+    public TokenRevocationService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilter();
+        this.previous = newFilter();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(new RevocationListener(), new ChannelTopic(REVOCATION_CHANNEL));
+        bootstrap();
+    }
+
+    /**
+     * 1. 폐기 (로그아웃) - SET + ZADD + PUBLISH 를 파이프라인으로 1회 왕복
+     * @param tokenId : Access Token 의 jti
+     * @param expiresAt : Access Token 만료 시각 (epoch ms)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (tokenId == null || ttl <= 0) {
+            return;
+        }
+
+        current.put(tokenId);
+
+        byte[] key = bytes(REVOKED_PREFIX + tokenId);
+        byte[] index = bytes(INDEX_KEY);
+        byte[] channel = bytes(REVOCATION_CHANNEL);
+        byte[] member = bytes(tokenId);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().pSetEx(key, ttl, bytes("1"));
+            connection.zSetCommands().zAdd(index, expiresAt, member);
+            connection.publish(channel, member);
+            return null;
+        });
+    }
+
+    /**
+     * 2. 폐기 여부 확인 (모든 인증 요청마다 호출)
+     * - Bloom Filter 에 없으면 Redis 조회 없이 false (동기화 전이어도 마찬가지 - 다시 채우는 작업은 백그라운드에서)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        checkCount.increment();
+        if (!synced) {
+            unsyncedCheckCount.increment();
+        }
+        if (!current.mightContain(tokenId) && !previous.mightContain(tokenId)) {
+            return false;
+        }
+        bloomHitCount.increment();
+
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_PREFIX + tokenId));
+            if (revoked) {
+                revokedHitCount.increment();
+            }
+            return revoked;
+        } catch (RuntimeException e) {
+            //Redis 장애 시 Bloom Filter 에 걸린 토큰만 폐기된 것으로 처리 (안전한 쪽으로, 오탐인 토큰은 Redis 복구 후 다시 통과)
+            redisErrorCount.increment();
+            log.warn("[TokenRevocation] failed to check {}: {}", tokenId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 3. Bloom Filter 세대 교체 + 만료된 폐기 색인 정리 (Access Token 유효 시간마다)
+     */
+    @Scheduled(fixedDelayString = "${jwt.access-token-expiration-milliseconds}",
+            initialDelayString = "${jwt.access-token-expiration-milliseconds}")
+    public void rotateFilters() {
+        previous = current;
+        current = newFilter();
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("[TokenRevocation] failed to trim revocation index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 3-1. 폐기 색인으로 Bloom Filter 다시 채우기 (Pub/Sub 메시지를 놓친 경우 보완)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval-milliseconds:300000}",
+            initialDelayString = "${jwt.revocation.resync-interval-milliseconds:300000}")
+    public void resync() {
+        bootstrap();
+    }
+
+    /**
+     * 3-2. 동기화 전(시작 시 실패 / 구독 끊김)이면 짧은 주기로 다시 채우기 시도
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.unsynced-retry-interval-milliseconds:5000}",
+            initialDelayString = "${jwt.revocation.unsynced-retry-interval-milliseconds:5000}")
+    public void retryUnsynced() {
+        if (!synced) {
+            bootstrap();
+        }
+    }
+
+    /**
+     * 4. Bloom Filter 통계 (오탐률 / 메모리)
+     */
+    public TokenDto.RevocationStatsResponse getStats() {
+        BloomFilter current = this.current;
+        BloomFilter previous = this.previous;
+
+        long checks = checkCount.sum();
+        long bloomHits = bloomHitCount.sum();
+        long revokedHits = revokedHitCount.sum();
+        double currentFpp = current.estimatedFalsePositiveRate();
+        double previousFpp = previous.estimatedFalsePositiveRate();
+
+        return TokenDto.RevocationStatsResponse.builder()
+                .expectedInsertions(expectedInsertions)
+                .targetFalsePositiveRate(falsePositiveRate)
+                .bitSize(current.getBitSize())
+                .hashFunctionCount(current.getHashCount())
+                .memoryBytes(current.getMemoryBytes() + previous.getMemoryBytes())
+                .currentElementCount(current.estimatedElementCount())
+                .previousElementCount(previous.estimatedElementCount())
+                //두 세대 중 하나라도 오탐이면 오탐
+                .estimatedFalsePositiveRate(1 - (1 - currentFpp) * (1 - previousFpp))
+                .checkCount(checks)
+                .bloomHitCount(bloomHits)
+                .revokedHitCount(revokedHits)
+                .observedFalsePositiveRate(checks == 0 ? 0.0 : (double) (bloomHits - revokedHits) / checks)
+                .redisErrorCount(redisErrorCount.sum())
+                .synced(synced)
+                .unsyncedCheckCount(unsyncedCheckCount.sum())
+                .build();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰으로 Bloom Filter 채우기 (시작 시 / 구독 재연결 시 / 주기적으로)
+     * - 성공해야 synced = true, 실패하면 이전 상태 유지 (가지고 있는 Bloom Filter 로 계속 판단)
+     */
+    private void bootstrap() {
+        try {
+            long now = System.currentTimeMillis();
+            long loaded = 0;
+            for (long offset = 0; ; offset += BOOTSTRAP_PAGE_SIZE) {
+                Set<String> tokenIds = redisTemplate.opsForZSet()
+                        .rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY, offset, BOOTSTRAP_PAGE_SIZE);
+                if (tokenIds == null || tokenIds.isEmpty()) {
+                    break;
+                }
+                tokenIds.forEach(current::put);
+                loaded += tokenIds.size();
+            }
+            synced = true;
+            log.info("[TokenRevocation] loaded {} revoked tokens into bloom filter", loaded);
+        } catch (RuntimeException e) {
+            log.warn("[TokenRevocation] failed to load revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기 메시지 수신 + 구독 상태 변경
+     * - 구독(재연결 포함) 완료 -> 끊긴 동안 놓친 폐기 토큰을 색인으로 채움
+     * - 구독 해제 -> 다시 채울 때까지 synced = false (retryUnsynced 가 주기적으로 다시 채움)
+     */
+    private class RevocationListener implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            current.put(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            bootstrap();
+        }
+
+        @Override
+        public void onChannelUnsubscribed(byte[] channel, long count) {
+            synced = false;
+            log.warn("[TokenRevocation] revocation channel unsubscribed, answering from local bloom filter until resync");
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
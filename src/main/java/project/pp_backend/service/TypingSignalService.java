@@ -0,0 +1,147 @@
+package project.pp_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.pp_backend.config.SlowConsumerOutboundInterceptor;
+import project.pp_backend.dto.SignalDto;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 중(typing) 신호 처리 서비스
+ * - 권한: 채팅방 참가 기록(RoomMember) 확인 -> 확인된 (채팅방, 회원)은 메모리에 보관 (신호마다 DB 조회 없음)
+ *   구독 중이 아니면(PresenceRegistry) DB 조회 없이 무시, 참가 중이 아닌 결과는 보관하지 않음 (참가 직후 바로 허용)
+ *   퇴장 / 채팅방 삭제 시 이 노드는 바로 제거, 다른 노드는 보관 시간이 지나면 다시 확인
+ * - 회원/채팅방 단위로 전송 빈도를 제한 (같은 상태의 반복 신호는 interval 안에 1회만 전달)
+ */
+@Service
+public class TypingSignalService {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    private static final String TYPING_DESTINATION_SUFFIX = "/typing";
+    private static final Map<String, Object> TYPING_HEADERS =
+            Map.of(SlowConsumerOutboundInterceptor.MESSAGE_TYPE_HEADER, "TYPING");
+
+    private final PresenceRegistry presenceRegistry;
+    private final RoomMemberRepository roomMemberRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long throttleIntervalNanos;
+
+    //참가 기록이 확인된 (roomId, memberId)
+    private final Cache<TypingKey, Boolean> memberships;
+
+    //(roomId, memberId) -> 마지막으로 전달한 신호
+    private final Map<TypingKey, LastSignal> lastSignals = new ConcurrentHashMap<>();
+
+    public TypingSignalService(
+            PresenceRegistry presenceRegistry,
+            RoomMemberRepository roomMemberRepository,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${signal.typing.throttle-interval-milliseconds:300}") long throttleIntervalMillis,
+            @Value("${signal.typing.membership-cache-seconds:60}") long membershipTtlSeconds,
+            @Value("${signal.typing.membership-cache-max-entries:100000}") long membershipMaxEntries
+    ) {
+        this.presenceRegistry = presenceRegistry;
+        this.roomMemberRepository = roomMemberRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.throttleIntervalNanos = TimeUnit.MILLISECONDS.toNanos(throttleIntervalMillis);
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(membershipMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(membershipTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 입력 중 신호 전달
+     * @return : 구독자에게 전달되었는지 여부 (참가하지 않은 채팅방이거나, 빈도 제한에 걸리면 false)
+     */
+    public boolean publishTyping(Long memberId, String username, SignalDto.TypingRequest request) {
+        Long roomId = request.getRoomId();
+        if (roomId == null || memberId == null) {
+            return false;
+        }
+
+        //1. 채팅방 참가 여부 확인 - 구독 상태(메모리) + 참가 기록(보관된 값이 없을 때만 DB 조회)
+        TypingKey key = new TypingKey(roomId, memberId);
+        if (!presenceRegistry.isInRoom(roomId, memberId) || !isMember(key)) {
+            return false;
+        }
+
+        //2. 빈도 제한 (상태가 바뀐 신호는 항상 전달)
+        if (!tryAcquire(key, request.isTyping())) {
+            return false;
+        }
+
+        //3. 구독자에게 전달 (/sub/chat/room/{roomId}/typing)
+        messagingTemplate.convertAndSend(
+                ROOM_DESTINATION_PREFIX + roomId + TYPING_DESTINATION_SUFFIX,
+                new SignalDto.TypingEvent(roomId, memberId, username, request.isTyping()),
+                TYPING_HEADERS
+        );
+        return true;
+    }
+
+    /**
+     * 퇴장 / 채팅방 삭제 시 보관한 참가 확인 결과 제거 (커밋 이후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMemberLeft(RoomMembershipService.MemberLeftEvent event) {
+        if (event.memberId() != null) {
+            memberships.invalidate(new TypingKey(event.roomId(), event.memberId()));
+        } else {
+            memberships.asMap().keySet().removeIf(key -> key.roomId() == event.roomId());
+        }
+    }
+
+    /**
+     * 오래된 빈도 제한 기록 정리 (메모리 사용량 유지)
+     */
+    @Scheduled(fixedDelayString = "${signal.typing.cleanup-interval-milliseconds:60000}")
+    public void evictStaleSignals() {
+        long threshold = System.nanoTime() - Math.max(throttleIntervalNanos, TimeUnit.SECONDS.toNanos(10));
+        lastSignals.values().removeIf(signal -> signal.sentAt() < threshold);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private boolean isMember(TypingKey key) {
+        if (memberships.getIfPresent(key) != null) {
+            return true;
+        }
+        boolean member = roomMemberRepository.existsByRoomIdAndMemberId(key.roomId(), key.memberId());
+        if (member) {
+            memberships.put(key, Boolean.TRUE);
+        }
+        return member;
+    }
+
+    private boolean tryAcquire(TypingKey key, boolean typing) {
+        long now = System.nanoTime();
+        boolean[] acquired = new boolean[1];
+        lastSignals.compute(key, (k, last) -> {
+            if (last == null || last.typing() != typing || now - last.sentAt() >= throttleIntervalNanos) {
+                acquired[0] = true;
+                return new LastSignal(typing, now);
+            }
+            return last;
+        });
+        return acquired[0];
+    }
+
+    private record TypingKey(long roomId, long memberId) {
+    }
+
+    private record LastSignal(boolean typing, long sentAt) {
+    }
+}
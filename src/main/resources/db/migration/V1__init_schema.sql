@@ -0,0 +1,93 @@
+-- 초기 스키마 (Hibernate 매핑과 동일한 테이블/컬럼 + 모든 Repository 조회에 필요한 인덱스/유니크 제약조건)
+-- 이후 스키마 변경은 V2__*.sql 부터 추가 (spring.jpa.hibernate.ddl-auto=validate 로 매핑과 일치 여부 확인)
+
+-- ID 생성용 테이블 (@GeneratedValue -> MySQL 은 시퀀스 대신 테이블 사용, increment 50)
+create table member_seq (next_val bigint);
+insert into member_seq values (1);
+create table room_seq (next_val bigint);
+insert into room_seq values (1);
+create table room_member_seq (next_val bigint);
+insert into room_member_seq values (1);
+create table message_seq (next_val bigint);
+insert into message_seq values (1);
+create table friend_ship_seq (next_val bigint);
+insert into friend_ship_seq values (1);
+
+-- 회원 (MySQL 8.0 의 MEMBER OF 연산자 키워드와 구분하기 위해 `member` 로 표기)
+-- username : findByUsername(자연 키 조회), existsByUsername, findExistingUsernames, 가입 중복 검사
+-- nickname : findByNickname, existsByNickname, findExistingNicknames, 가입 중복 검사
+-- email    : findByEmail, existsByEmail, findExistingEmails, 가입 중복 검사
+create table `member` (
+    id          bigint       not null,
+    created_at  datetime(6)  not null,
+    updated_at  datetime(6)  not null,
+    username    varchar(255),
+    password    varchar(255),
+    nickname    varchar(255),
+    email       varchar(255),
+    member_role enum ('SUPER_ADMIN','ADMIN','USER','SOCIAL'),
+    primary key (id),
+    constraint uk_member_username unique (username),
+    constraint uk_member_nickname unique (nickname),
+    constraint uk_member_email unique (email)
+);
+
+-- 채팅방 (이름 검색은 참가 회원 기준으로 먼저 좁힌 뒤 비교)
+create table room (
+    id         bigint       not null,
+    created_at datetime(6)  not null,
+    updated_at datetime(6)  not null,
+    name       varchar(255),
+    primary key (id)
+);
+
+-- 채팅방 참가
+-- (room_id, member_id) : findByRoomIdAndMemberId, findByRoomIdAndMemberIdIn, deleteByRoomIdAndMemberId, deleteByRoomId, countByRoomId
+-- (member_id)          : findByMemberUsername, countByMemberId, 참가 채팅방 이름 검색
+create table room_member (
+    id         bigint       not null,
+    created_at datetime(6)  not null,
+    updated_at datetime(6)  not null,
+    room_id    bigint,
+    member_id  bigint,
+    primary key (id),
+    constraint uk_room_member_room_member unique (room_id, member_id),
+    constraint fk_room_member_room foreign key (room_id) references room (id),
+    constraint fk_room_member_member foreign key (member_id) references `member` (id)
+);
+create index idx_room_member_member on room_member (member_id);
+
+-- 메시지
+-- (room_id, created_at)          : findByRoomIdOrderByCreatedAtDesc, deleteByRoomId
+-- (member_id, client_message_id) : findByMemberUsernameAndClientMessageId (재전송 확인), deleteByMemberId
+create table message (
+    id                bigint       not null,
+    created_at        datetime(6)  not null,
+    updated_at        datetime(6)  not null,
+    content           varchar(255),
+    type              enum ('CHAT','ENTER','LEAVE'),
+    member_id         bigint,
+    room_id           bigint,
+    client_message_id varchar(64),
+    primary key (id),
+    constraint uk_message_member_client_message_id unique (member_id, client_message_id),
+    constraint fk_message_member foreign key (member_id) references `member` (id),
+    constraint fk_message_room foreign key (room_id) references room (id)
+);
+create index idx_message_room_created_at on message (room_id, created_at);
+
+-- 친구
+-- (owner_member_id, friend_member_id) : findByOwnerUsernameAndFriendUsername, findByOwnerUsername, 닉네임 검색
+-- (friend_member_id)                  : 회원 삭제 시 외래 키 확인
+create table friend_ship (
+    id               bigint       not null,
+    created_at       datetime(6)  not null,
+    updated_at       datetime(6)  not null,
+    owner_member_id  bigint,
+    friend_member_id bigint,
+    primary key (id),
+    constraint uk_friend_ship_owner_friend unique (owner_member_id, friend_member_id),
+    constraint fk_friend_ship_owner foreign key (owner_member_id) references `member` (id),
+    constraint fk_friend_ship_friend foreign key (friend_member_id) references `member` (id)
+);
+create index idx_friend_ship_friend on friend_ship (friend_member_id);
@@ -0,0 +1,5 @@
+-- 채팅방 참가 기록 ID 를 AUTO_INCREMENT 로 변경
+-- 일괄 초대는 multi-row INSERT IGNORE 1문장으로 저장 (RoomMemberRepositoryCustomImpl) -> DB 가 행마다 ID 를 생성
+-- 이미 참가 중인 회원은 (room_id, member_id) 유니크 키로 무시 (findMemberIdsByRoomIdAndMemberIdIn 으로 미리 확인)
+alter table room_member modify id bigint not null auto_increment;
+drop table room_member_seq;
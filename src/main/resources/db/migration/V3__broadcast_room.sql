@@ -0,0 +1,7 @@
+-- 공지(BROADCAST) 채팅방
+-- room.type        : GROUP(일반 채팅방) / BROADCAST(구독자 수십만 명, 게시자만 전송) - 기존 채팅방은 GROUP
+-- room_member.role : MEMBER / PUBLISHER - findPublisherIdsByRoomId ((room_id, member_id) 유니크 인덱스)
+--                    일괄 초대(multi-row INSERT IGNORE)는 컬럼을 지정하지 않으므로 기본값 MEMBER
+alter table room add column type enum ('GROUP','BROADCAST') not null default 'GROUP';
+alter table room_member add column role enum ('MEMBER','PUBLISHER') not null default 'MEMBER';
+
@@ -0,0 +1,10 @@
+-- 참가 인원 / 참가 채팅방 수 카운터 (RoomMemberRepositoryCustomImpl 이 참가 기록 변경과 같은 트랜잭션에서 증감)
+-- room.member_count   : 채팅방 참가 인원 (RoomDto.Response.memberCount, 마지막 회원 퇴장 시 채팅방 삭제 판단)
+-- member.room_count   : 회원별 참가 채팅방 수 (채팅방 생성 / 참가 개수 제한)
+-- 엔티티에 매핑하지 않음 (2차 캐시에 오래된 값이 남지 않도록 항상 JDBC 로 조회)
+-- MembershipCounterReconciler 가 주기적으로 참가 기록 수와 비교해서 보정
+alter table room add column member_count int not null default 0;
+alter table `member` add column room_count int not null default 0;
+
+update room r set member_count = (select count(*) from room_member rm where rm.room_id = r.id);
+update `member` m set room_count = (select count(*) from room_member rm where rm.member_id = m.id);
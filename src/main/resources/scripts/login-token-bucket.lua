@@ -0,0 +1,32 @@
+-- 로그인 시도 Token Bucket (회원/IP 버킷을 함께 확인) - Redis 서버에서 한 번에(원자적으로) 실행
+-- KEYS[i]          : 버킷 Key (Hash: tokens, ts)
+-- ARGV[1]          : 현재 시각 (epoch ms)
+-- ARGV[2i], [2i+1] : KEYS[i] 버킷의 용량, ms 당 충전량
+-- 반환값 : 0 허용 (모든 버킷에서 1개씩 차감) / 양수 재시도까지 기다려야 하는 시간(ms) - 이때는 어떤 버킷도 차감하지 않음
+local now = tonumber(ARGV[1])
+local buckets = {}
+local retryAfter = 0
+
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i])
+    local rate = tonumber(ARGV[2 * i + 1])
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or capacity
+    local ts = tonumber(state[2]) or now
+
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+    if tokens < 1 then
+        retryAfter = math.max(retryAfter, math.ceil((1 - tokens) / rate))
+    end
+    buckets[i] = { key = key, tokens = tokens, ttl = math.ceil(capacity / rate) }
+end
+
+if retryAfter > 0 then
+    return retryAfter
+end
+
+for _, bucket in ipairs(buckets) do
+    redis.call('HSET', bucket.key, 'tokens', tostring(bucket.tokens - 1), 'ts', ARGV[1])
+    redis.call('PEXPIRE', bucket.key, bucket.ttl)
+end
+return 0
@@ -0,0 +1,122 @@
+-- 기기별 Refresh Token 세션 (회원당 Redis Hash 1개) - Redis 서버에서 한 번에(원자적으로) 실행
+-- KEYS[1] : RT:{username}   Hash (field: 기기 ID, value: "해시|직전 해시|직전 해시 보관 기한|만료|마지막 사용")
+-- KEYS[2] : RT-index        Sorted Set (member: username, score: 가장 먼저 만료되는 기기의 만료 시각) - 만료 정리용
+-- ARGV[1] : 명령 (LOGIN / ROTATE / SWEEP)
+-- ARGV[2] : username
+-- ARGV[3] : 현재 시각 (epoch ms)
+
+local key, index = KEYS[1], KEYS[2]
+local op, username, now = ARGV[1], ARGV[2], tonumber(ARGV[3])
+
+local function parse(device, value)
+    local h, p, pu, e, l = string.match(value, '^([^|]*)|([^|]*)|(%d+)|(%d+)|(%d+)$')
+    if not h then
+        return nil
+    end
+    return { device = device, hash = h, prev = p, prevUntil = tonumber(pu), expiresAt = tonumber(e), lastUsed = tonumber(l) }
+end
+
+local function format(hash, prev, prevUntil, expiresAt, lastUsed)
+    return hash .. '|' .. prev .. '|' .. prevUntil .. '|' .. expiresAt .. '|' .. lastUsed
+end
+
+-- 만료된 기기 삭제 후 남은 기기 목록 반환
+local function prune()
+    local live = {}
+    local entries = redis.call('HGETALL', key)
+    for i = 1, #entries, 2 do
+        local session = parse(entries[i], entries[i + 1])
+        if session == nil or session.expiresAt <= now then
+            redis.call('HDEL', key, entries[i])
+        else
+            table.insert(live, session)
+        end
+    end
+    return live
+end
+
+-- Hash 만료 시각(가장 늦게 만료되는 기기) + 정리 색인(가장 먼저 만료되는 기기) 갱신
+local function reindex(live)
+    if #live == 0 then
+        redis.call('DEL', key)
+        redis.call('ZREM', index, username)
+        return
+    end
+    local earliest, latest = live[1].expiresAt, live[1].expiresAt
+    for _, session in ipairs(live) do
+        earliest = math.min(earliest, session.expiresAt)
+        latest = math.max(latest, session.expiresAt)
+    end
+    redis.call('PEXPIREAT', key, latest)
+    redis.call('ZADD', index, earliest, username)
+end
+
+-- 기기별 세션 도입 전 형식(String) 키는 삭제
+if redis.call('TYPE', key).ok == 'string' then
+    redis.call('DEL', key)
+end
+
+-- LOGIN : ARGV[4] 기기 ID, ARGV[5] 토큰 해시, ARGV[6] TTL(ms), ARGV[7] 최대 기기 수
+-- 반환값 : 최대 기기 수를 넘어 로그아웃된 기기 수 (가장 오래 사용하지 않은 기기부터)
+if op == 'LOGIN' then
+    local device, hash, ttl, maxDevices = ARGV[4], ARGV[5], tonumber(ARGV[6]), tonumber(ARGV[7])
+
+    local others = {}
+    for _, session in ipairs(prune()) do
+        if session.device ~= device then
+            table.insert(others, session)
+        end
+    end
+
+    local evicted = 0
+    table.sort(others, function(a, b) return a.lastUsed < b.lastUsed end)
+    while #others >= maxDevices do
+        redis.call('HDEL', key, table.remove(others, 1).device)
+        evicted = evicted + 1
+    end
+
+    redis.call('HSET', key, device, format(hash, '', 0, now + ttl, now))
+    table.insert(others, { device = device, expiresAt = now + ttl })
+    reindex(others)
+    return evicted
+end
+
+-- ROTATE : ARGV[4] 기기 ID, ARGV[5] 요청 토큰 해시, ARGV[6] 새 토큰 해시, ARGV[7] TTL(ms), ARGV[8] 직전 해시 보관 시간(ms)
+-- 반환값 : 1 교체 성공 / 0 세션 없음 / 2 방금 교체된 토큰 (동시 재발급) / -1 재사용 감지 (해당 기기 세션 삭제)
+if op == 'ROTATE' then
+    local device, presented, newHash = ARGV[4], ARGV[5], ARGV[6]
+    local ttl, grace = tonumber(ARGV[7]), tonumber(ARGV[8])
+
+    local value = redis.call('HGET', key, device)
+    local session = value and parse(device, value)
+    if not session or session.expiresAt <= now then
+        if value then
+            redis.call('HDEL', key, device)
+            reindex(prune())
+        end
+        return 0
+    end
+
+    if session.hash == presented then
+        redis.call('HSET', key, device, format(newHash, presented, now + grace, now + ttl, now))
+        reindex(prune())
+        return 1
+    end
+
+    if session.prev == presented and session.prevUntil > now then
+        return 2
+    end
+
+    redis.call('HDEL', key, device)
+    reindex(prune())
+    return -1
+end
+
+-- SWEEP : 만료된 기기 정리 / 반환값 : 남은 기기 수
+if op == 'SWEEP' then
+    local live = prune()
+    reindex(live)
+    return #live
+end
+
+return redis.error_reply('unknown operation: ' .. tostring(op))
@@ -0,0 +1,80 @@
+package project.pp_backend.config;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트용 내장 Redis (embedded-redis - load-test 모듈과 같은 라이브러리)
+ * - 비어 있는 포트에서 실행하고, 운영과 같은 설정(String 직렬화)의 RedisTemplate 을 제공
+ *
+ * <pre>
+ * static EmbeddedRedis redis = EmbeddedRedis.start();   //@BeforeAll
+ * redis.flushAll();                                     //@BeforeEach
+ * redis.stop();                                         //@AfterAll
+ * </pre>
+ */
+public final class EmbeddedRedis {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> template;
+
+    private EmbeddedRedis(RedisServer server, LettuceConnectionFactory connectionFactory) {
+        this.server = server;
+        this.connectionFactory = connectionFactory;
+        this.template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+    }
+
+    public static EmbeddedRedis start() {
+        try {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+            RedisServer server = new RedisServer(port);
+            server.start();
+
+            LettuceConnectionFactory connectionFactory =
+                    new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            return new EmbeddedRedis(server, connectionFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 Redis 를 실행할 수 없습니다.", e);
+        }
+    }
+
+    public RedisTemplate<String, String> template() {
+        return template;
+    }
+
+    public void flushAll() {
+        template.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    public void stop() {
+        connectionFactory.destroy();
+        try {
+            server.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
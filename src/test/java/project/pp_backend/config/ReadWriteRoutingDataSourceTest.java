@@ -0,0 +1,151 @@
+package project.pp_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DB 라우팅 - 메모리 DB(H2) 2개를 주 DB / 복제본 대역으로 사용
+ * 각 DB 의 node 테이블에 자신의 이름을 저장해 두고, 조회 결과로 어느 DB 에 연결되었는지 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds_behind_source FROM replica_status";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        primaryJdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        primaryJdbc.execute("DELETE FROM node");
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        replicaJdbc.execute("DELETE FROM node");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_status (seconds_behind_source BIGINT)");
+        replicaJdbc.execute("DELETE FROM replica_status");
+        replicaJdbc.update("INSERT INTO replica_status VALUES (0)");
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_복제본으로_라우팅한다() {
+        Routing routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica));
+
+        assertThat(routing.read()).isEqualTo("replica");
+        assertThat(routing.write()).isEqualTo("primary");
+        //트랜잭션 밖의 쿼리는 주 DB
+        assertThat(routing.jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_주_DB_로_대체한다() {
+        ReadWriteRoutingDataSource.Replica replicaNode = new ReadWriteRoutingDataSource.Replica("replica-1", replica);
+        Routing routing = routing(replicaNode);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replicaNode), 5, LAG_QUERY, "seconds_behind_source");
+
+        //1. 지연 30초 -> 복제본 제외
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind_source = 30");
+        monitor.checkReplicas();
+        assertThat(replicaNode.isAvailable()).isFalse();
+        assertThat(routing.read()).isEqualTo("primary");
+
+        //2. 복제 중단(NULL) -> 계속 제외
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind_source = NULL");
+        monitor.checkReplicas();
+        assertThat(replicaNode.isAvailable()).isFalse();
+
+        //3. 지연 회복 -> 다시 복제본에서 읽기
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind_source = 1");
+        monitor.checkReplicas();
+        assertThat(replicaNode.isAvailable()).isTrue();
+        assertThat(replicaNode.getLagSeconds()).isEqualTo(1);
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제본_연결에_실패하면_다음_복제본_또는_주_DB_로_대체한다() {
+        ReadWriteRoutingDataSource.Replica broken = new ReadWriteRoutingDataSource.Replica("broken", new BrokenDataSource());
+        Routing routing = routing(broken);
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(broken.isAvailable()).isFalse();
+        assertThat(routing.dataSource.getFallbackConnections().sum()).isPositive();
+
+        //정상 복제본이 함께 있으면 정상 복제본으로
+        Routing withHealthy = routing(
+                new ReadWriteRoutingDataSource.Replica("broken", new BrokenDataSource()),
+                new ReadWriteRoutingDataSource.Replica("replica-1", replica)
+        );
+        assertThat(withHealthy.read()).isEqualTo("replica");
+        assertThat(withHealthy.read()).isEqualTo("replica");
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private Routing routing(ReadWriteRoutingDataSource.Replica... replicas) {
+        return new Routing(new ReadWriteRoutingDataSource(primary, List.of(replicas)));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    //애플리케이션과 같은 구성: 라우팅 DataSource -> LazyConnectionDataSourceProxy -> 트랜잭션 매니저
+    private static class Routing {
+        private final ReadWriteRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReadWriteRoutingDataSource dataSource) {
+            this.dataSource = dataSource;
+            DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+
+            this.jdbcTemplate = new JdbcTemplate(lazy);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+
+    private static class BrokenDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("replica is down");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("replica is down");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package project.pp_backend.config;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 테스트용 SQL 실행 수 예산 검사
+ * - 컨트롤러 테스트에서 요청 1건이 실행할 수 있는 SQL 수를 선언하고, 초과하거나 N+1 이 의심되면 실패
+ *
+ * <pre>
+ * SqlStatementBudget.atMost(2).verify(() -> mockMvc.perform(get("/api/rooms")).andExpect(status().isOk()));
+ * </pre>
+ */
+public final class SqlStatementBudget {
+
+    private final int maxStatements;
+    private int repeatThreshold = 3;
+
+    private SqlStatementBudget(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public static SqlStatementBudget atMost(int maxStatements) {
+        return new SqlStatementBudget(maxStatements);
+    }
+
+    /**
+     * 같은 형태의 SQL 을 이 횟수 이상 실행하면 N+1 로 판단 (기본 3)
+     */
+    public SqlStatementBudget repeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+        return this;
+    }
+
+    public void verify(ThrowingRunnable action) {
+        verify(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T verify(Callable<T> action) {
+        T result;
+        SqlStatementCounter.Scope scope = SqlStatementCounter.begin("test");
+        try {
+            result = action.call();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            scope.close();
+        }
+
+        if (scope.getStatementCount() > maxStatements) {
+            throw new AssertionError(String.format(
+                    "SQL statement budget exceeded: expected at most %d but was %d", maxStatements, scope.getStatementCount()));
+        }
+        Map<String, Integer> repeated = scope.getRepeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("Suspected N+1 (statement -> executions): " + repeated);
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,66 @@
+package project.pp_backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 단위 SQL 실행 수 집계 - DataSource 대신 SqlStatementCounter.record 를 직접 호출
+ * (DataSource / Hibernate / JdbcTemplate 연결은 SqlStatementDataSourceTest)
+ */
+class SqlStatementCounterTest {
+
+    @Test
+    void 파라미터_값만_다른_SQL_은_같은_형태로_묶는다() {
+        assertThat(SqlStatementCounter.normalize(
+                "/* <criteria> */ select r1_0.id from room r1_0\n  where r1_0.id=42 and r1_0.name='a''b' and r1_0.id in (?, ?, ?)"))
+                .isEqualTo("select r1_0.id from room r1_0 where r1_0.id=? and r1_0.name=? and r1_0.id in (?)");
+    }
+
+    @Test
+    void 반복_실행된_SQL_을_N_plus_1_로_의심한다() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.begin("GET /api/rooms")) {
+            SqlStatementCounter.record("select rm1_0.id, rm1_0.room_id from room_member rm1_0 where rm1_0.member_id=?");
+            for (int roomId = 1; roomId <= 3; roomId++) {
+                SqlStatementCounter.record("select r1_0.id, r1_0.name from room r1_0 where r1_0.id=" + roomId);
+            }
+
+            assertThat(scope.getStatementCount()).isEqualTo(4);
+            assertThat(scope.getRepeatedStatements(3))
+                    .containsExactly(Map.entry("select r1_0.id, r1_0.name from room r1_0 where r1_0.id=?", 3));
+        }
+        assertThat(SqlStatementCounter.current()).isNull();
+    }
+
+    @Test
+    void 중첩된_범위에는_바깥_범위에도_함께_기록한다() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.begin("test")) {
+            SqlStatementCounter.record("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.begin("GET /api/members/{id}")) {
+                SqlStatementCounter.record("select 2");
+                assertThat(inner.getStatementCount()).isEqualTo(1);
+            }
+            assertThat(SqlStatementCounter.current()).isSameAs(outer);
+            assertThat(outer.getStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 예산을_넘으면_테스트를_실패시킨다() {
+        SqlStatementBudget.atMost(1).verify(() -> SqlStatementCounter.record("select m1_0.id from member m1_0 where m1_0.id=?"));
+
+        assertThatThrownBy(() -> SqlStatementBudget.atMost(1).verify(() -> {
+            SqlStatementCounter.record("select m1_0.id from member m1_0 where m1_0.id=?");
+            SqlStatementCounter.record("select r1_0.id from room r1_0 where r1_0.id=?");
+        })).isInstanceOf(AssertionError.class).hasMessageContaining("budget exceeded");
+
+        assertThatThrownBy(() -> SqlStatementBudget.atMost(10).verify(() -> {
+            for (int i = 0; i < 3; i++) {
+                SqlStatementCounter.record("select r1_0.id from room r1_0 where r1_0.id=?");
+            }
+        })).isInstanceOf(AssertionError.class).hasMessageContaining("N+1");
+    }
+}
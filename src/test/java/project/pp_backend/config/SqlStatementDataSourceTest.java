@@ -0,0 +1,118 @@
+package project.pp_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import project.pp_backend.repository.MessageRepository;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 단위 SQL 실행 수 집계 연결 확인 - 메모리 DB(H2, MySQL 호환 모드)에 실제 SQL 실행
+ * - Hibernate(Repository) / JdbcTemplate(RoomMemberRepositoryCustom) 모두 SqlStatementDataSource 를 거쳐 기록되는지
+ * - HTTP 요청 범위(SqlStatementFilter) -> SqlStatementMonitor 통계 / Micrometer 지표까지
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sql_statement;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlStatementDataSource.Registrar.class, SqlStatementMonitor.class, SqlStatementFilter.class,
+        SqlStatementDataSourceTest.Metrics.class})
+class SqlStatementDataSourceTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MessageRepository messageRepository;
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+    @Autowired
+    private SqlStatementFilter sqlStatementFilter;
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                + "values (1, now(), now(), 'user1', 'password', 'nickname1', 'user1@example.com', 'USER')");
+        jdbcTemplate.update("insert into room (id, created_at, updated_at, name) values (1, now(), now(), 'room1')");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("insert into message (id, created_at, updated_at, content, type, member_id, room_id) "
+                    + "values (?, now(), now(), 'hello', 'CHAT', 1, 1)", id);
+        }
+    }
+
+    @Test
+    void 기본_DataSource_를_감싼다() {
+        assertThat(dataSource).isInstanceOf(SqlStatementDataSource.class);
+    }
+
+    @Test
+    void Hibernate_와_JdbcTemplate_의_SQL_을_모두_기록한다() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.begin("test")) {
+            messageRepository.findById(1L);
+            assertThat(scope.getStatementCount()).isEqualTo(1);
+
+            //RoomMemberRepositoryCustom - JdbcTemplate 직접 실행 (Hibernate StatementInspector 로는 보이지 않던 SQL)
+            roomMemberRepository.findRoomMemberCount(1L);
+            assertThat(scope.getStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void HTTP_요청의_SQL_을_예산으로_검사하고_지표로_기록한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/messages/rooms/1");
+        FilterChain nPlusOne = (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/messages/rooms/{roomId}");
+            for (long id = 1; id <= 3; id++) {
+                messageRepository.findById(id);
+            }
+        };
+
+        assertThatThrownBy(() -> SqlStatementBudget.atMost(10).verify(
+                () -> sqlStatementFilter.doFilter(request, new MockHttpServletResponse(), nPlusOne)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("N+1");
+
+        String endpoint = "GET /api/messages/rooms/{roomId}";
+        SqlStatementMonitor.Stats stats = sqlStatementMonitor.getStatsByEndpoint().get(endpoint);
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getSuspectedNPlusOneCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("sql.statements.per.request").tag("endpoint", endpoint).summary().totalAmount())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("sql.statements.suspected.n.plus.one").tag("endpoint", endpoint).counter().count())
+                .isEqualTo(1.0);
+    }
+}
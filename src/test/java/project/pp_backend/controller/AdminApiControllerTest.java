@@ -0,0 +1,174 @@
+package project.pp_backend.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.config.SlowConsumerRegistry;
+import project.pp_backend.config.SqlStatementMonitor;
+import project.pp_backend.config.StartupWarmup;
+import project.pp_backend.dto.AdminDto;
+import project.pp_backend.dto.RoomDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.entity.Room;
+import project.pp_backend.exception.GlobalExceptionHandler;
+import project.pp_backend.exception.TooManyRequestsException;
+import project.pp_backend.service.AdminListingService;
+import project.pp_backend.service.EntityCacheService;
+import project.pp_backend.service.LoginRateLimiter;
+import project.pp_backend.service.MemberImportService;
+import project.pp_backend.service.MessageExportService;
+import project.pp_backend.service.PasswordVerifier;
+import project.pp_backend.service.TokenRevocationService;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 목록 조회 / 내보내기 API - 요청 파라미터 전달, 응답 형식 (AdminListingService / MessageExportService 는 대역)
+ * 조회 / 내보내기 자체는 AdminListingServiceTest / MessageExportServiceTest, 관리자 권한은 SecurityConfig (/api/admin/**)
+ */
+class AdminApiControllerTest {
+
+    private AdminListingService adminListingService;
+    private MessageExportService messageExportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        adminListingService = mock(AdminListingService.class);
+        messageExportService = mock(MessageExportService.class);
+        AdminApiController controller = new AdminApiController(
+                mock(SlowConsumerRegistry.class),
+                mock(EntityCacheService.class),
+                mock(TokenRevocationService.class),
+                mock(PasswordVerifier.class),
+                mock(LoginRateLimiter.class),
+                mock(MemberImportService.class),
+                mock(SqlStatementMonitor.class),
+                mock(LatencyMetrics.class),
+                mock(StartupWarmup.class),
+                adminListingService,
+                messageExportService
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        Member admin = new Member("admin1", "password", "admin", "admin1@example.com", MemberRole.ADMIN);
+        MemberDetails details = new MemberDetails(admin);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 목록은_afterId_와_size_를_그대로_전달하고_다음_페이지_정보를_응답한다() throws Exception {
+        Room room = new Room("room4");
+        ReflectionTestUtils.setField(room, "id", 4L);
+        when(adminListingService.getRooms(3L, 1))
+                .thenReturn(new AdminDto.PageResponse<>(List.of(new RoomDto.Response(room, 2)), 4L, true));
+
+        mockMvc.perform(get("/api/admin/rooms").param("afterId", "3").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(4))
+                .andExpect(jsonPath("$.items[0].memberCount").value(2))
+                .andExpect(jsonPath("$.nextAfterId").value(4))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void 목록_파라미터가_없으면_처음_페이지를_기본_크기로_조회한다() throws Exception {
+        when(adminListingService.getMembers(null, null))
+                .thenReturn(new AdminDto.PageResponse<>(List.of(), null, false));
+
+        mockMvc.perform(get("/api/admin/members"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.nextAfterId").doesNotExist())
+                .andExpect(jsonPath("$.hasMore").value(false));
+        verify(adminListingService).getMembers(isNull(), isNull());
+    }
+
+    @Test
+    void 내보내기는_NDJSON_으로_afterId_다음부터_전송한다() throws Exception {
+        when(adminListingService.exportFriendShips(eq(5L), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":6}\n{\"id\":7}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/admin/friendships/export").param("afterId", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":6}\n{\"id\":7}\n"));
+        verify(adminListingService).exportFriendShips(eq(5L), any());
+    }
+
+    @Test
+    void 알_수_없는_대상은_내보낼_수_없다() throws Exception {
+        mockMvc.perform(get("/api/admin/messages/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 대화_기록_내보내기는_관리자별_자리를_확보하고_끝나면_반환한다() throws Exception {
+        when(messageExportService.export(eq(1L), isNull(), eq(MessageExportService.Format.CSV), any())).thenReturn(0L);
+
+        MvcResult result = mockMvc.perform(get("/api/admin/rooms/1/messages/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"room-1-messages.csv.gz\""));
+
+        verify(messageExportService).acquire("admin1");
+        verify(messageExportService).release("admin1");
+    }
+
+    @Test
+    void 대화_기록_내보내기_자리가_없으면_429_로_응답한다() throws Exception {
+        doThrow(new TooManyRequestsException("busy", 30)).when(messageExportService).acquire("admin1");
+
+        mockMvc.perform(get("/api/admin/rooms/1/messages/export"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+        verify(messageExportService, never()).export(any(), any(), any(), any());
+    }
+}
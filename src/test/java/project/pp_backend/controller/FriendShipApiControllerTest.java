@@ -0,0 +1,98 @@
+package project.pp_backend.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.config.SqlStatementBudget;
+import project.pp_backend.config.SqlStatementDataSource;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.exception.GlobalExceptionHandler;
+import project.pp_backend.service.FriendShipService;
+import project.pp_backend.service.PresenceService;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 친구 목록 API - 메모리 DB(H2, MySQL 호환 모드)에 실제 SQL 실행, SQL 실행 수 예산 검사
+ * - 친구 목록 / 친구 닉네임 검색: 친구 관계 + owner / friend 회원 1번 (@EntityGraph) - 친구 수와 관계없이 1문장
+ * - 2차 캐시는 끄고 확인 (캐시 적중으로 N+1 이 가려지지 않도록)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:friend_ship_api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlStatementDataSource.Registrar.class, FriendShipService.class})
+class FriendShipApiControllerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FriendShipService friendShipService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        FriendShipApiController controller = new FriendShipApiController(friendShipService, mock(PresenceService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        //user1 의 친구 3명
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                    + "values (?, now(), now(), ?, 'password', ?, ?, 'USER')", id, "user" + id, "nickname" + id, "user" + id + "@example.com");
+        }
+        for (long friendId = 2; friendId <= 4; friendId++) {
+            jdbcTemplate.update("insert into friend_ship (id, created_at, updated_at, owner_member_id, friend_member_id) "
+                    + "values (?, now(), now(), 1, ?)", friendId, friendId);
+        }
+
+        Member member = new Member("user1", "password", "nickname1", "user1@example.com", MemberRole.USER);
+        MemberDetails details = new MemberDetails(member);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 친구_목록은_친구_수와_관계없이_1문장으로_조회한다() {
+        SqlStatementBudget.atMost(1).verify(() -> mockMvc.perform(get("/api/friends/me"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[*].ownerUsername", contains("user1", "user1", "user1")))
+                .andExpect(jsonPath("$[*].friendNickname", containsInAnyOrder("nickname2", "nickname3", "nickname4"))));
+    }
+
+    @Test
+    void 친구_닉네임_검색도_친구_수와_관계없이_1문장으로_조회한다() {
+        SqlStatementBudget.atMost(1).verify(() -> mockMvc.perform(get("/api/friends/search/nickname"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3)));
+    }
+}
@@ -0,0 +1,110 @@
+package project.pp_backend.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import project.pp_backend.config.MemberDetails;
+import project.pp_backend.config.SqlStatementBudget;
+import project.pp_backend.config.SqlStatementDataSource;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.MemberRole;
+import project.pp_backend.exception.GlobalExceptionHandler;
+import project.pp_backend.service.PresenceService;
+import project.pp_backend.service.RoomMembershipService;
+import project.pp_backend.service.RoomService;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 채팅방 목록 API - 메모리 DB(H2, MySQL 호환 모드)에 실제 SQL 실행, SQL 실행 수 예산 검사
+ * - 참가 중인 채팅방 목록: 참가 기록 + 채팅방 1번 (@EntityGraph), 참가 인원 IN 조회 1번 - 채팅방 수와 관계없이 2문장
+ * - 2차 캐시는 끄고 확인 (캐시 적중으로 N+1 이 가려지지 않도록)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:room_api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlStatementDataSource.Registrar.class, RoomService.class, RoomMembershipService.class})
+class RoomApiControllerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RoomService roomService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RoomApiController controller = new RoomApiController(roomService, mock(PresenceService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        //user1 이 채팅방 3개에 참가 (채팅방마다 참가 인원 2명)
+        insertMember(1, "user1");
+        insertMember(2, "user2");
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            jdbcTemplate.update("insert into room (id, created_at, updated_at, name, member_count) "
+                    + "values (?, now(), now(), ?, 2)", roomId, "room" + roomId);
+            for (long memberId = 1; memberId <= 2; memberId++) {
+                jdbcTemplate.update("insert into room_member (created_at, updated_at, room_id, member_id) "
+                        + "values (now(), now(), ?, ?)", roomId, memberId);
+            }
+        }
+
+        Member member = new Member("user1", "password", "nickname1", "user1@example.com", MemberRole.USER);
+        MemberDetails details = new MemberDetails(member);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 참가_중인_채팅방_목록은_채팅방_수와_관계없이_2문장으로_조회한다() {
+        SqlStatementBudget.atMost(2).verify(() -> mockMvc.perform(get("/api/rooms/my"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("room1", "room2", "room3")))
+                .andExpect(jsonPath("$[*].memberCount", containsInAnyOrder(2, 2, 2))));
+    }
+
+    @Test
+    void 참가_중인_채팅방_이름_검색도_채팅방_수와_관계없이_2문장으로_조회한다() {
+        SqlStatementBudget.atMost(2).verify(() -> mockMvc.perform(get("/api/rooms/my/search/room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3)));
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void insertMember(long id, String username) {
+        jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                + "values (?, now(), now(), ?, 'password', ?, ?, 'USER')", id, username, "nick" + username, username + "@example.com");
+    }
+}
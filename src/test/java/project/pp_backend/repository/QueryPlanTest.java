@@ -0,0 +1,244 @@
+package project.pp_backend.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.pp_backend.config.SqlStatementCounter;
+import project.pp_backend.config.SqlStatementDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 조회 실행 계획 검사 - 전체 테이블 스캔(Full Table Scan) 회귀 방지
+ * - Flyway 마이그레이션(db/migration)으로 만든 메모리 DB(H2, MySQL 호환 모드)에 각 Repository 메서드를 실행
+ * - 실행된 SELECT / UPDATE / DELETE 를 EXPLAIN 으로 확인해서 모든 테이블 접근이 인덱스 조건(PK / 유니크 / 보조 인덱스)을 사용하는지 검사
+ *   (H2 실행 계획의 테이블 접근 주석 - 인덱스 조건: "public.{인덱스}: {조건}", 전체 스캔: "public.{테이블}.tableScan")
+ * - SQL 은 DataSource 에서 수집 (SqlStatementDataSource) -> Hibernate 뿐 아니라 JdbcTemplate 으로 실행하는 직접 구현 메서드도 포함
+ * - 아래 REPOSITORIES 에 있는 인터페이스에 메서드를 추가하면 자동으로 검사 대상에 포함됨
+ *   (직접 구현 인터페이스 *Custom 은 따로 등록 - 상속한 메서드는 getDeclaredMethods 에 포함되지 않음)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlStatementDataSource.Registrar.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            MemberRepository.class,
+            MemberRepositoryCustom.class,
+            MessageRepository.class,
+            RoomRepository.class,
+            RoomMemberRepository.class,
+            RoomMemberRepositoryCustom.class,
+            FriendShipRepository.class
+    );
+
+    //H2 는 서로 다른 컬럼의 OR 조건에 인덱스를 하나만 사용 (MySQL 은 index_merge union 으로 각 유니크 인덱스 사용)
+    private static final Set<String> EXCLUDED = Set.of("MemberRepository.findKeysMatchingAny");
+
+    //INSERT 는 테이블을 읽지 않으므로 검사하지 않음
+    private static final Pattern CHECKED_STATEMENT = Pattern.compile("(?i)^(select|update|delete)\\b.*");
+    private static final Pattern PLAN_COMMENT = Pattern.compile("/\\* (public\\.[^*]*?) \\*/");
+    private static final String SAMPLE = "sample";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    @BeforeAll
+    void setUp() {
+        //통계 정보가 있어야 옵티마이저가 실제와 같은 인덱스를 선택 -> 테이블마다 여러 건 저장 후 ANALYZE
+        int members = 200;
+        for (long id = 1; id <= members; id++) {
+            jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                            + "values (?, now(), now(), ?, 'password', ?, ?, 'USER')",
+                    id, "user" + id, "nickname" + id, "user" + id + "@example.com");
+        }
+        for (long id = 1; id <= members / 2; id++) {
+            jdbcTemplate.update("insert into room (id, created_at, updated_at, name) values (?, now(), now(), ?)",
+                    id, "room" + id);
+        }
+        for (long id = 1; id <= members; id++) {
+            long roomId = (id - 1) / 2 + 1;
+            jdbcTemplate.update("insert into room_member (id, created_at, updated_at, room_id, member_id) "
+                    + "values (?, now(), now(), ?, ?)", id, roomId, id);
+            jdbcTemplate.update("insert into message (id, created_at, updated_at, content, type, member_id, room_id, client_message_id) "
+                    + "values (?, now(), now(), 'hello', 'CHAT', ?, ?, ?)", id, id, roomId, "client-" + id);
+            jdbcTemplate.update("insert into friend_ship (id, created_at, updated_at, owner_member_id, friend_member_id) "
+                    + "values (?, now(), now(), ?, ?)", id, id, id % members + 1);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> 모든_Repository_조회는_인덱스를_사용한다() {
+        return REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+                        .filter(method -> !EXCLUDED.contains(repository.getSimpleName() + "." + method.getName()))
+                        .sorted(Comparator.comparing(Method::getName))
+                        .map(method -> DynamicTest.dynamicTest(
+                                repository.getSimpleName() + "." + method.getName(),
+                                () -> assertIndexedPlan(repository, method))));
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void assertIndexedPlan(Class<?> repository, Method method) {
+        List<String> statements = capture(repositoryBean(repository), method);
+        assertThat(statements).as("%s 실행 시 SQL 이 없음", method.getName()).isNotEmpty();
+        List<String> checked = statements.stream()
+                .filter(sql -> CHECKED_STATEMENT.matcher(sql).matches())
+                .toList();
+
+        for (String sql : checked) {
+            String plan = explain(sql);
+            Matcher matcher = PLAN_COMMENT.matcher(plan);
+            List<String> accesses = new ArrayList<>();
+            while (matcher.find()) {
+                accesses.add(matcher.group(1));
+            }
+            assertThat(accesses).as("실행 계획에 테이블 접근 정보가 없음: %s", plan).isNotEmpty();
+            //"tableScan" -> 전체 테이블 스캔 / 조건(:) 없는 인덱스 -> 전체 인덱스 스캔
+            assertThat(accesses)
+                    .as("%s 실행 계획에 전체 스캔이 있음%n  SQL : %s%n  계획: %s", method.getName(), sql, plan)
+                    .allMatch(access -> !access.contains(".tableScan") && access.contains(":"));
+        }
+    }
+
+    /**
+     * 메서드 실행 중 DataSource 에서 실행된 SQL 수집 (실행 후 롤백 - 삭제 / 수정 메서드도 데이터 유지)
+     * - 리터럴은 ? 로 바뀐 형태 (SqlStatementCounter.normalize) -> EXPLAIN 시 null 로 지정
+     */
+    private List<String> capture(Object bean, Method method) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            try (SqlStatementCounter.Scope scope = SqlStatementCounter.begin(method.getName())) {
+                method.invoke(bean, arguments(method));
+                return List.copyOf(scope.getStatementShapes());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(method.getName() + " 실행 실패", e.getCause());
+            }
+        });
+    }
+
+    private Object repositoryBean(Class<?> repository) {
+        //*Custom 은 Repository 프록시를 통해 호출
+        if (repository == MemberRepositoryCustom.class) {
+            return memberRepository;
+        }
+        if (repository == RoomMemberRepositoryCustom.class) {
+            return roomMemberRepository;
+        }
+        return applicationContext.getBean(repository);
+    }
+
+    private Object[] arguments(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = argument(types[i]);
+        }
+        return arguments;
+    }
+
+    private Object argument(Type type) {
+        //List<String> / Collection<Long> 등은 원소 타입의 값 2개
+        if (type instanceof ParameterizedType parameterized
+                && Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+            Object element = argument(parameterized.getActualTypeArguments()[0]);
+            return List.of(element, element instanceof String value ? value + "2" : (Object) 2L);
+        }
+        if (type == String.class) {
+            return SAMPLE;
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 10;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        throw new IllegalArgumentException("지원하지 않는 파라미터 타입: " + type.getTypeName());
+    }
+
+    /**
+     * EXPLAIN 결과 (파라미터는 실행 계획에 영향이 없으므로 null 로 지정)
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1));
+                    }
+                    return plan.toString();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("EXPLAIN 실패: " + sql, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package project.pp_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.pp_backend.config.ExportDataSource;
+import project.pp_backend.dto.AdminDto;
+import project.pp_backend.dto.FriendShipDto;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.dto.RoomDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 목록 조회 - Flyway 마이그레이션으로 만든 메모리 DB(H2, MySQL 호환 모드)
+ * - keyset 페이지 (size + 1 건 조회로 다음 페이지 여부 판단), 페이지 크기 / afterId 보정
+ * - NDJSON 내보내기 (JDBC 커서, fetch-size 보다 많은 행)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin_listing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "admin.listing.page-size=3",
+        "admin.listing.export-fetch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({AdminListingService.class, RoomMembershipService.class, ExportDataSource.class})
+class AdminListingServiceTest {
+
+    private static final int ROWS = 7;
+
+    @Autowired
+    private AdminListingService adminListingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= ROWS; id++) {
+            jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                            + "values (?, now(), now(), ?, 'password', ?, ?, 'USER')",
+                    id, "user" + id, "nickname" + id, "user" + id + "@example.com");
+            jdbcTemplate.update("insert into room (id, created_at, updated_at, name, member_count) values (?, now(), now(), ?, ?)",
+                    id, "room" + id, id * 10);
+        }
+        for (long id = 1; id <= ROWS; id++) {
+            jdbcTemplate.update("insert into friend_ship (id, created_at, updated_at, owner_member_id, friend_member_id) "
+                    + "values (?, now(), now(), ?, ?)", id, id, id % ROWS + 1);
+        }
+    }
+
+    @Test
+    void 다음_페이지가_있으면_마지막_id_를_다음_afterId_로_준다() {
+        AdminDto.PageResponse<RoomDto.Response> first = adminListingService.getRooms(null, 3);
+
+        assertThat(first.getItems()).extracting(RoomDto.Response::getId).containsExactly(1L, 2L, 3L);
+        assertThat(first.getItems()).extracting(RoomDto.Response::getMemberCount).containsExactly(10L, 20L, 30L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getNextAfterId()).isEqualTo(3L);
+
+        AdminDto.PageResponse<RoomDto.Response> second = adminListingService.getRooms(first.getNextAfterId(), 3);
+        assertThat(second.getItems()).extracting(RoomDto.Response::getId).containsExactly(4L, 5L, 6L);
+        assertThat(second.getNextAfterId()).isEqualTo(6L);
+    }
+
+    @Test
+    void 남은_행이_정확히_size_건이면_마지막_페이지다() {
+        //size + 1 건 조회 -> 4 건 중 3 건만 응답, 5~7 은 정확히 3 건이므로 다음 페이지 없음
+        AdminDto.PageResponse<MemberDto.Response> last = adminListingService.getMembers(4L, 3);
+
+        assertThat(last.getItems()).extracting(MemberDto.Response::getId).containsExactly(5L, 6L, 7L);
+        assertThat(last.isHasMore()).isFalse();
+        assertThat(last.getNextAfterId()).isNull();
+
+        AdminDto.PageResponse<MemberDto.Response> empty = adminListingService.getMembers(7L, 3);
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.isHasMore()).isFalse();
+    }
+
+    @Test
+    void 페이지_크기와_afterId_를_보정한다() {
+        //size 없음 -> 기본 크기(admin.listing.page-size), 1 미만 -> 1
+        assertThat(adminListingService.getFriendShips(null, null).getItems()).hasSize(3);
+        assertThat(adminListingService.getFriendShips(null, 0).getItems()).extracting(FriendShipDto.Response::getId)
+                .containsExactly(1L);
+        //최대 크기(500) 초과 -> 500 으로 보정 (남은 행 전부)
+        assertThat(adminListingService.getFriendShips(null, 10_000).getItems()).hasSize(ROWS);
+        //afterId 없음 / 음수 -> 처음부터
+        assertThat(adminListingService.getFriendShips(-5L, 2).getItems()).extracting(FriendShipDto.Response::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 한_줄에_1건씩_NDJSON_으로_내보낸다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = adminListingService.exportRooms(null, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(lines).hasSize(ROWS);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("name").asText()).isEqualTo("room1");
+        assertThat(first.get("memberCount").asLong()).isEqualTo(10L);
+        assertThat(first.get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    void 중단된_내보내기는_afterId_다음부터_이어받는다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = adminListingService.exportFriendShips(5L, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode sixth = objectMapper.readTree(lines.get(0));
+        assertThat(sixth.get("id").asLong()).isEqualTo(6L);
+        assertThat(sixth.get("ownerUsername").asText()).isEqualTo("user6");
+        assertThat(sixth.get("friendUsername").asText()).isEqualTo("user7");
+        assertThat(objectMapper.readTree(lines.get(1)).get("id").asLong()).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,133 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import project.pp_backend.config.EmbeddedRedis;
+import project.pp_backend.config.JwtTokenProvider;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.dto.TokenDto;
+import project.pp_backend.exception.TokenConflictException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 재발급(reissue) - 같은 토큰 쌍의 동시 요청 합치기 (single-flight)
+ * Refresh Token 저장소는 내장 Redis 에서 실제 Lua 스크립트로 실행, JWT 발급 / 검증은 대역
+ */
+class AuthServiceTest {
+
+    private static final String USERNAME = "alice01";
+    private static final String DEVICE = "device-1";
+    private static final TokenDto.Request REQUEST = TokenDto.Request.builder()
+            .accessToken("at-1")
+            .refreshToken("rt-1")
+            .build();
+
+    private static EmbeddedRedis redis;
+
+    private RefreshTokenStore refreshTokenStore;
+    private AtomicInteger issued;
+    private AuthService authService;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        refreshTokenStore = spy(new RefreshTokenStore(redis.template(), TimeUnit.DAYS.toMillis(7), 5_000, 5, 500));
+        refreshTokenStore.save(USERNAME, DEVICE, REQUEST.getRefreshToken());
+
+        //JWT 대역: 발급할 때마다 다른 토큰
+        issued = new AtomicInteger();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(USERNAME, null, List.of());
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.validateToken(anyString())).thenReturn(true);
+        when(jwtTokenProvider.getAuthentication(anyString())).thenReturn(authentication);
+        when(jwtTokenProvider.getDeviceId(anyString())).thenReturn(DEVICE);
+        when(jwtTokenProvider.generateToken(any(Authentication.class), eq(DEVICE))).thenAnswer(invocation -> {
+            int n = issued.incrementAndGet();
+            return TokenDto.Response.builder().accessToken("at-new-" + n).refreshToken("rt-new-" + n).deviceId(DEVICE).build();
+        });
+
+        authService = new AuthService(mock(AuthenticationManagerBuilder.class), jwtTokenProvider, refreshTokenStore,
+                mock(TokenRevocationService.class), mock(LoginRateLimiter.class), mock(PasswordVerifier.class),
+                LatencyMetrics.noop());
+        authService.initMetrics();
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_재발급하면_1번만_교체하고_같은_결과를_돌려준다() throws Exception {
+        ReflectionTestUtils.setField(authService, "reissueGraceMillis", 5_000L);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<TokenDto.Response>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return authService.reissue(REQUEST);
+                }));
+            }
+            start.countDown();
+
+            List<String> refreshTokens = new ArrayList<>();
+            for (Future<TokenDto.Response> future : futures) {
+                refreshTokens.add(future.get(10, TimeUnit.SECONDS).getRefreshToken());
+            }
+            assertThat(refreshTokens).containsOnly("rt-new-1");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(refreshTokenStore, times(1)).rotate(eq(USERNAME), eq(DEVICE), eq("rt-1"), anyString());
+        assertThat(issued.get()).isEqualTo(1);
+
+        //합쳐진 결과로 받은 새 토큰은 저장소에 반영되어 있음
+        assertThat(refreshTokenStore.rotate(USERNAME, DEVICE, "rt-new-1", "rt-next"))
+                .isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+    }
+
+    @Test
+    void 이_노드의_결과가_정리된_뒤_직전_토큰으로_다시_요청하면_충돌로_응답한다() {
+        //다른 노드에서 재발급된 경우와 같음 (이 노드에 합칠 결과 없음, 저장소의 유예 시간 안)
+        ReflectionTestUtils.setField(authService, "reissueGraceMillis", 0L);
+        authService.reissue(REQUEST);
+        authService.evictReissueFlights();
+
+        assertThatThrownBy(() -> authService.reissue(REQUEST)).isInstanceOf(TokenConflictException.class);
+        verify(refreshTokenStore, times(2)).rotate(eq(USERNAME), eq(DEVICE), eq("rt-1"), anyString());
+    }
+}
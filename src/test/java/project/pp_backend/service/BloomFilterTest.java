@@ -0,0 +1,53 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Access Token 폐기 확인용 Bloom Filter - 토큰 ID(jti)는 UUID 문자열
+ */
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double TARGET_FPP = 0.001;
+
+    @Test
+    void 추가한_원소는_항상_포함으로_판정한다() {
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, TARGET_FPP);
+        List<String> tokenIds = randomTokenIds(EXPECTED_INSERTIONS);
+        tokenIds.forEach(filter::put);
+
+        assertThat(tokenIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void 예상_원소_수까지_채워도_오탐률은_목표_범위_안에_있다() {
+        BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, TARGET_FPP);
+        randomTokenIds(EXPECTED_INSERTIONS).forEach(filter::put);
+
+        int probes = 1_000_000;
+        long falsePositives = randomTokenIds(probes).stream().filter(filter::mightContain).count();
+        double observedFpp = (double) falsePositives / probes;
+
+        assertThat(observedFpp).isLessThan(TARGET_FPP * 2);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(TARGET_FPP * 2);
+        //원소 수 추정치는 실제 값의 ±5% 이내
+        assertThat(filter.estimatedElementCount()).isBetween(
+                (long) (EXPECTED_INSERTIONS * 0.95), (long) (EXPECTED_INSERTIONS * 1.05));
+        //n=100,000, p=0.1% -> 약 1.44M 비트 (약 176KB)
+        assertThat(filter.getMemoryBytes()).isLessThan(200 * 1024);
+    }
+
+    private List<String> randomTokenIds(int count) {
+        List<String> tokenIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tokenIds.add(UUID.randomUUID().toString());
+        }
+        return tokenIds;
+    }
+}
@@ -0,0 +1,168 @@
+package project.pp_backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockReset;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.pp_backend.config.EntityCacheMetrics;
+import project.pp_backend.entity.Member;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 2차 캐시 무효화 - Flyway 마이그레이션으로 만든 메모리 DB(H2, MySQL 호환 모드) + 실제 Hibernate 2차 캐시
+ * Redis(RedisTemplate / 구독 컨테이너)는 대역, 트랜잭션은 직접 커밋 / 롤백
+ * - 커밋된 변경만 다른 노드에 무효화 메시지 전송
+ * - 다른 노드의 무효화 메시지를 받으면 이 노드의 캐시에서 제거 (자신이 보낸 메시지는 무시)
+ * - 영역별 적중 / 미적중 지표
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entity_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "cache.statistics.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EntityCacheService.class, EntityCacheMetrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheServiceTest {
+
+    private static final String CHANNEL = "cache:invalidate";
+
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+    //구독은 컨텍스트 생성 시 1회 (@PostConstruct) -> 테스트마다 초기화하지 않음
+    @MockitoBean(reset = MockReset.NONE)
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private EntityCacheMetrics entityCacheMetrics;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                + "values (1, now(), now(), 'alice', 'password', 'alice', 'alice@example.com', 'USER')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from `member`");
+        cache().evictAllRegions();
+    }
+
+    @Test
+    void 커밋된_변경만_다른_노드에_무효화_메시지를_보낸다() {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(EntityCacheService.EvictEvent.member(1L)));
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EntityCacheService.EvictEvent.room(2L));
+            status.setRollbackOnly();
+        });
+
+        //롤백된 채팅방 변경은 전송하지 않음 (1건만)
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        assertThat(message.getValue().toString()).endsWith("|MEMBER|1|false");
+    }
+
+    @Test
+    void 다른_노드의_무효화_메시지를_받으면_캐시에서_제거하고_자신의_메시지는_무시한다() {
+        MessageListener listener = listener();
+        loadMember();
+        assertThat(cache().containsEntity(Member.class, 1L)).isTrue();
+
+        //자신이 보낸 메시지 (커밋 이후 전송된 내용 그대로)
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(EntityCacheService.EvictEvent.member(1L)));
+        ArgumentCaptor<Object> own = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), own.capture());
+        listener.onMessage(message(own.getValue().toString()), null);
+        assertThat(cache().containsEntity(Member.class, 1L)).isTrue();
+
+        //다른 노드가 보낸 메시지
+        listener.onMessage(message("other-node|MEMBER|1|false"), null);
+        assertThat(cache().containsEntity(Member.class, 1L)).isFalse();
+    }
+
+    @Test
+    void 영역별_적중_미적중_수를_지표로_내보낸다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        entityCacheMetrics.bindTo(registry);
+        double hitsBefore = requests(registry, "hit");
+        double missesBefore = requests(registry, "miss");
+
+        loadMember();   //미적중 -> 저장
+        loadMember();   //적중
+
+        assertThat(requests(registry, "miss") - missesBefore).isEqualTo(1);
+        assertThat(requests(registry, "hit") - hitsBefore).isEqualTo(1);
+        assertThat(registry.get("hibernate.cache.region.puts").tag("region", EntityCacheService.MEMBER_REGION)
+                .functionCounter().count()).isPositive();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void loadMember() {
+        transactionTemplate.executeWithoutResult(status -> assertThat(entityManager.find(Member.class, 1L)).isNotNull());
+    }
+
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        return listener.getValue();
+    }
+
+    private org.hibernate.Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private static double requests(SimpleMeterRegistry registry, String result) {
+        return registry.get("hibernate.cache.region.requests")
+                .tags("region", EntityCacheService.MEMBER_REGION, "result", result)
+                .functionCounter().count();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import project.pp_backend.config.EmbeddedRedis;
+import project.pp_backend.exception.TooManyRequestsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로그인 시도 빈도 제한 - 내장 Redis 에서 Token Bucket Lua 스크립트를 그대로 실행
+ * - 버킷이 비면 TooManyRequestsException, Retry-After 는 다음 토큰까지 남은 시간(ms)을 초 단위로 올림
+ * - 시간이 지나면 충전되어 다시 허용
+ * - 회원 / IP 버킷 중 하나라도 비면 차단되고, 이때 어느 버킷도 차감하지 않음
+ * - Redis 장애 시에는 차단하지 않음
+ */
+class LoginRateLimiterTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void 버킷이_비면_다음_토큰까지_남은_시간을_초_단위로_올려_알려준다() {
+        //분당 6회 충전 -> 토큰 1개에 10초
+        LoginRateLimiter limiter = limiter(2, 6, 100, 6_000);
+        limiter.acquire("alice01", IP);
+        limiter.acquire("alice01", IP);
+
+        TooManyRequestsException e = catchThrowableOfType(TooManyRequestsException.class,
+                () -> limiter.acquire("alice01", IP));
+
+        assertThat(e.getRetryAfterSeconds()).isEqualTo(10);
+        assertThat(limiter.getAllowedCount()).isEqualTo(2);
+        assertThat(limiter.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 남은_시간이_1초보다_짧아도_Retry_After_는_최소_1초() throws InterruptedException {
+        //분당 600회 충전 -> 토큰 1개에 100ms
+        LoginRateLimiter limiter = limiter(1, 600, 100, 6_000);
+        limiter.acquire("alice01", IP);
+
+        TooManyRequestsException e = catchThrowableOfType(TooManyRequestsException.class,
+                () -> limiter.acquire("alice01", IP));
+        assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+
+        //충전된 뒤에는 다시 허용
+        Thread.sleep(150);
+        limiter.acquire("alice01", IP);
+        assertThat(limiter.getAllowedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 회원_버킷이_비면_IP_버킷은_차감하지_않는다() {
+        LoginRateLimiter limiter = limiter(1, 6, 10, 6);
+        limiter.acquire("alice01", IP);
+        double ipTokens = ipTokens();
+
+        assertThatThrownBy(() -> limiter.acquire("alice01", IP)).isInstanceOf(TooManyRequestsException.class);
+        assertThat(ipTokens()).isGreaterThanOrEqualTo(ipTokens);
+
+        //같은 IP 의 다른 회원은 그대로 허용
+        limiter.acquire("bobby01", IP);
+    }
+
+    @Test
+    void IP_버킷이_비면_다른_회원으로_시도해도_차단한다() {
+        LoginRateLimiter limiter = limiter(10, 6, 2, 6);
+        limiter.acquire("alice01", IP);
+        limiter.acquire("bobby01", IP);
+
+        assertThatThrownBy(() -> limiter.acquire("carol01", IP)).isInstanceOf(TooManyRequestsException.class);
+        //다른 IP 는 허용
+        limiter.acquire("carol01", "10.0.0.2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Redis_장애_시에는_로그인을_막지_않는다() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("connection refused");
+        });
+        LoginRateLimiter limiter = new LoginRateLimiter(redisTemplate, true, 1, 6, 1, 6);
+
+        limiter.acquire("alice01", IP);
+        limiter.acquire("alice01", IP);
+
+        assertThat(limiter.getRedisErrorCount()).isEqualTo(2);
+        assertThat(limiter.getThrottledCount()).isZero();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static LoginRateLimiter limiter(long usernameCapacity, double usernameRefillPerMinute,
+                                            long ipCapacity, double ipRefillPerMinute) {
+        return new LoginRateLimiter(redis.template(), true,
+                usernameCapacity, usernameRefillPerMinute, ipCapacity, ipRefillPerMinute);
+    }
+
+    private static double ipTokens() {
+        Object tokens = redis.template().opsForHash().get("LB:ip:" + IP, "tokens");
+        return Double.parseDouble(String.valueOf(tokens));
+    }
+}
@@ -0,0 +1,113 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import project.pp_backend.repository.MemberRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원가입 사용 가능 여부 - MemberRepository / Redis 는 대역
+ * - 다시 만드는 중에 커밋되어 추가된 값이 교체 후에도 남는지 (조회가 이미 지나간 행)
+ * - 다시 만들기는 전용 스레드에서 실행되고, 진행 중이면 겹쳐서 실행하지 않는지
+ */
+class MemberAvailabilityServiceTest {
+
+    private MemberRepository memberRepository;
+    private MemberAvailabilityService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.existsByUsername(anyString())).thenReturn(true);
+        service = new MemberAvailabilityService(memberRepository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), 10_000, 0.01);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 다시_만드는_중에_추가된_값은_교체된_Filter_에도_남는다() {
+        //조회가 alice 를 읽는 사이 late 가 커밋되어 추가됨 (조회 결과에는 없음)
+        when(memberRepository.findKeysAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            service.markTaken("late", null, null);
+            return List.of(new Keys(1L, "alice", "Alice", "alice@example.com"));
+        });
+
+        service.rebuildNow();
+
+        //Filter 에 있음 -> DB 로 확인 (사용 중)
+        assertThat(service.isAvailable(MemberAvailabilityService.Field.USERNAME, "late")).isFalse();
+        assertThat(service.isAvailable(MemberAvailabilityService.Field.USERNAME, "ALICE")).isFalse();
+        assertThat(service.getDatabaseCheckCount()).isEqualTo(2);
+        assertThat(service.getFilterMissCount()).isZero();
+    }
+
+    @Test
+    void 다시_만들기는_전용_스레드에서_실행하고_진행_중이면_건너뛴다() throws InterruptedException {
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberRepository.findKeysAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            scanning.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(new Keys(1L, "alice", "alice", "alice@example.com"));
+        });
+
+        //주기 작업 스레드는 바로 반환, 진행 중인 동안의 다음 호출은 건너뜀
+        service.rebuild();
+        assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+        service.rebuild();
+        release.countDown();
+
+        //처음 만들기 전에는 DB 조회, 끝난 뒤에는 Filter 에 없는 값을 DB 조회 없이 응답
+        when(memberRepository.existsByUsername("bob")).thenReturn(false);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getFilterMissCount() == 0 && System.nanoTime() < deadline) {
+            assertThat(service.isAvailable(MemberAvailabilityService.Field.USERNAME, "bob")).isTrue();
+            Thread.sleep(10);
+        }
+        assertThat(service.getFilterMissCount()).isPositive();
+        verify(memberRepository, times(1)).findKeysAfter(anyLong(), any(Pageable.class));
+    }
+
+    private record Keys(Long id, String username, String nickname, String email) implements MemberRepository.MemberKeys {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getNickname() {
+            return nickname;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package project.pp_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.pp_backend.dto.MemberDto;
+import project.pp_backend.repository.MemberRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 일괄 등록 - Flyway 마이그레이션으로 만든 메모리 DB(H2, MySQL 호환 모드)
+ * IGNORECASE=TRUE : MySQL 기본 collation 처럼 문자열 비교 / 유니크 제약조건이 대소문자를 구분하지 않음
+ * - CSV / NDJSON 파싱, 행별 결과(줄 번호 순서) + 마지막 줄 요약
+ * - 같은 파일 / DB 중복 확인 (대소문자 구분 없음)
+ * - chunk 저장 실패 시 한 행씩 다시 저장
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member_import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "member.import.chunk-size=3",
+        "member.import.hash-parallelism=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({MemberImportService.class, MemberImportServiceTest.PasswordEncoderConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImportServiceTest {
+
+    private static final String CSV_HEADER = "username,password,nickname,email,role\n";
+
+    @Autowired
+    private MemberImportService memberImportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockitoSpyBean
+    private MemberRepository memberRepository;
+    @MockitoBean
+    private MemberAvailabilityService memberAvailabilityService;
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        //테스트 시간 단축 (최소 cost)
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                + "values (1000, now(), now(), 'alice01', 'password', 'Alice01', 'alice@example.com', 'USER')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from `member`");
+    }
+
+    @Test
+    void CSV_행별_결과를_줄_번호_순서로_내보내고_마지막_줄에_요약한다() throws IOException {
+        String csv = CSV_HEADER
+                + "bobby01,password1,bobby01,bob@example.com,\n"
+                + "\"carol01\",\"pass,word\",\"Carol\"\"C\"\"\",carol@example.com,ADMIN\n"
+                + "dave001,password1,,dave@example.com,\n"
+                + "erin001,password1,erin001,erin@example.com,SUPER_ADMIN\n"
+                + "frank01,password1,\"frank01,\n";
+
+        List<JsonNode> lines = run(csv, true);
+
+        assertThat(lines).hasSize(6);
+        assertThat(lines.subList(0, 5)).extracting(node -> node.get("line").asLong()).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(statuses(lines.subList(0, 5))).containsExactly("CREATED", "CREATED", "INVALID", "INVALID", "INVALID");
+        assertThat(lines.get(0).path("id").isNumber()).isTrue();
+        assertThat(lines.get(5).get("summary").asBoolean()).isTrue();
+        assertThat(lines.get(5).get("created").asLong()).isEqualTo(2);
+        assertThat(lines.get(5).get("invalid").asLong()).isEqualTo(3);
+
+        //따옴표 안의 쉼표 / "" 처리, 권한
+        assertThat(jdbcTemplate.queryForObject("select nickname from `member` where username = 'carol01'", String.class))
+                .isEqualTo("Carol\"C\"");
+        assertThat(jdbcTemplate.queryForObject("select member_role from `member` where username = 'carol01'", String.class))
+                .isEqualTo("ADMIN");
+    }
+
+    @Test
+    void NDJSON_의_형식_오류는_해당_행만_INVALID_로_처리한다() throws IOException {
+        String ndjson = """
+                {"username":"bobby01","password":"password1","nickname":"bobby01","email":"bob@example.com"}
+                not-json
+                ["array"]
+                {"username":"carol01","password":"password1","nickname":"carol01","role":"UNKNOWN"}
+                {"username":"dave001","password":"password1","nickname":"dave001"}
+                """;
+
+        List<JsonNode> lines = run(ndjson, false);
+
+        assertThat(statuses(lines.subList(0, 5))).containsExactly("CREATED", "INVALID", "INVALID", "INVALID", "CREATED");
+        assertThat(lines.get(5).get("created").asLong()).isEqualTo(2);
+        verify(memberAvailabilityService).markTaken("bobby01", "bobby01", "bob@example.com");
+        verify(memberAvailabilityService).markTaken("dave001", "dave001", null);
+    }
+
+    @Test
+    void 같은_파일과_DB_의_중복은_대소문자를_구분하지_않는다() throws IOException {
+        String csv = CSV_HEADER
+                + "ALICE01,password1,alice02,alice2@example.com,\n"   //DB: alice01
+                + "bobby01,password1,ALICE01,bob@example.com,\n"      //DB: Alice01
+                + "carol01,password1,carol01,ALICE@example.com,\n"    //DB: alice@example.com
+                + "dave001,password1,dave001,dave@example.com,\n"
+                + "DAVE001,password1,dave002,dave2@example.com,\n"    //같은 파일: dave001
+                + "erin001,password1,Dave001,erin@example.com,\n";    //같은 파일: dave001
+
+        List<JsonNode> lines = run(csv, true);
+
+        assertThat(statuses(lines.subList(0, 6)))
+                .containsExactly("DUPLICATE", "DUPLICATE", "DUPLICATE", "CREATED", "DUPLICATE", "DUPLICATE");
+        assertThat(lines.subList(0, 6)).extracting(node -> node.path("message").asText(null))
+                .containsExactly("이미 존재하는 username 입니다.", "이미 존재하는 nickname 입니다.", "이미 존재하는 email 입니다.",
+                        null, "같은 파일 안에서 중복된 username 입니다.", "같은 파일 안에서 중복된 nickname 입니다.");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from `member`", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    void chunk_저장이_실패하면_한_행씩_다시_저장해서_행별_결과를_준다() throws IOException {
+        //중복 확인 직후 다른 요청이 같은 닉네임으로 가입한 경우 (IN 조회에는 없음 -> 제약조건 위반)
+        doReturn(List.of()).when(memberRepository).findExistingNicknames(any());
+        String csv = CSV_HEADER
+                + "bobby01,password1,bobby01,bob@example.com,\n"
+                + "carol01,password1,Alice01,carol@example.com,\n"
+                + "dave001,password1,dave001,dave@example.com,\n";
+
+        List<JsonNode> lines = run(csv, true);
+
+        assertThat(statuses(lines.subList(0, 3))).containsExactly("CREATED", "DUPLICATE", "CREATED");
+        assertThat(lines.get(0).path("id").isNumber()).isTrue();
+        assertThat(lines.get(2).path("id").isNumber()).isTrue();
+        assertThat(jdbcTemplate.queryForList("select username from `member` order by username", String.class))
+                .containsExactly("alice01", "bobby01", "dave001");
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private List<JsonNode> run(String body, boolean csv) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        memberImportService.importMembers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), csv, out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static List<String> statuses(List<JsonNode> lines) {
+        return lines.stream().map(node -> node.get("status").asText()).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.Test;
+import project.pp_backend.dto.MessageDto;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재전송(중복) 메시지 확인용 캐시 - 시간 창 경과 / 크기 제한에 따른 제거
+ * 현재 시각은 테스트에서 직접 움직인다.
+ */
+class MessageDedupCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 시간_창이_지난_항목은_조회되지_않는다() {
+        MessageDedupCache cache = new MessageDedupCache(1_000, 300, now::get);
+        MessageDto.Response response = response(1L);
+        cache.put("alice", "c-1", response);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(299));
+        assertThat(cache.get("alice", "c-1")).isSameAs(response);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(cache.get("alice", "c-1")).isNull();
+    }
+
+    @Test
+    void 시간_창이_지난_항목만_제거하고_유효한_항목은_남긴다() {
+        MessageDedupCache cache = new MessageDedupCache(1_000, 300, now::get);
+        cache.put("alice", "old", response(1L));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(200));
+        cache.put("alice", "recent", response(2L));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(200));
+
+        //old 는 시간 창 경과, recent 는 유효
+        cache.put("alice", "new", response(3L));
+        assertThat(cache.get("alice", "old")).isNull();
+        assertThat(cache.get("alice", "recent").getId()).isEqualTo(2L);
+        assertThat(cache.get("alice", "new").getId()).isEqualTo(3L);
+    }
+
+    @Test
+    void 크기_제한을_넘으면_가장_오래된_항목부터_제거한다() {
+        //구역(stripe) 16개 x 구역당 1개
+        MessageDedupCache cache = new MessageDedupCache(16, 300, now::get);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("alice", "c-" + i, response((long) i));
+        }
+
+        //마지막 항목은 남고, 구역 수(16)를 넘는 항목은 남지 않음
+        assertThat(cache.get("alice", "c-999").getId()).isEqualTo(999L);
+        int remaining = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (cache.get("alice", "c-" + i) != null) {
+                remaining++;
+            }
+        }
+        assertThat(remaining).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    void 보낸_회원이_다르면_같은_클라이언트_메시지_ID_도_구분한다() {
+        MessageDedupCache cache = new MessageDedupCache(1_000, 300, now::get);
+        cache.put("alice", "c-1", response(1L));
+
+        assertThat(cache.get("bob", "c-1")).isNull();
+    }
+
+    private static MessageDto.Response response(Long id) {
+        MessageDto.Response response = new MessageDto.Response();
+        response.setId(id);
+        response.setDuplicate(true);
+        return response;
+    }
+}
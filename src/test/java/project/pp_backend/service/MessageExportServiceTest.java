@@ -0,0 +1,162 @@
+package project.pp_backend.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.pp_backend.config.ExportDataSource;
+import project.pp_backend.exception.DataNotFoundException;
+import project.pp_backend.exception.TooManyRequestsException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대화 기록 내보내기 - Flyway 마이그레이션으로 만든 메모리 DB(H2, MySQL 호환 모드)에서 실제 커서 조회
+ * - H2 는 내보내기 전용 풀 없이 기본 DataSource 사용 (ExportDataSource) -> 테스트 트랜잭션 안에서 저장한 행도 조회
+ * - 출력은 gzip 을 풀어서 줄 단위로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:message_export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "message.export.flush-rows=2",
+        "message.export.max-concurrent=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MessageExportService.class, ExportDataSource.class})
+class MessageExportServiceTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long OTHER_ROOM_ID = 2L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+    private static final LocalDateTime T1 = T0.plusSeconds(1);
+
+    @Autowired
+    private MessageExportService messageExportService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into `member` (id, created_at, updated_at, username, password, nickname, email, member_role) "
+                + "values (1, now(), now(), 'user1', 'password', 'nickname1', 'user1@example.com', 'USER')");
+        jdbcTemplate.update("insert into room (id, created_at, updated_at, name) values (?, now(), now(), 'room1')", ROOM_ID);
+        jdbcTemplate.update("insert into room (id, created_at, updated_at, name) values (?, now(), now(), 'room2')", OTHER_ROOM_ID);
+
+        //같은 시각(T0)에 저장된 메시지 3건 + 다음 시각(T1)에 저장된 메시지 2건 (id 5 는 id 순서와 시각 순서가 다름)
+        insertMessage(10, ROOM_ID, T0, "first");
+        insertMessage(11, ROOM_ID, T0, "he said \"hi\", then\nleft");
+        insertMessage(12, ROOM_ID, T0, "third");
+        insertMessage(5, ROOM_ID, T1, "late id");
+        insertMessage(13, ROOM_ID, T1, "last");
+        insertMessage(20, OTHER_ROOM_ID, T0, "other room");
+    }
+
+    @Test
+    void 오래된_순서로_채팅방_메시지만_출력한다() throws IOException {
+        List<String> lines = export(null, MessageExportService.Format.NDJSON);
+
+        assertThat(lines).hasSize(5);
+        assertThat(lines).extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactly("{\"id\":10", "{\"id\":11", "{\"id\":12", "{\"id\":5", "{\"id\":13");
+    }
+
+    @Test
+    void 같은_시각의_메시지도_빠짐없이_이어받는다() throws IOException {
+        MessageExportService.Position after = messageExportService.findStart(ROOM_ID, 11L);
+
+        List<String> lines = export(after, MessageExportService.Format.CSV);
+
+        //(createdAt, id) 순서에서 11 다음 -> 같은 시각의 12, 이후 시각의 5 / 13
+        assertThat(lines).extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactly("id", "12", "5", "13");
+    }
+
+    @Test
+    void CSV_는_쉼표_따옴표_줄바꿈이_있는_내용을_따옴표로_감싼다() throws IOException {
+        String csv = String.join("\n", export(null, MessageExportService.Format.CSV));
+
+        assertThat(csv).startsWith("id,createdAt,memberId,type,content\n");
+        assertThat(csv).contains("10," + T0 + ",1,CHAT,first\n");
+        assertThat(csv).contains("11," + T0 + ",1,CHAT,\"he said \"\"hi\"\", then\nleft\"\n");
+    }
+
+    @Test
+    void 다른_채팅방의_메시지로는_이어받을_수_없다() {
+        assertThatThrownBy(() -> messageExportService.findStart(ROOM_ID, 20L))
+                .isInstanceOf(DataNotFoundException.class);
+        assertThatThrownBy(() -> messageExportService.findStart(99L, null))
+                .isInstanceOf(DataNotFoundException.class);
+    }
+
+    @Test
+    void 메시지를_엔티티로_읽지_않아_영속성_컨텍스트에_남지_않는다() throws IOException {
+        export(null, MessageExportService.Format.NDJSON);
+
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void 관리자별_1건_노드별_동시_내보내기_수를_넘으면_거절한다() {
+        messageExportService.acquire("admin1");
+        try {
+            //같은 관리자의 두 번째 내보내기
+            assertThatThrownBy(() -> messageExportService.acquire("admin1"))
+                    .isInstanceOf(TooManyRequestsException.class);
+
+            messageExportService.acquire("admin2");
+            try {
+                //노드당 동시 내보내기 수(2) 초과
+                assertThatThrownBy(() -> messageExportService.acquire("admin3"))
+                        .isInstanceOf(TooManyRequestsException.class);
+            } finally {
+                messageExportService.release("admin2");
+            }
+        } finally {
+            messageExportService.release("admin1");
+        }
+        messageExportService.acquire("admin1");
+        messageExportService.release("admin1");
+        messageExportService.acquire("admin3");
+        messageExportService.release("admin3");
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private void insertMessage(long id, long roomId, LocalDateTime createdAt, String content) {
+        jdbcTemplate.update("insert into message (id, created_at, updated_at, content, type, member_id, room_id) "
+                + "values (?, ?, ?, ?, 'CHAT', 1, ?)", id, createdAt, createdAt, content, roomId);
+    }
+
+    //gzip 해제 후 줄 목록 (CSV 내용 안의 줄바꿈도 나뉨)
+    private List<String> export(MessageExportService.Position after, MessageExportService.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        messageExportService.export(ROOM_ID, after, format, out);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.pp_backend.dto.MessageDto;
+import project.pp_backend.entity.Member;
+import project.pp_backend.entity.Message;
+import project.pp_backend.entity.MessageType;
+import project.pp_backend.entity.Room;
+import project.pp_backend.repository.MemberRepository;
+import project.pp_backend.repository.MessageRepository;
+import project.pp_backend.repository.RoomRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메시지 생성 - 재전송(중복) 확인
+ * 저장소 / 트랜잭션 관리자는 대역, 재전송 확인 캐시는 실제 객체
+ */
+class MessageServiceTest {
+
+    private static final String USERNAME = "alice";
+    private static final Long ROOM_ID = 1L;
+
+    private MessageRepository messageRepository;
+    private PlatformTransactionManager transactionManager;
+    private MessageDedupCache messageDedupCache;
+    private MessageService messageService;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(MessageRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(memberRepository.findByUsername(USERNAME)).thenReturn(Optional.of(mock(Member.class)));
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(mock(Room.class)));
+
+        transactionManager = mock(PlatformTransactionManager.class);
+        messageDedupCache = new MessageDedupCache(1_000, 300);
+        messageService = new MessageService(messageRepository, memberRepository, roomRepository,
+                messageDedupCache, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void 캐시에_없는_재전송은_제약조건_위반_후_최초_메시지를_다시_조회해_반환한다() {
+        //다른 노드에서 이미 저장된 메시지 (이 노드의 캐시에는 없음)
+        when(messageRepository.save(any(Message.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_message_member_client_message_id"));
+        Message original = message(10L);
+        when(messageRepository.findByMemberUsernameAndClientMessageId(USERNAME, "c-1")).thenReturn(Optional.of(original));
+
+        MessageDto.Response response = messageService.createMessage(USERNAME, ROOM_ID, request("c-1"));
+
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.isDuplicate()).isTrue();
+        //저장 트랜잭션은 롤백, 다시 조회한 결과는 캐시에 등록
+        verify(transactionManager).rollback(any());
+        assertThat(messageDedupCache.get(USERNAME, "c-1").getId()).isEqualTo(10L);
+
+        //다음 재전송은 DB 조회 없이 캐시에서 응답
+        assertThat(messageService.createMessage(USERNAME, ROOM_ID, request("c-1")).isDuplicate()).isTrue();
+        verify(messageRepository, times(1)).save(any(Message.class));
+        verify(messageRepository, times(1)).findByMemberUsernameAndClientMessageId(USERNAME, "c-1");
+    }
+
+    @Test
+    void 제약조건_위반인데_최초_메시지가_없으면_예외를_그대로_던진다() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("other constraint");
+        when(messageRepository.save(any(Message.class))).thenThrow(violation);
+        when(messageRepository.findByMemberUsernameAndClientMessageId(USERNAME, "c-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> messageService.createMessage(USERNAME, ROOM_ID, request("c-1")))
+                .isSameAs(violation);
+        assertThat(messageDedupCache.get(USERNAME, "c-1")).isNull();
+    }
+
+    @Test
+    void 처음_저장한_메시지는_중복이_아니고_재전송은_캐시에서_중복으로_응답한다() {
+        Message saved = message(20L);
+        when(messageRepository.save(any(Message.class))).thenReturn(saved);
+
+        MessageDto.Response first = messageService.createMessage(USERNAME, ROOM_ID, request("c-2"));
+        MessageDto.Response retry = messageService.createMessage(USERNAME, ROOM_ID, request("c-2"));
+
+        assertThat(first.isDuplicate()).isFalse();
+        assertThat(retry.isDuplicate()).isTrue();
+        assertThat(retry.getId()).isEqualTo(20L);
+        verify(messageRepository, times(1)).save(any(Message.class));
+        verify(messageRepository, never()).findByMemberUsernameAndClientMessageId(any(), any());
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static MessageDto.CreateRequest request(String clientMessageId) {
+        return MessageDto.CreateRequest.builder()
+                .content("hello")
+                .type(MessageType.CHAT)
+                .roomId(ROOM_ID)
+                .clientMessageId(clientMessageId)
+                .build();
+    }
+
+    private static Message message(Long id) {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(100L);
+        Room room = mock(Room.class);
+        when(room.getId()).thenReturn(ROOM_ID);
+        Message message = mock(Message.class);
+        when(message.getId()).thenReturn(id);
+        when(message.getMember()).thenReturn(member);
+        when(message.getRoom()).thenReturn(room);
+        when(message.getType()).thenReturn(MessageType.CHAT);
+        return message;
+    }
+}
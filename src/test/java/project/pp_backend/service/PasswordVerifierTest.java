@@ -0,0 +1,172 @@
+package project.pp_backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import project.pp_backend.config.LatencyMetrics;
+import project.pp_backend.exception.ServiceBusyException;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 검증 전용 스레드 풀 - 검증 스레드 1개로 대기열 상태를 직접 만듦
+ * - 대기열이 가득 차면 바로 ServiceBusyException (503)
+ * - 대기열에서 max-queue-wait 를 넘긴 작업은 검증하지 않고 버림
+ * - verify-timeout 을 넘기면 요청 스레드는 503 으로 돌아가고 검증 작업은 중단(interrupt)
+ * - 대기 시간 / 검증 시간은 Micrometer Timer (login.verify.queue / login.verify.hash) 로도 기록
+ */
+class PasswordVerifierTest {
+
+    private static final Authentication AUTHENTICATION = new UsernamePasswordAuthenticationToken("alice01", null);
+
+    private MeterRegistry registry;
+    private ExecutorService callers;
+    private PasswordVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (verifier != null) {
+            verifier.destroy();
+        }
+    }
+
+    @Test
+    void 검증_시간과_대기_시간을_Micrometer_Timer_로_기록한다() {
+        verifier = verifier(1, 4, 2_000, 5_000);
+
+        assertThat(verifier.verify(() -> AUTHENTICATION)).isSameAs(AUTHENTICATION);
+
+        assertThat(registry.get("login.verify.queue").timer().count()).isEqualTo(1);
+        assertThat(registry.get("login.verify.hash").timer().count()).isEqualTo(1);
+        assertThat(verifier.getQueueWait().getCount()).isEqualTo(1);
+        assertThat(verifier.getHashTime().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_ServiceBusyException() throws Exception {
+        verifier = verifier(1, 1, 5_000, 5_000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        //1. 검증 스레드를 붙잡고, 대기열 1칸을 채움
+        Future<Authentication> first = callers.submit(() -> verifier.verify(() -> {
+            running.countDown();
+            await(release);
+            return AUTHENTICATION;
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Authentication> second = callers.submit(() -> verifier.verify(() -> AUTHENTICATION));
+        waitUntil(() -> verifier.getQueueSize() == 1);
+
+        //2. 다음 요청은 기다리지 않고 거절
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> verifier.verify(() -> AUTHENTICATION))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(verifier.getRejectedCount()).isEqualTo(1);
+
+        //3. 이미 받은 요청은 그대로 처리
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(AUTHENTICATION);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(AUTHENTICATION);
+    }
+
+    @Test
+    void 대기열에서_너무_오래_기다린_작업은_검증하지_않고_버린다() throws Exception {
+        verifier = verifier(1, 4, 50, 5_000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean verified = new AtomicBoolean();
+
+        Future<Authentication> first = callers.submit(() -> verifier.verify(() -> {
+            running.countDown();
+            await(release);
+            return AUTHENTICATION;
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Authentication> second = callers.submit(() -> verifier.verify(() -> {
+            verified.set(true);
+            return AUTHENTICATION;
+        }));
+        waitUntil(() -> verifier.getQueueSize() == 1);
+
+        //max-queue-wait(50ms) 보다 오래 붙잡아 둔 뒤 풀어줌
+        Thread.sleep(150);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(AUTHENTICATION);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceBusyException.class);
+        assertThat(verified).isFalse();
+        assertThat(verifier.getExpiredCount()).isEqualTo(1);
+        assertThat(registry.get("login.verify.queue").timer().max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void 검증이_verify_timeout_을_넘기면_503_으로_돌아가고_작업을_중단한다() throws InterruptedException {
+        verifier = verifier(1, 4, 2_000, 50);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> verifier.verify(() -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return AUTHENTICATION;
+        })).isInstanceOf(ServiceBusyException.class);
+
+        assertThat(verifier.getTimedOutCount()).isEqualTo(1);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private PasswordVerifier verifier(int threads, int queueCapacity, long maxQueueWaitMillis, long verifyTimeoutMillis) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        LatencyMetrics latencyMetrics = new LatencyMetrics(false, beanFactory.getBeanProvider(MeterRegistry.class));
+        return new PasswordVerifier(latencyMetrics, threads, queueCapacity, maxQueueWaitMillis, verifyTimeoutMillis);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
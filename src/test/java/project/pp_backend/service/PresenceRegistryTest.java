@@ -0,0 +1,134 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접속 상태 레지스트리 - 여러 스레드에서 동시에 연결 / 구독 / 해제 / 연결 종료해도 상태가 어긋나지 않는지
+ */
+class PresenceRegistryTest {
+
+    private static final int THREADS = 8;
+    private static final int MEMBERS = 200;
+    private static final int ROOMS = 10;
+
+    @Test
+    void 같은_회원의_여러_세션이_동시에_접속_종료해도_남는_상태가_없다() throws Exception {
+        PresenceRegistry registry = new PresenceRegistry();
+        //접속 상태가 된 / 해제된 횟수 (채팅방 단위) - 최종적으로 같아야 함
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger left = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < MEMBERS; i++) {
+                long memberId = i;
+                String sessionId = "session-" + thread + "-" + i;
+                registry.connect(sessionId, memberId, "member" + memberId);
+                for (long roomId = 1; roomId <= ROOMS; roomId++) {
+                    if (registry.subscribe(sessionId, "sub-" + roomId, roomId)) {
+                        joined.incrementAndGet();
+                    }
+                }
+                //절반은 구독 해제 후 연결 종료, 절반은 바로 연결 종료
+                if (i % 2 == 0 && registry.unsubscribe(sessionId, "sub-1") != null) {
+                    left.incrementAndGet();
+                }
+                PresenceRegistry.DisconnectResult result = registry.disconnect(sessionId);
+                left.addAndGet(result.leftRoomIds().size());
+            }
+        });
+
+        assertThat(joined.get()).isEqualTo(left.get());
+        for (long memberId = 0; memberId < MEMBERS; memberId++) {
+            assertThat(registry.isOnline(memberId)).isFalse();
+        }
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            assertThat(registry.getOnlineMemberIds(roomId)).isEmpty();
+        }
+    }
+
+    @Test
+    void 연결_종료와_동시에_들어온_구독은_남지_않는다() throws Exception {
+        PresenceRegistry registry = new PresenceRegistry();
+        for (int i = 0; i < MEMBERS; i++) {
+            registry.connect("session-" + i, (long) i, "member" + i);
+        }
+
+        //짝수 스레드는 구독, 홀수 스레드는 연결 종료
+        runConcurrently(thread -> {
+            for (int i = 0; i < MEMBERS; i++) {
+                if (thread % 2 == 0) {
+                    registry.subscribe("session-" + i, "sub-" + thread, 1L);
+                } else {
+                    registry.disconnect("session-" + i);
+                }
+            }
+        });
+
+        assertThat(registry.getOnlineMemberIds(1L)).isEmpty();
+        assertThat(registry.getMemberId("session-0")).isNull();
+    }
+
+    @Test
+    void 세션이_남아_있으면_접속_상태를_유지한다() throws Exception {
+        PresenceRegistry registry = new PresenceRegistry();
+
+        //스레드마다 회원별 세션 1개씩 연결 + 구독, 마지막 스레드의 세션만 남김
+        runConcurrently(thread -> {
+            for (int i = 0; i < MEMBERS; i++) {
+                String sessionId = "session-" + thread + "-" + i;
+                registry.connect(sessionId, (long) i, "member" + i);
+                registry.subscribe(sessionId, "sub", 1L);
+                if (thread != THREADS - 1) {
+                    registry.disconnect(sessionId);
+                }
+            }
+        });
+
+        assertThat(registry.getOnlineMemberIds(1L)).hasSize(MEMBERS);
+        for (long memberId = 0; memberId < MEMBERS; memberId++) {
+            assertThat(registry.isOnline(memberId)).isTrue();
+            assertThat(registry.isInRoom(1L, memberId)).isTrue();
+        }
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+
+    //THREADS 개 스레드에서 동시에 시작
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int index = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
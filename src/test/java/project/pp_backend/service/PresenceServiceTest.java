@@ -0,0 +1,158 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import project.pp_backend.dto.PresenceDto;
+import project.pp_backend.exception.UnauthorizedAccessException;
+import project.pp_backend.repository.FriendShipRepository;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 접속 상태(Presence) - 실제 PresenceRegistry + FriendShip / RoomMember 저장소는 대역
+ * 브로커 채널은 전송된 메시지를 모으는 채널로 대체 (변경 사항 합치기 확인)
+ */
+class PresenceServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private PresenceRegistry presenceRegistry;
+    private FriendShipRepository friendShipRepository;
+    private RoomMemberRepository roomMemberRepository;
+    private List<Message<?>> sent;
+    private PresenceService service;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = new PresenceRegistry();
+        friendShipRepository = mock(FriendShipRepository.class);
+        roomMemberRepository = mock(RoomMemberRepository.class);
+        sent = new ArrayList<>();
+        MessageChannel brokerChannel = (message, timeout) -> sent.add(message);
+        service = new PresenceService(presenceRegistry, new SimpMessagingTemplate(brokerChannel),
+                friendShipRepository, roomMemberRepository, 60, 1_000);
+    }
+
+    @Test
+    void 같은_주기_안의_입장과_퇴장은_상쇄되고_채팅방당_1회만_전송한다() {
+        //회원 10: 입장 -> 퇴장 -> 입장 (입장), 회원 20: 입장 -> 연결 종료 (상쇄), 회원 30: 입장
+        presenceRegistry.connect("s10", 10L, "member10");
+        presenceRegistry.connect("s20", 20L, "member20");
+        presenceRegistry.connect("s30", 30L, "member30");
+        service.handleSubscribe(subscribe("s10", "a", ROOM_ID));
+        service.handleUnsubscribe(unsubscribe("s10", "a"));
+        service.handleSubscribe(subscribe("s10", "b", ROOM_ID));
+        service.handleSubscribe(subscribe("s20", "a", ROOM_ID));
+        service.handleDisconnect(disconnect("s20"));
+        service.handleSubscribe(subscribe("s30", "a", ROOM_ID));
+
+        service.flushRoomDiffs();
+
+        assertThat(sent).hasSize(1);
+        assertThat(SimpMessageHeaderAccessor.getDestination(sent.get(0).getHeaders())).isEqualTo("/sub/presence/room/1");
+        PresenceDto.RoomDiff diff = (PresenceDto.RoomDiff) sent.get(0).getPayload();
+        assertThat(diff.getOnline()).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(diff.getOffline()).isEmpty();
+
+        //변경 사항이 없으면 전송하지 않음
+        service.flushRoomDiffs();
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    void 같은_회원의_두번째_세션은_변경으로_전송하지_않는다() {
+        presenceRegistry.connect("s10-a", 10L, "member10");
+        presenceRegistry.connect("s10-b", 10L, "member10");
+        service.handleSubscribe(subscribe("s10-a", "a", ROOM_ID));
+        service.flushRoomDiffs();
+
+        service.handleSubscribe(subscribe("s10-b", "a", ROOM_ID));
+        service.handleDisconnect(disconnect("s10-a"));
+        service.flushRoomDiffs();
+
+        assertThat(sent).hasSize(1);
+        assertThat(presenceRegistry.isInRoom(ROOM_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void 채팅방_접속자_목록은_참가자만_조회한다() {
+        presenceRegistry.connect("s10", 10L, "member10");
+        service.handleSubscribe(subscribe("s10", "a", ROOM_ID));
+        when(roomMemberRepository.existsByRoomIdAndMemberId(ROOM_ID, 20L)).thenReturn(true);
+
+        //구독 중인 회원은 DB 조회 없음
+        assertThat(service.getRoomOnlineMembers(ROOM_ID, 10L).getCount()).isEqualTo(1);
+        verify(roomMemberRepository, never()).existsByRoomIdAndMemberId(ROOM_ID, 10L);
+        //구독 중이 아닌 참가자
+        assertThat(service.getRoomOnlineMembers(ROOM_ID, 20L).getMembers())
+                .extracting(PresenceDto.OnlineMember::getUsername).containsExactly("member10");
+        //참가하지 않은 회원
+        assertThatThrownBy(() -> service.getRoomOnlineMembers(ROOM_ID, 30L))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    void 친구_ID_목록은_보관하고_친구_변경_시_다시_조회한다() {
+        presenceRegistry.connect("s10", 10L, "member10");
+        when(friendShipRepository.findFriendIdsByOwnerUsername("owner")).thenReturn(List.of(10L, 20L), List.of(10L, 20L, 30L));
+
+        assertThat(service.getOnlineFriends("owner")).extracting(PresenceDto.OnlineMember::getMemberId).containsExactly(10L);
+        presenceRegistry.connect("s30", 30L, "member30");
+        assertThat(service.getOnlineFriends("owner")).extracting(PresenceDto.OnlineMember::getMemberId).containsExactly(10L);
+        verify(friendShipRepository, times(1)).findFriendIdsByOwnerUsername("owner");
+
+        service.handleFriendShipChanged(new FriendShipService.FriendShipChangedEvent("owner"));
+
+        assertThat(service.getOnlineFriends("owner")).extracting(PresenceDto.OnlineMember::getMemberId).containsExactly(10L, 30L);
+        verify(friendShipRepository, times(2)).findFriendIdsByOwnerUsername("owner");
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, Long roomId) {
+        SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId);
+        accessor.setDestination("/sub/chat/room/" + roomId);
+        return new SessionSubscribeEvent(this, message(accessor));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        return new SessionUnsubscribeEvent(this, message(accessor(SimpMessageType.UNSUBSCRIBE, sessionId, subscriptionId)));
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.DISCONNECT, sessionId, null);
+        return new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL);
+    }
+
+    private static SimpMessageHeaderAccessor accessor(SimpMessageType type, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(SimpMessageHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
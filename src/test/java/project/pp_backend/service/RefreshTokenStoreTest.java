@@ -0,0 +1,203 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import project.pp_backend.config.EmbeddedRedis;
+import project.pp_backend.service.RefreshTokenStore.RotationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token 저장소 - 내장 Redis 에서 Lua 스크립트를 그대로 실행
+ * - 교체(CAS): 저장된 해시와 같을 때만 교체, 직전 토큰은 유예 시간 동안 ALREADY_ROTATED, 이후 재사용은 REUSED (기기 세션 삭제)
+ * - 동시 교체: 같은 토큰으로 동시에 들어온 요청 중 1건만 ROTATED
+ * - 기기 수 제한: 초과 시 가장 오래 사용하지 않은 기기부터 로그아웃
+ * - 만료 정리: 정리 색인(RT-index) 기준으로 만료된 기기만 삭제 (EVALSHA, 스크립트 캐시가 비면 다시 등록)
+ */
+class RefreshTokenStoreTest {
+
+    private static final long EXPIRATION = TimeUnit.DAYS.toMillis(7);
+    private static final String USERNAME = "alice01";
+    private static final String DEVICE = "device-1";
+
+    private static EmbeddedRedis redis;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = EmbeddedRedis.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+    }
+
+    @Test
+    void 저장된_토큰이면_교체하고_새_토큰으로만_다시_교체할_수_있다() {
+        RefreshTokenStore store = store(5_000);
+        store.save(USERNAME, DEVICE, "rt-1");
+
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-1", "rt-2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-2", "rt-3")).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.rotate(USERNAME, "other-device", "rt-3", "rt-4")).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    void 유예_시간_안의_직전_토큰은_ALREADY_ROTATED_로_세션을_유지한다() {
+        RefreshTokenStore store = store(5_000);
+        store.save(USERNAME, DEVICE, "rt-1");
+        store.rotate(USERNAME, DEVICE, "rt-1", "rt-2");
+
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-1", "rt-other")).isEqualTo(RotationResult.ALREADY_ROTATED);
+        //세션은 그대로 -> 새 토큰으로 교체 가능
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-2", "rt-3")).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    void 유예_시간이_지난_직전_토큰은_REUSED_로_기기_세션을_삭제한다() throws InterruptedException {
+        RefreshTokenStore store = store(50);
+        store.save(USERNAME, DEVICE, "rt-1");
+        store.save(USERNAME, "device-2", "rt-a");
+        store.rotate(USERNAME, DEVICE, "rt-1", "rt-2");
+        Thread.sleep(100);
+
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-1", "rt-other")).isEqualTo(RotationResult.REUSED);
+        //탈취로 간주 -> 해당 기기는 정상 토큰으로도 교체 불가, 다른 기기는 유지
+        assertThat(store.rotate(USERNAME, DEVICE, "rt-2", "rt-3")).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(store.rotate(USERNAME, "device-2", "rt-a", "rt-b")).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    void 알_수_없는_토큰은_REUSED_로_처리한다() {
+        RefreshTokenStore store = store(5_000);
+        store.save(USERNAME, DEVICE, "rt-1");
+
+        assertThat(store.rotate(USERNAME, DEVICE, "forged", "rt-2")).isEqualTo(RotationResult.REUSED);
+        assertThat(redis.template().opsForHash().hasKey("RT:" + USERNAME, DEVICE)).isFalse();
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_교체하면_1건만_ROTATED_이고_나머지는_ALREADY_ROTATED() throws Exception {
+        RefreshTokenStore store = store(5_000);
+        store.save(USERNAME, DEVICE, "rt-1");
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RotationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String newToken = "rt-2-" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return store.rotate(USERNAME, DEVICE, "rt-1", newToken);
+                }));
+            }
+            start.countDown();
+
+            List<RotationResult> results = new ArrayList<>();
+            for (Future<RotationResult> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(results).filteredOn(result -> result == RotationResult.ROTATED).hasSize(1);
+            assertThat(results).filteredOn(result -> result == RotationResult.ALREADY_ROTATED).hasSize(threads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    void 기기_수를_넘으면_가장_오래_사용하지_않은_기기부터_로그아웃한다() throws InterruptedException {
+        RefreshTokenStore store = store(EXPIRATION, 5_000, 3);
+        assertThat(store.save(USERNAME, "device-1", "rt-1")).isZero();
+        Thread.sleep(5);
+        assertThat(store.save(USERNAME, "device-2", "rt-2")).isZero();
+        Thread.sleep(5);
+        assertThat(store.save(USERNAME, "device-3", "rt-3")).isZero();
+        Thread.sleep(5);
+        //device-1 을 최근에 사용 -> 가장 오래 사용하지 않은 기기는 device-2
+        store.rotate(USERNAME, "device-1", "rt-1", "rt-1b");
+        Thread.sleep(5);
+
+        assertThat(store.save(USERNAME, "device-4", "rt-4")).isEqualTo(1);
+        assertThat(devices()).containsExactlyInAnyOrder("device-1", "device-3", "device-4");
+
+        //같은 기기로 다시 로그인하면 기기 수는 그대로
+        assertThat(store.save(USERNAME, "device-4", "rt-4b")).isZero();
+        assertThat(devices()).hasSize(3);
+    }
+
+    @Test
+    void 정리_주기마다_만료된_기기만_삭제하고_색인을_갱신한다() throws InterruptedException {
+        RefreshTokenStore shortLived = store(100, 5_000, 5);
+        RefreshTokenStore longLived = store(EXPIRATION, 5_000, 5);
+        shortLived.save(USERNAME, "device-1", "rt-1");
+        longLived.save(USERNAME, "device-2", "rt-2");
+        shortLived.save("bobby01", "device-1", "rt-b");
+        Thread.sleep(150);
+
+        longLived.sweepExpiredSessions();
+
+        //alice01: 만료된 device-1 만 삭제, 색인은 남은 기기의 만료 시각으로
+        assertThat(devices()).containsExactly("device-2");
+        Double score = redis.template().opsForZSet().score("RT-index", USERNAME);
+        assertThat(score).isNotNull();
+        assertThat(score.longValue()).isGreaterThan(System.currentTimeMillis());
+        //bobby01: 남은 기기 없음 -> Hash / 색인 모두 삭제
+        assertThat(redis.template().hasKey("RT:bobby01")).isFalse();
+        assertThat(redis.template().opsForZSet().score("RT-index", "bobby01")).isNull();
+    }
+
+    @Test
+    void 스크립트_캐시가_비어도_다시_등록하고_정리한다() throws InterruptedException {
+        RefreshTokenStore store = store(100, 5_000, 5);
+        store.save(USERNAME, "device-1", "rt-1");
+        Thread.sleep(150);
+        store.sweepExpiredSessions();
+        assertThat(redis.template().hasKey("RT:" + USERNAME)).isFalse();
+
+        //Redis 재시작과 같은 상황 (등록된 스크립트 삭제)
+        store.save(USERNAME, "device-1", "rt-2");
+        redis.template().execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        Thread.sleep(150);
+
+        store.sweepExpiredSessions();
+        assertThat(redis.template().hasKey("RT:" + USERNAME)).isFalse();
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private static RefreshTokenStore store(long graceMillis) {
+        return store(EXPIRATION, graceMillis, 5);
+    }
+
+    private static RefreshTokenStore store(long expiration, long graceMillis, int maxDevices) {
+        return new RefreshTokenStore(redis.template(), expiration, graceMillis, maxDevices, 500);
+    }
+
+    private static Set<Object> devices() {
+        return redis.template().opsForHash().keys("RT:" + USERNAME);
+    }
+}
@@ -0,0 +1,119 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Access Token 폐기 확인 - Redis / Pub/Sub 구독은 대역
+ * - 구독이 끊긴 동안(synced=false)에도 Bloom Filter 에 없는 토큰은 Redis 조회 없이 통과
+ * - Redis 장애 시 Bloom Filter 에 걸린 토큰만 폐기로 처리
+ */
+class TokenRevocationServiceTest {
+
+    private static final String REVOKED = "revoked-token";
+    private static final String ACTIVE = "active-token";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private SubscriptionListener subscriptionListener;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        //폐기 색인: 첫 페이지에 REVOKED 1건
+        when(zSetOperations.rangeByScore(eq("RV-index"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of(REVOKED), Set.of());
+        when(redisTemplate.hasKey(anyString()))
+                .thenAnswer(invocation -> ("RV:" + REVOKED).equals(invocation.getArgument(0)));
+
+        RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+        service = new TokenRevocationService(redisTemplate, listenerContainer, 1_000, 0.001);
+        service.subscribe();
+
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        subscriptionListener = (SubscriptionListener) listener.getValue();
+    }
+
+    @Test
+    void 폐기_색인으로_채운_뒤_폐기된_토큰만_Redis_로_확인한다() {
+        assertThat(service.getStats().isSynced()).isTrue();
+
+        assertThat(service.isRevoked(REVOKED)).isTrue();
+        assertThat(service.isRevoked(ACTIVE)).isFalse();
+        verify(redisTemplate).hasKey("RV:" + REVOKED);
+        verify(redisTemplate, never()).hasKey("RV:" + ACTIVE);
+    }
+
+    @Test
+    void 구독이_끊겨도_Bloom_Filter_로_판단하고_Redis_를_조회하지_않는다() {
+        subscriptionListener.onChannelUnsubscribed(bytes("token:revoke"), 0);
+
+        assertThat(service.isRevoked(ACTIVE)).isFalse();
+        assertThat(service.isRevoked(REVOKED)).isTrue();
+        verify(redisTemplate, never()).hasKey("RV:" + ACTIVE);
+
+        assertThat(service.getStats().isSynced()).isFalse();
+        assertThat(service.getStats().getUnsyncedCheckCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 구독이_끊긴_동안_주기적으로_폐기_색인을_다시_채운다() {
+        subscriptionListener.onChannelUnsubscribed(bytes("token:revoke"), 0);
+        //끊긴 동안 다른 노드에서 폐기된 토큰
+        when(zSetOperations.rangeByScore(eq("RV-index"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of(REVOKED, "missed-token"), Set.of());
+        when(redisTemplate.hasKey("RV:missed-token")).thenReturn(true);
+        assertThat(service.isRevoked("missed-token")).isFalse();
+
+        service.retryUnsynced();
+
+        assertThat(service.getStats().isSynced()).isTrue();
+        assertThat(service.isRevoked("missed-token")).isTrue();
+    }
+
+    @Test
+    void Redis_장애_시_Bloom_Filter_에_걸린_토큰만_폐기로_처리한다() {
+        subscriptionListener.onChannelUnsubscribed(bytes("token:revoke"), 0);
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(zSetOperations.rangeByScore(eq("RV-index"), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        service.retryUnsynced();
+
+        assertThat(service.isRevoked(REVOKED)).isTrue();
+        assertThat(service.isRevoked(ACTIVE)).isFalse();
+        assertThat(service.getStats().isSynced()).isFalse();
+        assertThat(service.getStats().getRedisErrorCount()).isEqualTo(1);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+package project.pp_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import project.pp_backend.dto.SignalDto;
+import project.pp_backend.repository.RoomMemberRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입력 중(typing) 신호 - 구독 상태(PresenceRegistry) + 참가 기록(RoomMemberRepository 대역)
+ * 브로커 채널은 전송 건수만 세는 채널로 대체하고, 직렬화(Jackson)는 실제 컨버터를 사용한다.
+ * 처리량은 TypingSignalBenchmark (JMH) 로 측정
+ */
+class TypingSignalServiceTest {
+
+    private static final int ROOM_COUNT = 100;
+    private static final int MEMBERS_PER_ROOM = 200;
+
+    private PresenceRegistry presenceRegistry;
+    private RoomMemberRepository roomMemberRepository;
+    private Set<String> roomMembers;
+    private LongAdder sentFrames;
+    private SimpMessagingTemplate messagingTemplate;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = new PresenceRegistry();
+        sentFrames = new LongAdder();
+        roomMembers = new HashSet<>();
+        roomMemberRepository = mock(RoomMemberRepository.class);
+        when(roomMemberRepository.existsByRoomIdAndMemberId(anyLong(), anyLong()))
+                .thenAnswer(invocation -> roomMembers.contains(invocation.getArgument(0) + ":" + invocation.getArgument(1)));
+
+        MessageChannel brokerChannel = (message, timeout) -> {
+            sentFrames.increment();
+            return true;
+        };
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        //채팅방 100개 x 회원 200명 구독
+        for (long roomId = 1; roomId <= ROOM_COUNT; roomId++) {
+            for (long i = 0; i < MEMBERS_PER_ROOM; i++) {
+                long memberId = roomId * 1_000 + i;
+                String sessionId = "session-" + memberId;
+                presenceRegistry.connect(sessionId, memberId, "member" + memberId);
+                presenceRegistry.subscribe(sessionId, "sub-" + roomId, roomId);
+                roomMembers.add(roomId + ":" + memberId);
+            }
+        }
+    }
+
+    @Test
+    void 참가하지_않은_채팅방의_신호는_전달하지_않는다() {
+        TypingSignalService service = service(300);
+
+        boolean published = service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(2L, true));
+
+        assertThat(published).isFalse();
+        assertThat(sentFrames.sum()).isZero();
+    }
+
+    @Test
+    void 같은_상태의_반복_신호는_빈도_제한된다() {
+        TypingSignalService service = service(60_000);
+
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, true))).isTrue();
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, true))).isFalse();
+        //상태가 바뀐 신호(입력 종료)는 바로 전달
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, false))).isTrue();
+
+        assertThat(sentFrames.sum()).isEqualTo(2);
+    }
+
+    @Test
+    void 구독_중이어도_참가_기록이_없으면_전달하지_않는다() {
+        TypingSignalService service = service(0);
+        roomMembers.remove("1:1000");
+
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, true))).isFalse();
+        assertThat(sentFrames.sum()).isZero();
+    }
+
+    @Test
+    void 참가_확인_결과는_퇴장할_때까지_보관한다() {
+        TypingSignalService service = service(0);
+
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, true))).isTrue();
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, false))).isTrue();
+        verify(roomMemberRepository, times(1)).existsByRoomIdAndMemberId(1L, 1_000L);
+
+        //퇴장 -> 보관한 결과 제거 후 다시 확인
+        roomMembers.remove("1:1000");
+        service.handleMemberLeft(new RoomMembershipService.MemberLeftEvent(1L, 1_000L));
+
+        assertThat(service.publishTyping(1_000L, "member1000", new SignalDto.TypingRequest(1L, true))).isFalse();
+        verify(roomMemberRepository, times(2)).existsByRoomIdAndMemberId(1L, 1_000L);
+        assertThat(sentFrames.sum()).isEqualTo(2);
+    }
+
+
+    //*********** Helper 메서드 **************
+
+    private TypingSignalService service(long throttleIntervalMillis) {
+        return new TypingSignalService(presenceRegistry, roomMemberRepository, messagingTemplate,
+                throttleIntervalMillis, 60, 10_000);
+    }
+}